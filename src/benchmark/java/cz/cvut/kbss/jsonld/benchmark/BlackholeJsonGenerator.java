@@ -0,0 +1,80 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.benchmark;
+
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JSON generator which passes everything it is supposed to write to a JMH {@link Blackhole}.
+ * <p>
+ * Allows benchmarking serialization without the cost of actual output formatting.
+ */
+public class BlackholeJsonGenerator implements JsonGenerator {
+
+    private final Blackhole blackhole;
+
+    public BlackholeJsonGenerator(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void writeFieldName(String name) {
+        blackhole.consume(name);
+    }
+
+    @Override
+    public void writeObjectStart() {
+        blackhole.consume('{');
+    }
+
+    @Override
+    public void writeObjectEnd() {
+        blackhole.consume('}');
+    }
+
+    @Override
+    public void writeArrayStart() {
+        blackhole.consume('[');
+    }
+
+    @Override
+    public void writeArrayEnd() {
+        blackhole.consume(']');
+    }
+
+    @Override
+    public void writeNumber(Number number) {
+        blackhole.consume(number);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        blackhole.consume(value);
+    }
+
+    @Override
+    public void writeNull() {
+        blackhole.consume(null);
+    }
+
+    @Override
+    public void writeString(String text) {
+        blackhole.consume(text);
+    }
+}
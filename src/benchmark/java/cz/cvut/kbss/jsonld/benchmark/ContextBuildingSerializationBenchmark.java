@@ -0,0 +1,75 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.benchmark;
+
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import cz.cvut.kbss.jsonld.serialization.JsonLdSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures context-building serialization of an object graph with many objects sharing the same term mapping.
+ * <p>
+ * Run with {@code -prof gc} (e.g., {@code mvn -P benchmark test-compile exec:exec -Dbenchmark="ContextBuilding.* -prof gc"})
+ * to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextBuildingSerializationBenchmark {
+
+    @Param({"1000"})
+    private int employeeCount;
+
+    private Organization organization;
+
+    @Setup
+    public void setUp() {
+        this.organization = Generator.generateOrganization();
+        organization.setEmployees(new HashSet<>());
+        for (int i = 0; i < employeeCount; i++) {
+            final Employee employee = Generator.generateEmployee();
+            employee.setEmployer(organization);
+            organization.addEmployee(employee);
+        }
+    }
+
+    @Benchmark
+    public void serializeObjectGraph(Blackhole blackhole) {
+        JsonLdSerializer.createContextBuildingJsonLdSerializer(new BlackholeJsonGenerator(blackhole))
+                        .serialize(organization);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.benchmark;
+
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Adapter of a Jackson {@link com.fasterxml.jackson.core.JsonGenerator}, representing the kind of generator users
+ * typically write to integrate the library.
+ */
+public class JacksonJsonGenerator implements JsonGenerator {
+
+    private final com.fasterxml.jackson.core.JsonGenerator generator;
+
+    public JacksonJsonGenerator(com.fasterxml.jackson.core.JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        generator.writeFieldName(name);
+    }
+
+    @Override
+    public void writeObjectStart() throws IOException {
+        generator.writeStartObject();
+    }
+
+    @Override
+    public void writeObjectEnd() throws IOException {
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeArrayStart() throws IOException {
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void writeArrayEnd() throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void writeNumber(Number number) throws IOException {
+        generator.writeNumber(number.toString());
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        generator.writeBoolean(value);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        generator.writeNull();
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        generator.writeString(text);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import cz.cvut.kbss.jsonld.serialization.JsonLdSerializerEngine;
+import cz.cvut.kbss.jsonld.serialization.Utf8JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Utf8JsonGenerator} with an adapter of a Jackson generator, both writing UTF-8 bytes of a compacted
+ * JSON-LD serialization into a discarding output stream.
+ * <p>
+ * Run using {@code mvn -P benchmark test-compile exec:exec -Dbenchmark="JsonGenerator.* -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonGeneratorBenchmark {
+
+    @Param({"1000"})
+    private int employeeCount;
+
+    // The same output stream is reused by all invocations, so Jackson must not close it
+    private final JsonFactory jsonFactory =
+            JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    private final OutputStream output = OutputStream.nullOutputStream();
+
+    private JsonLdSerializerEngine engine;
+
+    private Organization organization;
+
+    @Setup
+    public void setUp() {
+        this.engine = JsonLdSerializerEngine.compacted().build();
+        this.organization = Generator.generateOrganization();
+        organization.setEmployees(new HashSet<>());
+        for (int i = 0; i < employeeCount; i++) {
+            final Employee employee = Generator.generateEmployee();
+            employee.setEmployer(organization);
+            organization.addEmployee(employee);
+        }
+    }
+
+    @Benchmark
+    public void utf8JsonGenerator() throws IOException {
+        serialize(new Utf8JsonGenerator(output));
+    }
+
+    @Benchmark
+    public void jacksonJsonGenerator() throws IOException {
+        try (com.fasterxml.jackson.core.JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            serialize(new JacksonJsonGenerator(generator));
+        }
+    }
+
+    private void serialize(JsonGenerator generator) throws IOException {
+        engine.writer(generator).serialize(organization);
+        generator.flush();
+    }
+
+    /*
+     * Serialization benchmarks above are dominated by object graph traversal, the following ones measure only the
+     * cost of the generators writing a token sequence typical for JSON-LD.
+     */
+
+    @Benchmark
+    public void utf8JsonGeneratorTokens() throws IOException {
+        writeTokens(new Utf8JsonGenerator(output));
+    }
+
+    @Benchmark
+    public void jacksonJsonGeneratorTokens() throws IOException {
+        try (com.fasterxml.jackson.core.JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            writeTokens(new JacksonJsonGenerator(generator));
+        }
+    }
+
+    private void writeTokens(JsonGenerator generator) throws IOException {
+        generator.writeArrayStart();
+        for (int i = 0; i < employeeCount; i++) {
+            generator.writeObjectStart();
+            generator.writeFieldName("@id");
+            generator.writeString("http://krizik.felk.cvut.cz/ontologies/jb4jsonld/Employee" + i);
+            generator.writeFieldName("http://krizik.felk.cvut.cz/ontologies/jb4jsonld/firstName");
+            generator.writeString("Zdeněk \"Jára\" Cimrman");
+            generator.writeFieldName("http://krizik.felk.cvut.cz/ontologies/jb4jsonld/age");
+            generator.writeNumber(i);
+            generator.writeFieldName("http://krizik.felk.cvut.cz/ontologies/jb4jsonld/salary");
+            generator.writeNumber(1000.5 * i);
+            generator.writeFieldName("http://krizik.felk.cvut.cz/ontologies/jb4jsonld/isAdmin");
+            generator.writeBoolean(i % 2 == 0);
+            generator.writeObjectEnd();
+        }
+        generator.writeArrayEnd();
+        generator.flush();
+    }
+}
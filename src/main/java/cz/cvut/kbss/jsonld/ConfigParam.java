@@ -138,7 +138,136 @@ public enum ConfigParam {
 	 * When a JSON-LD is used with @list in it, it refers to objects later in the same JSON-LD.
 	 * In this case, the unresolved references can only be checked after deserializing all entries.
 	 */
-	POSTPONE_UNRESOLVED_REFERENCES_CHECK("postponeUnresolvedReferencesCheck");
+	POSTPONE_UNRESOLVED_REFERENCES_CHECK("postponeUnresolvedReferencesCheck"),
+
+    /**
+     * Whether to write instances of simple mapped classes directly, bypassing object graph traversal and JSON-LD tree
+     * building.
+     * <p>
+     * Applies only to compacted serialization of classes without a
+     * {@link cz.cvut.kbss.jopa.model.annotations.Properties} field and for which no custom serializer is registered.
+     * Values of object properties are still serialized by object graph traversal. Other instances are serialized the
+     * regular way.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @see cz.cvut.kbss.jsonld.serialization.direct.DirectObjectWriter
+     */
+    ENABLE_DIRECT_SERIALIZATION("enableDirectSerialization"),
+
+    /**
+     * Whether compacted serialization should write the output as the object graph is traversed instead of building a
+     * JSON-LD tree first.
+     * <p>
+     * Streaming keeps memory consumption independent of the size of the output. However, if serialization fails, part
+     * of the output may have already been written.
+     * <p>
+     * When a JSON-LD context is generated, term mappings are collected in a separate pass over the object graph before
+     * the output is written. Object graphs requiring embedded contexts are serialized the regular way.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @see cz.cvut.kbss.jsonld.serialization.StreamingJsonLdWriter
+     */
+    ENABLE_STREAMING_SERIALIZATION("enableStreamingSerialization"),
+
+    /**
+     * Whether to discover deserialization target types from mappings generated at compile time instead of scanning the
+     * classpath.
+     * <p>
+     * If enabled, only classes processed by {@link cz.cvut.kbss.jsonld.processor.JsonLdMappingProcessor} (and located
+     * in {@link #SCAN_PACKAGE}, if it is specified) are available as deserialization targets.
+     * <p>
+     * This only replaces classpath scanning. Generated mappings are used for field access and instantiation regardless
+     * of this parameter, while class metadata (attribute IRIs, identifier, types and properties fields) are still
+     * resolved from annotations via reflection, once per class.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @see cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry
+     */
+    ENABLE_GENERATED_TYPE_INDEX("enableGeneratedTypeIndex"),
+
+    /**
+     * Whether context-building serialization should put all term definitions into a single root JSON-LD context.
+     * <p>
+     * Normally, when an attribute maps the same term to a different IRI than an attribute already registered in the
+     * context, an embedded context overriding the term is added to the affected object. In this mode, the conflicting
+     * term is instead registered in the root context under a generated unique term (e.g., {@code name1}), which is then
+     * used as the attribute name.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    HOIST_CONTEXT_TERMS("hoistContextTerms"),
+
+    /**
+     * Whether context-building serialization should compact IRIs using namespace prefixes.
+     * <p>
+     * Prefixes declared via {@link cz.cvut.kbss.jopa.model.annotations.Namespace} and
+     * {@link cz.cvut.kbss.jopa.model.annotations.Namespaces} on the serialized classes (or their packages) are added
+     * to the generated context and used to compact IRIs in term definitions, types and individuals.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    COMPACT_IRIS("compactIris"),
+
+    /**
+     * Vocabulary IRI ({@literal @vocab}) to add to the context generated by context-building serialization.
+     * <p>
+     * Type IRIs from this vocabulary are then written relative to it. Not set by default.
+     */
+    VOCAB("vocab"),
+
+    /**
+     * Whether elements of a large root collection should be serialized in parallel.
+     * <p>
+     * The collection is split into chunks serialized concurrently by separate traversers. The serialized nodes match
+     * those of sequential serialization, including element order and serialization of instances shared by several
+     * elements, but generated blank node identifiers may differ. Applies to tree-based serialization by compacted and
+     * context-building serializers. The context generated by context-building serialization may contain additional
+     * term definitions of nested objects which are eventually written as references. Context-building serialization
+     * falls back to sequential processing when the chunks map a term inconsistently (including such unused terms),
+     * and it does not use parallel processing together with {@link #HOIST_CONTEXT_TERMS}, {@link #COMPACT_IRIS} or
+     * {@link #VOCAB}.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @see #PARALLEL_SERIALIZATION_EXECUTOR
+     */
+    ENABLE_PARALLEL_SERIALIZATION("enableParallelSerialization"),
+
+    /**
+     * {@link java.util.concurrent.Executor} used by parallel serialization (see
+     * {@link #ENABLE_PARALLEL_SERIALIZATION}).
+     * <p>
+     * Defaults to the common fork-join pool.
+     */
+    PARALLEL_SERIALIZATION_EXECUTOR("parallelSerializationExecutor"),
+
+    /**
+     * Strategy generating blank node identifiers for instances without identifier, both in serialization and
+     * deserialization.
+     * <p>
+     * Either a {@link cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator} shared by all serializations/deserializations
+     * (and thus required to be thread-safe) or a {@link java.util.function.Supplier} of generators called for each of
+     * them.
+     * <p>
+     * Defaults to a per-session counter generating identifiers with a random session prefix, so that they do not clash
+     * with blank node labels in the processed document. As a consequence, the output is not the same across
+     * serializations of identifier-less instances. Use a supplier of
+     * {@link cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator#counter(String)} with a prefix not used in the processed
+     * documents if deterministic identifiers are required.
+     */
+    BLANK_NODE_ID_GENERATOR("blankNodeIdGenerator"),
+
+    /**
+     * URL of a published JSON-LD context referenced by the root of documents produced by the context-building
+     * serializer instead of the generated root context.
+     * <p>
+     * The referenced context must define all the terms the generated root context would. Embedded contexts of nested
+     * objects are still written inline.
+     */
+    CONTEXT_URL("contextUrl");
 
     private final String name;
 
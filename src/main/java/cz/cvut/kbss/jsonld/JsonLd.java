@@ -67,6 +67,11 @@ public class JsonLd {
      */
     public static final String GRAPH = "@graph";
 
+    /**
+     * JSON-LD {@code @vocab} keyword.
+     */
+    public static final String VOCAB = "@vocab";
+
     /**
      * JSON-LD media type.
      */
@@ -36,16 +36,16 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utilities for mapping-related tasks.
@@ -53,10 +53,25 @@ import java.util.stream.Collectors;
 public class BeanAnnotationProcessor {
 
     private static final String[] EMPTY_ARRAY = new String[0];
-    private static final BiPredicate<Field, Class<?>> ALWAYS_TRUE = (f, cls) -> true;
 
     private static PropertyAccessResolver propertyAccessResolver = new JsonLdPropertyAccessResolver();
 
+    private static final ClassValue<Map<String, String>> NAMESPACES = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return resolveNamespaces(type);
+        }
+    };
+
+    private static final ClassValue<Map<String, String>> EXPANDED_IRIS = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static volatile ClassValue<ClassMetadata> classMetadata = createClassMetadataCache(propertyAccessResolver);
+
     private BeanAnnotationProcessor() {
         throw new AssertionError();
     }
@@ -68,6 +83,30 @@ public class BeanAnnotationProcessor {
      */
     public static void setPropertyAccessResolver(PropertyAccessResolver resolver) {
         propertyAccessResolver = Objects.requireNonNull(resolver);
+        // Serializable fields depend on the resolver, so the metadata have to be resolved again
+        classMetadata = createClassMetadataCache(resolver);
+    }
+
+    private static ClassValue<ClassMetadata> createClassMetadataCache(PropertyAccessResolver resolver) {
+        return new ClassValue<>() {
+            @Override
+            protected ClassMetadata computeValue(Class<?> type) {
+                return new ClassMetadata(type, resolver);
+            }
+        };
+    }
+
+    /**
+     * Gets mapping metadata of the specified class.
+     * <p>
+     * The metadata are resolved on first access and cached for subsequent calls.
+     *
+     * @param cls Class whose metadata to retrieve
+     * @return Class metadata
+     */
+    public static ClassMetadata getClassMetadata(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        return classMetadata.get(cls);
     }
 
     /**
@@ -182,7 +221,10 @@ public class BeanAnnotationProcessor {
      */
     public static String expandIriIfNecessary(String iri, Class<?> declaringClass) {
         Objects.requireNonNull(declaringClass);
-        return IdentifierUtil.isCompactIri(iri) ? expandIri(iri, declaringClass).orElse(iri) : iri;
+        if (!IdentifierUtil.isCompactIri(iri)) {
+            return iri;
+        }
+        return EXPANDED_IRIS.get(declaringClass).computeIfAbsent(iri, i -> expandIri(i, declaringClass).orElse(i));
     }
 
     /**
@@ -203,36 +245,55 @@ public class BeanAnnotationProcessor {
         assert IdentifierUtil.isCompactIri(iri);
 
         final int colonIndex = iri.indexOf(':');
-        final String prefix = iri.substring(0, colonIndex);
-        final String suffix = iri.substring(colonIndex + 1);
-        Optional<String> ns = resolveNamespace(declaringClass, prefix);
-        if (ns.isPresent()) {
-            return ns.map(v -> v + suffix);
+        final String ns = NAMESPACES.get(declaringClass).get(iri.substring(0, colonIndex));
+        return ns != null ? Optional.of(ns + iri.substring(colonIndex + 1)) : Optional.empty();
+    }
+
+    /**
+     * Gets namespaces available in the specified class, i.e., namespaces declared on the class, its package and its
+     * ancestors (and their packages).
+     *
+     * @param cls Class whose namespaces to get
+     * @return Unmodifiable map of prefixes to namespaces, possibly empty
+     * @see Namespaces
+     * @see Namespace
+     */
+    public static Map<String, String> getNamespaces(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        return Collections.unmodifiableMap(NAMESPACES.get(cls));
+    }
+
+    /**
+     * Resolves namespaces available in the specified class, i.e., namespaces declared on the class, its package and its
+     * ancestors (and their packages).
+     * <p>
+     * Declarations on the class take precedence over declarations on its package, which in turn take precedence over
+     * declarations inherited from the superclass.
+     */
+    private static Map<String, String> resolveNamespaces(Class<?> cls) {
+        final Map<String, String> result = new HashMap<>();
+        if (cls.getSuperclass() != null) {
+            result.putAll(NAMESPACES.get(cls.getSuperclass()));
         }
-        if (declaringClass.getPackage() != null) {
-            ns = resolveNamespace(declaringClass.getPackage(), prefix);
-            if (ns.isPresent()) {
-                return ns.map(v -> v + suffix);
-            }
+        if (cls.getPackage() != null) {
+            result.putAll(declaredNamespaces(cls.getPackage()));
         }
-        return declaringClass.getSuperclass() != null ? expandIri(iri, declaringClass.getSuperclass()) :
-               Optional.empty();
+        result.putAll(declaredNamespaces(cls));
+        return result.isEmpty() ? Collections.emptyMap() : result;
     }
 
-    private static Optional<String> resolveNamespace(AnnotatedElement annotated, String prefix) {
-        Namespace ns = annotated.getDeclaredAnnotation(Namespace.class);
-        if (ns != null && ns.prefix().equals(prefix)) {
-            return Optional.of(ns.namespace());
-        }
-        Namespaces namespaces = annotated.getDeclaredAnnotation(Namespaces.class);
+    private static Map<String, String> declaredNamespaces(AnnotatedElement annotated) {
+        final Map<String, String> result = new HashMap<>();
+        final Namespaces namespaces = annotated.getDeclaredAnnotation(Namespaces.class);
         if (namespaces != null) {
-            final Optional<Namespace> namespace =
-                    Arrays.stream(namespaces.value()).filter(n -> n.prefix().equals(prefix)).findAny();
-            if (namespace.isPresent()) {
-                return namespace.map(Namespace::namespace);
-            }
+            Arrays.stream(namespaces.value()).forEach(n -> result.putIfAbsent(n.prefix(), n.namespace()));
         }
-        return Optional.empty();
+        // Single namespace declaration takes precedence
+        final Namespace ns = annotated.getDeclaredAnnotation(Namespace.class);
+        if (ns != null) {
+            result.put(ns.prefix(), ns.namespace());
+        }
+        return result;
     }
 
     /**
@@ -310,16 +371,15 @@ public class BeanAnnotationProcessor {
      */
     public static List<Field> getSerializableFields(Object object) {
         Objects.requireNonNull(object);
-        final Class<?> cls = object.getClass();
-        return getMarshallableFields(cls, propertyAccessResolver::isReadable);
+        return getClassMetadata(object.getClass()).getSerializableFields();
     }
 
-    private static List<Field> getMarshallableFields(Class<?> cls, BiPredicate<Field, Class<?>> filter) {
+    static List<Field> resolveMarshallableFields(Class<?> cls) {
         final List<Class<?>> classes = getAncestors(cls);
         final Set<Field> fields = new HashSet<>();
         for (Class<?> c : classes) {
             for (Field f : c.getDeclaredFields()) {
-                if (!isFieldTransient(f) && filter.test(f, cls)) {
+                if (!isFieldTransient(f)) {
                     fields.add(f);
                 }
             }
@@ -342,11 +402,10 @@ public class BeanAnnotationProcessor {
      * </ul>
      *
      * @param cls Class to check
-     * @return List of marshallable fields
+     * @return Unmodifiable list of marshallable fields
      */
     public static List<Field> getMarshallableFields(Class<?> cls) {
-        Objects.requireNonNull(cls);
-        return getMarshallableFields(cls, ALWAYS_TRUE);
+        return getClassMetadata(cls).getMarshallableFields();
     }
 
     /**
@@ -356,13 +415,10 @@ public class BeanAnnotationProcessor {
      * also scanned.
      *
      * @param cls Class for which the mapping should be determined
-     * @return Mapping of OWL properties to fields
+     * @return Unmodifiable mapping of OWL properties to fields
      */
     public static Map<String, Field> mapFieldsForDeserialization(Class<?> cls) {
-        Objects.requireNonNull(cls);
-        final List<Field> fields = getMarshallableFields(cls);
-        return fields.stream().filter(f -> !isPropertiesField(f)).collect(Collectors.toMap(
-                BeanAnnotationProcessor::getAttributeIdentifier, Function.identity()));
+        return getClassMetadata(cls).getDeserializationFields();
     }
 
     private static boolean isFieldTransient(Field field) {
@@ -392,11 +448,7 @@ public class BeanAnnotationProcessor {
      * @return Whether the class has properties field
      */
     public static boolean hasPropertiesField(Class<?> cls) {
-        Objects.requireNonNull(cls);
-        final List<Field> fields = getMarshallableFields(cls);
-        final Optional<Field> propertiesField = fields.stream().filter(BeanAnnotationProcessor::isPropertiesField)
-                                                      .findAny();
-        return propertiesField.isPresent();
+        return getClassMetadata(cls).hasPropertiesField();
     }
 
     /**
@@ -407,9 +459,8 @@ public class BeanAnnotationProcessor {
      * @throws IllegalArgumentException When the specified class does not have a {@link Properties} field
      */
     public static Field getPropertiesField(Class<?> cls) {
-        final List<Field> fields = getMarshallableFields(cls);
-        final Optional<Field> propsField = fields.stream().filter(BeanAnnotationProcessor::isPropertiesField).findAny();
-        return propsField.orElseThrow(() -> new IllegalArgumentException(cls + " does not have a @Properties field."));
+        return getClassMetadata(cls).getPropertiesField().orElseThrow(
+                () -> new IllegalArgumentException(cls + " does not have a @Properties field."));
     }
 
     /**
@@ -421,8 +472,7 @@ public class BeanAnnotationProcessor {
      * @return Types field
      */
     public static Optional<Field> getTypesField(Class<?> cls) {
-        final List<Field> fields = getMarshallableFields(cls);
-        return fields.stream().filter(BeanAnnotationProcessor::isTypesField).findFirst();
+        return getClassMetadata(cls).getTypesField();
     }
 
     /**
@@ -432,7 +482,7 @@ public class BeanAnnotationProcessor {
      * @return Whether the class has types field
      */
     public static boolean hasTypesField(Class<?> cls) {
-        return getTypesField(cls).isPresent();
+        return getClassMetadata(cls).hasTypesField();
     }
 
     /**
@@ -494,6 +544,11 @@ public class BeanAnnotationProcessor {
      * @return JSON-LD attribute identifier
      */
     public static String getAttributeIdentifier(Field field) {
+        final String identifier = getClassMetadata(field.getDeclaringClass()).getAttributeIdentifier(field);
+        return identifier != null ? identifier : resolveAttributeIdentifier(field);
+    }
+
+    static String resolveAttributeIdentifier(Field field) {
         if (field.getDeclaredAnnotation(Id.class) != null) {
             return JsonLd.ID;
         }
@@ -524,7 +579,7 @@ public class BeanAnnotationProcessor {
      * @return Matching field, optionally empty
      */
     public static Optional<Field> getIdentifierField(Class<?> cls) {
-        return getMarshallableFields(cls, (f, c) -> f.isAnnotationPresent(Id.class)).stream().findFirst();
+        return getClassMetadata(cls).getIdentifierField();
     }
 
     /**
@@ -535,23 +590,9 @@ public class BeanAnnotationProcessor {
      */
     public static Optional<Object> getInstanceIdentifier(Object instance) {
         Objects.requireNonNull(instance);
-        final List<Class<?>> classes = getAncestors(instance.getClass());
-        for (Class<?> cls : classes) {
-            for (Field f : cls.getDeclaredFields()) {
-                if (f.getDeclaredAnnotation(Id.class) != null) {
-                    if (!f.canAccess(instance)) {
-                        f.setAccessible(true);
-                    }
-                    try {
-                        return Optional.ofNullable(f.get(instance));
-                    } catch (IllegalAccessException e) {
-                        throw new JsonLdSerializationException("Unable to extract identifier of instance " + instance);
-                    }
-                }
-            }
-        }
-        // No identifier field, a blank node should be generated
-        return Optional.empty();
+        // No identifier field means a blank node should be generated
+        return getClassMetadata(instance.getClass()).getIdentifierField().map(
+                f -> BeanClassProcessor.getFieldAccessor(f).getValue(instance));
     }
 
     /**
@@ -561,7 +602,11 @@ public class BeanAnnotationProcessor {
      * @return Array declaring attribute order, possibly empty
      */
     public static String[] getAttributeOrder(Class<?> cls) {
-        Objects.requireNonNull(cls);
+        final String[] order = getClassMetadata(cls).getAttributeOrder();
+        return order.length > 0 ? order.clone() : order;
+    }
+
+    static String[] resolveAttributeOrder(Class<?> cls) {
         final JsonLdAttributeOrder order = cls.getDeclaredAnnotation(JsonLdAttributeOrder.class);
         return order != null ? order.value() : EMPTY_ARRAY;
     }
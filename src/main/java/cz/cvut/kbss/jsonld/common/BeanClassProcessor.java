@@ -22,20 +22,91 @@ import cz.cvut.kbss.jsonld.exception.BeanProcessingException;
 import cz.cvut.kbss.jsonld.exception.TargetTypeException;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Reflection-related utilities.
  */
 public class BeanClassProcessor {
 
+    private static volatile FieldAccessorFactory fieldAccessorFactory =
+            new GeneratedFieldAccessorFactory(new MethodHandleFieldAccessorFactory());
+
+    // Accessors are cached per declaring class, so that they do not keep the class (and its class loader) alive
+    private static volatile ClassValue<Map<Field, FieldAccessor>> fieldAccessors = createFieldAccessorCache();
+
+    private static volatile ClassValue<Supplier<?>> instanceSuppliers =
+            createInstanceSupplierCache(new DefaultInstanceFactory());
+
+    private static final ClassValue<Supplier<Collection<?>>> COLLECTION_SUPPLIERS = new ClassValue<>() {
+        @Override
+        protected Supplier<Collection<?>> computeValue(Class<?> type) {
+            if (Set.class.isAssignableFrom(type)) {
+                return HashSet::new;
+            } else if (List.class.isAssignableFrom(type)) {
+                return ArrayList::new;
+            }
+            return () -> {
+                throw new IllegalArgumentException(type + " is not a supported collection type.");
+            };
+        }
+    };
+
     private BeanClassProcessor() {
         throw new AssertionError();
     }
 
+    /**
+     * Sets factory of field accessors, overriding the default one.
+     * <p>
+     * Previously created accessors are discarded.
+     *
+     * @param factory Factory to set
+     */
+    public static void setFieldAccessorFactory(FieldAccessorFactory factory) {
+        fieldAccessorFactory = Objects.requireNonNull(factory);
+        fieldAccessors = createFieldAccessorCache();
+    }
+
+    private static ClassValue<Map<Field, FieldAccessor>> createFieldAccessorCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Field, FieldAccessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Gets the current factory of field accessors.
+     *
+     * @return Field accessor factory
+     */
+    public static FieldAccessorFactory getFieldAccessorFactory() {
+        return fieldAccessorFactory;
+    }
+
+    /**
+     * Gets accessor of the specified field.
+     * <p>
+     * The accessor is created on first access and cached for subsequent calls.
+     *
+     * @param field The field to get accessor for
+     * @return Field accessor
+     */
+    public static FieldAccessor getFieldAccessor(Field field) {
+        Objects.requireNonNull(field);
+        final Map<Field, FieldAccessor> accessors = fieldAccessors.get(field.getDeclaringClass());
+        final FieldAccessor accessor = accessors.get(field);
+        // The factory is read after the cache, so accessors of a replaced factory do not end up in the new cache
+        return accessor != null ? accessor : accessors.computeIfAbsent(field,
+                f -> fieldAccessorFactory.createAccessor(f));
+    }
+
     /**
      * Extracts value of the specified field, from the specified instance.
      *
@@ -44,15 +115,7 @@ public class BeanClassProcessor {
      * @return Field value, possibly {@code null}
      */
     public static Object getFieldValue(Field field, Object instance) {
-        Objects.requireNonNull(field);
-        if (!field.canAccess(instance)) {
-            field.setAccessible(true);
-        }
-        try {
-            return field.get(instance);
-        } catch (IllegalAccessException e) {
-            throw new BeanProcessingException("Unable to extract value of field " + field, e);
-        }
+        return getFieldAccessor(field).getValue(instance);
     }
 
     /**
@@ -63,19 +126,43 @@ public class BeanClassProcessor {
      * @param value    The value to use
      */
     public static void setFieldValue(Field field, Object instance, Object value) {
-        Objects.requireNonNull(field);
-        if (!field.canAccess(instance)) {
-            field.setAccessible(true);
-        }
-        try {
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
-            throw new BeanProcessingException("Unable to set value of field " + field, e);
-        }
+        getFieldAccessor(field).setValue(instance, value);
+    }
+
+    /**
+     * Sets factory of instances created by deserialization, overriding the default one.
+     * <p>
+     * Classes not supported by the specified factory are instantiated by {@link DefaultInstanceFactory}. Previously
+     * resolved instance suppliers are discarded.
+     *
+     * @param factory Factory to set
+     */
+    public static void setInstanceFactory(InstanceFactory factory) {
+        instanceSuppliers = createInstanceSupplierCache(Objects.requireNonNull(factory));
+    }
+
+    private static ClassValue<Supplier<?>> createInstanceSupplierCache(InstanceFactory factory) {
+        final InstanceFactory defaultFactory = new DefaultInstanceFactory();
+        return new ClassValue<>() {
+            @Override
+            protected Supplier<?> computeValue(Class<?> type) {
+                return resolveInstanceSupplier(type, factory, defaultFactory);
+            }
+        };
+    }
+
+    private static <T> Supplier<T> resolveInstanceSupplier(Class<T> type, InstanceFactory factory,
+                                                           InstanceFactory defaultFactory) {
+        return factory.getInstanceSupplier(type)
+                      .or(() -> defaultFactory.getInstanceSupplier(type))
+                      .orElseThrow(() -> new BeanProcessingException("Unable to instantiate " + type));
     }
 
     /**
      * Creates new instance of the specified class.
+     * <p>
+     * The instance is created by a supplier resolved by the configured {@link InstanceFactory} on first instantiation
+     * of the class.
      *
      * @param <T> The type of the created object
      * @param cls The class to instantiate
@@ -83,12 +170,7 @@ public class BeanClassProcessor {
      * @throws BeanProcessingException If the class is missing a public no-arg constructor
      */
     public static <T> T createInstance(Class<T> cls) {
-        try {
-            return cls.getDeclaredConstructor().newInstance();
-        } catch (NoSuchMethodException | InstantiationException | InvocationTargetException |
-                 IllegalAccessException e) {
-            throw new BeanProcessingException("Class " + cls + " is missing a public no-arg constructor.", e);
-        }
+        return cls.cast(instanceSuppliers.get(cls).get());
     }
 
     /**
@@ -127,15 +209,7 @@ public class BeanClassProcessor {
      */
     public static Collection<?> createCollection(Class<?> collectionType) {
         Objects.requireNonNull(collectionType);
-        CollectionType type;
-        if (Set.class.isAssignableFrom(collectionType)) {
-            type = CollectionType.SET;
-        } else if (List.class.isAssignableFrom(collectionType)) {
-            type = CollectionType.LIST;
-        } else {
-            throw new IllegalArgumentException(collectionType + " is not a supported collection type.");
-        }
-        return createCollection(type);
+        return COLLECTION_SUPPLIERS.get(collectionType).get();
     }
 
     /**
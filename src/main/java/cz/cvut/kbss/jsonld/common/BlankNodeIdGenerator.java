@@ -0,0 +1,94 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.exception.JsonLdException;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Strategy generating blank node identifiers for identifier-less instances.
+ * <p>
+ * A generator is obtained for every serialization/deserialization session (see {@link #create(Configuration)}), so
+ * generated identifiers need to be unique only within a single JSON-LD document.
+ */
+@FunctionalInterface
+public interface BlankNodeIdGenerator {
+
+    /**
+     * Generates a new blank node identifier.
+     *
+     * @return Blank node identifier, including the {@link IdentifierUtil#B_NODE_PREFIX}
+     */
+    String generateId();
+
+    /**
+     * Creates a generator producing identifiers from a monotonic counter appended to a random session prefix, e.g.,
+     * {@code _:g1x2y3z_0}, {@code _:g1x2y3z_1} etc.
+     * <p>
+     * The random prefix ensures generated identifiers do not collide with blank node labels present in the processed
+     * document. The generator is not thread-safe.
+     *
+     * @return New counter-based generator
+     */
+    static BlankNodeIdGenerator counter() {
+        return new CountingBlankNodeIdGenerator();
+    }
+
+    /**
+     * Creates a generator producing identifiers from a monotonic counter appended to the specified fixed prefix, e.g.,
+     * {@code _:n0}, {@code _:n1} etc. for prefix {@code n}.
+     * <p>
+     * Generated identifiers are thus the same across sessions, which makes the output deterministic. However, it is up
+     * to the caller to choose a prefix not used by blank node labels in the processed documents. The generator is not
+     * thread-safe.
+     *
+     * @param prefix Prefix of the generated identifiers (without the {@link IdentifierUtil#B_NODE_PREFIX})
+     * @return New counter-based generator
+     */
+    static BlankNodeIdGenerator counter(String prefix) {
+        return new CountingBlankNodeIdGenerator(Objects.requireNonNull(prefix));
+    }
+
+    /**
+     * Creates a generator for a new session based on the specified configuration.
+     * <p>
+     * The {@link ConfigParam#BLANK_NODE_ID_GENERATOR} can be either a {@link BlankNodeIdGenerator}, which is then
+     * shared by all sessions, or a {@link Supplier} of generators, which is asked for a new generator for every
+     * session. If it is not set, a {@link #counter()} generator is used.
+     *
+     * @param configuration Current configuration
+     * @return Blank node identifier generator
+     */
+    static BlankNodeIdGenerator create(Configuration configuration) {
+        final Object value = configuration.getObject(ConfigParam.BLANK_NODE_ID_GENERATOR);
+        if (value == null) {
+            return counter();
+        }
+        if (value instanceof BlankNodeIdGenerator generator) {
+            return generator;
+        }
+        if (value instanceof Supplier<?> supplier && supplier.get() instanceof BlankNodeIdGenerator generator) {
+            return generator;
+        }
+        throw new JsonLdException("Unsupported blank node identifier generator configuration " + value + ".");
+    }
+}
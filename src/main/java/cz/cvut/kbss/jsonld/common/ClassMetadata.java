@@ -0,0 +1,260 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.Properties;
+import cz.cvut.kbss.jopa.model.annotations.Types;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable mapping metadata of a single Java class.
+ * <p>
+ * The metadata are resolved once per class (see {@link BeanAnnotationProcessor#getClassMetadata(Class)}) so that
+ * serialization and deserialization do not have to scan the class hierarchy and its annotations for every processed
+ * instance.
+ */
+public final class ClassMetadata {
+
+    private final Class<?> javaClass;
+
+    private final List<Field> marshallableFields;
+
+    private final List<Field> serializableFields;
+
+    private final List<Field> attributeFields;
+
+    private final Map<Field, String> attributeIdentifiers;
+
+    private final Field identifierField;
+
+    private final Field typesField;
+
+    private final Field propertiesField;
+
+    private final String[] attributeOrder;
+
+    // Resolved lazily, as a class used only for serialization may not have a valid deserialization mapping
+    private volatile Map<String, Field> deserializationFields;
+
+    // Resolved lazily, so that invalid type IRIs are reported only when the types are actually needed
+    private volatile Set<String> types;
+
+    ClassMetadata(Class<?> javaClass, PropertyAccessResolver accessResolver) {
+        this.javaClass = javaClass;
+        final List<Field> fields = BeanAnnotationProcessor.resolveMarshallableFields(javaClass);
+        this.marshallableFields = Collections.unmodifiableList(fields);
+        this.serializableFields = fields.stream().filter(f -> accessResolver.isReadable(f, javaClass))
+                                        .collect(Collectors.toUnmodifiableList());
+        this.identifierField = findAnnotated(fields, Id.class);
+        this.typesField = findAnnotated(fields, Types.class);
+        this.propertiesField = findAnnotated(fields, Properties.class);
+        this.attributeIdentifiers = resolveAttributeIdentifiers(fields);
+        this.attributeOrder = BeanAnnotationProcessor.resolveAttributeOrder(javaClass);
+        this.attributeFields = Collections.unmodifiableList(orderAttributes(serializableFields, attributeOrder));
+    }
+
+    private static Field findAnnotated(List<Field> fields, Class<? extends Annotation> ann) {
+        return fields.stream().filter(f -> f.getDeclaredAnnotation(ann) != null).findFirst().orElse(null);
+    }
+
+    private static Map<Field, String> resolveAttributeIdentifiers(List<Field> fields) {
+        final Map<Field, String> result = new HashMap<>(fields.size());
+        fields.stream().filter(f -> !BeanAnnotationProcessor.isPropertiesField(f))
+              .forEach(f -> result.put(f, BeanAnnotationProcessor.resolveAttributeIdentifier(f)));
+        return result;
+    }
+
+    private static List<Field> orderAttributes(List<Field> fields, String[] ordering) {
+        final List<Field> toOrder = new ArrayList<>(fields);
+        toOrder.removeIf(f -> BeanAnnotationProcessor.isInstanceIdentifier(f) ||
+                BeanAnnotationProcessor.isPropertiesField(f) || BeanAnnotationProcessor.isTypesField(f));
+        final List<Field> result = new ArrayList<>(toOrder.size());
+        for (String item : ordering) {
+            final Iterator<Field> it = toOrder.iterator();
+            while (it.hasNext()) {
+                final Field f = it.next();
+                if (f.getName().equals(item)) {
+                    it.remove();
+                    result.add(f);
+                    break;
+                }
+            }
+        }
+        result.addAll(toOrder);
+        return result;
+    }
+
+    /**
+     * Gets the Java class described by this metadata.
+     *
+     * @return Java class
+     */
+    public Class<?> getJavaClass() {
+        return javaClass;
+    }
+
+    /**
+     * Gets all fields of the class and its ancestors which can be serialized or deserialized.
+     * <p>
+     * Object property fields are placed at the end of the list.
+     *
+     * @return Unmodifiable list of fields
+     * @see BeanAnnotationProcessor#getMarshallableFields(Class)
+     */
+    public List<Field> getMarshallableFields() {
+        return marshallableFields;
+    }
+
+    /**
+     * Gets all fields of the class and its ancestors whose value can be read by serialization.
+     *
+     * @return Unmodifiable list of fields
+     * @see BeanAnnotationProcessor#getSerializableFields(Object)
+     */
+    public List<Field> getSerializableFields() {
+        return serializableFields;
+    }
+
+    /**
+     * Gets serializable fields representing regular attributes of the class in the order in which they should be
+     * serialized.
+     * <p>
+     * That is, identifier, types and properties fields are not included and the order declared by
+     * {@link cz.cvut.kbss.jsonld.annotation.JsonLdAttributeOrder} is applied.
+     *
+     * @return Unmodifiable list of fields
+     */
+    public List<Field> getAttributeFields() {
+        return attributeFields;
+    }
+
+    /**
+     * Gets JSON-LD attribute identifier of the specified field.
+     *
+     * @param field Field declared in the class or its ancestors
+     * @return JSON-LD attribute identifier, {@code null} if the field is not mapped by this class
+     * @see BeanAnnotationProcessor#getAttributeIdentifier(Field)
+     */
+    public String getAttributeIdentifier(Field field) {
+        return attributeIdentifiers.get(field);
+    }
+
+    /**
+     * Gets the identifier ({@link Id}) field of the class.
+     *
+     * @return Optional identifier field
+     */
+    public Optional<Field> getIdentifierField() {
+        return Optional.ofNullable(identifierField);
+    }
+
+    /**
+     * Gets the {@link Types} field of the class.
+     *
+     * @return Optional types field
+     */
+    public Optional<Field> getTypesField() {
+        return Optional.ofNullable(typesField);
+    }
+
+    /**
+     * Gets the {@link Properties} field of the class.
+     *
+     * @return Optional properties field
+     */
+    public Optional<Field> getPropertiesField() {
+        return Optional.ofNullable(propertiesField);
+    }
+
+    /**
+     * Checks whether the class has a {@link Types} field.
+     *
+     * @return {@code true} if types field is present, {@code false} otherwise
+     */
+    public boolean hasTypesField() {
+        return typesField != null;
+    }
+
+    /**
+     * Checks whether the class has a {@link Properties} field.
+     *
+     * @return {@code true} if properties field is present, {@code false} otherwise
+     */
+    public boolean hasPropertiesField() {
+        return propertiesField != null;
+    }
+
+    /**
+     * Gets ontological types mapped by the class and its ancestors.
+     *
+     * @return Unmodifiable set of types, possibly empty
+     * @see BeanAnnotationProcessor#getJsonLdTypeOrOwlClasses(Class)
+     */
+    public Set<String> getTypes() {
+        Set<String> result = types;
+        if (result == null) {
+            result = Collections.unmodifiableSet(BeanAnnotationProcessor.getJsonLdTypeOrOwlClasses(javaClass));
+            this.types = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets names of attributes specifying the (partial) order in which they should be (de)serialized.
+     *
+     * @return Array declaring attribute order, possibly empty. The array must not be modified
+     */
+    String[] getAttributeOrder() {
+        return attributeOrder;
+    }
+
+    /**
+     * Gets mapping of JSON-LD attribute identifiers to fields used by deserialization.
+     *
+     * @return Unmodifiable map of attribute identifiers to fields
+     * @see BeanAnnotationProcessor#mapFieldsForDeserialization(Class)
+     */
+    public Map<String, Field> getDeserializationFields() {
+        Map<String, Field> result = deserializationFields;
+        if (result == null) {
+            result = Collections.unmodifiableMap(
+                    marshallableFields.stream().filter(f -> !BeanAnnotationProcessor.isPropertiesField(f))
+                                      .collect(Collectors.toMap(attributeIdentifiers::get, Function.identity())));
+            this.deserializationFields = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassMetadata{" + javaClass.getName() + "}";
+    }
+}
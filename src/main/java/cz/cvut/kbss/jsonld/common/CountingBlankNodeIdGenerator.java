@@ -0,0 +1,46 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates blank node identifiers from a monotonic counter appended to a per-generator prefix.
+ * <p>
+ * By default, the prefix is random, which prevents clashes with blank node labels already present in the processed
+ * document (e.g., {@code _:b0} produced by JSON-LD processors).
+ */
+class CountingBlankNodeIdGenerator implements BlankNodeIdGenerator {
+
+    private final String prefix;
+
+    private long counter;
+
+    CountingBlankNodeIdGenerator() {
+        this("g" + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX) + "_");
+    }
+
+    CountingBlankNodeIdGenerator(String prefix) {
+        this.prefix = IdentifierUtil.B_NODE_PREFIX + prefix;
+    }
+
+    @Override
+    public String generateId() {
+        return prefix + counter++;
+    }
+}
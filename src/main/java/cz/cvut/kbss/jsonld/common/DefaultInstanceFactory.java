@@ -0,0 +1,68 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jsonld.exception.BeanProcessingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Default {@link InstanceFactory}.
+ * <p>
+ * Uses suppliers from {@link GeneratedMapping}s if available, otherwise invokes the public no-arg constructor of the
+ * class through a {@link MethodHandle}.
+ */
+public class DefaultInstanceFactory implements InstanceFactory {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    @Override
+    public <T> Optional<Supplier<T>> getInstanceSupplier(Class<T> cls) {
+        Objects.requireNonNull(cls);
+        final Optional<Supplier<T>> generated =
+                GeneratedMappingRegistry.getMapping(cls).flatMap(GeneratedMapping::getInstanceSupplier);
+        return generated.isPresent() ? generated : Optional.of(constructorSupplier(cls));
+    }
+
+    private static <T> Supplier<T> constructorSupplier(Class<T> cls) {
+        final MethodHandle constructor;
+        try {
+            final Constructor<T> ctor = cls.getDeclaredConstructor();
+            constructor = MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return () -> {
+                throw new BeanProcessingException("Class " + cls + " is missing a public no-arg constructor.", e);
+            };
+        }
+        return () -> {
+            try {
+                return cls.cast(constructor.invokeExact());
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BeanProcessingException("Unable to create instance of class " + cls, e);
+            }
+        };
+    }
+}
@@ -24,17 +24,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
 /**
  * Utilities for mapping enum constants.
+ * <p>
+ * Mapping of enum constants to individuals is resolved once per enum class and cached.
  */
 public class EnumUtil {
 
     private static final Logger LOG = LoggerFactory.getLogger(EnumUtil.class);
 
+    private static final ClassValue<EnumIndex<?>> INDICES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumIndex<?> computeValue(Class<?> type) {
+            return new EnumIndex(type);
+        }
+    };
+
     /**
      * Resolves an individual mapped by the specified enum constant.
      * <p>
@@ -45,8 +59,24 @@ public class EnumUtil {
      * @throws InvalidEnumMappingException When no matching individual is found
      */
     public static String resolveMappedIndividual(Enum<?> value) {
-        return findMatchingConstant(value.getDeclaringClass(), (e, iri) -> e == value, (e, iri) -> iri).orElseThrow(
-                () -> new InvalidEnumMappingException("Missing individual mapping for enum constant " + value));
+        final String iri = INDICES.get(value.getDeclaringClass()).getIndividual(value);
+        if (iri == null) {
+            throw new InvalidEnumMappingException("Missing individual mapping for enum constant " + value);
+        }
+        return iri;
+    }
+
+    /**
+     * Finds an enum constant mapped to the specified individual.
+     *
+     * @param enumType   Enum class
+     * @param individual Individual identifier
+     * @param <E>        Enum type
+     * @return Matching enum constant, empty {@code Optional} if no constant of the specified enum type is mapped to
+     * the individual
+     */
+    public static <E extends Enum<E>> Optional<E> findConstantForIndividual(Class<E> enumType, String individual) {
+        return Optional.ofNullable(enumType.cast(INDICES.get(enumType).getConstant(individual)));
     }
 
     /**
@@ -63,30 +93,63 @@ public class EnumUtil {
      * @return Matching enum constant transformed according to the specified mapper. Empty {@code Optional} if no
      * constant of the specified enum type matches the filter predicate
      */
+    @SuppressWarnings("unchecked")
     public static <T, E extends Enum<?>> Optional<T> findMatchingConstant(Class<E> enumType,
                                                                           BiPredicate<E, String> filter,
                                                                           BiFunction<E, String, T> mapper) {
-        try {
-            for (Field f : enumType.getDeclaredFields()) {
-                if (!f.isEnumConstant()) {
-                    continue;
-                }
-                final Individual individual = f.getAnnotation(Individual.class);
-                final E constant = (E) f.get(null);
-                if (individual == null) {
-                    LOG.warn(
-                            "Enum constant {} is missing individual mapping, yet it can be used as object property value.",
-                            constant);
-                    continue;
-                }
-                if (filter.test(constant, individual.iri())) {
-                    return Optional.of(mapper.apply(constant, individual.iri()));
-                }
+        for (Map.Entry<? extends Enum<?>, String> e : INDICES.get(enumType).individuals()) {
+            final E constant = (E) e.getKey();
+            if (filter.test(constant, e.getValue())) {
+                return Optional.of(mapper.apply(constant, e.getValue()));
             }
-        } catch (IllegalAccessException e) {
-            // This should not happen
-            throw new JsonLdException("Unable to access enum constant!", e);
         }
         return Optional.empty();
     }
+
+    /**
+     * Bidirectional index of enum constants and individuals they are mapped to.
+     */
+    private static final class EnumIndex<E extends Enum<E>> {
+
+        private final EnumMap<E, String> toIndividual;
+        private final Map<String, E> toConstant;
+
+        private EnumIndex(Class<E> enumType) {
+            this.toIndividual = new EnumMap<>(enumType);
+            this.toConstant = new HashMap<>();
+            try {
+                for (Field f : enumType.getDeclaredFields()) {
+                    if (!f.isEnumConstant()) {
+                        continue;
+                    }
+                    final Individual individual = f.getAnnotation(Individual.class);
+                    final E constant = enumType.cast(f.get(null));
+                    if (individual == null) {
+                        LOG.warn(
+                                "Enum constant {} is missing individual mapping, yet it can be used as object property value.",
+                                constant);
+                        continue;
+                    }
+                    toIndividual.put(constant, individual.iri());
+                    // The first constant mapped to an individual wins
+                    toConstant.putIfAbsent(individual.iri(), constant);
+                }
+            } catch (IllegalAccessException e) {
+                // This should not happen
+                throw new JsonLdException("Unable to access enum constant!", e);
+            }
+        }
+
+        String getIndividual(Enum<?> constant) {
+            return toIndividual.get(constant);
+        }
+
+        E getConstant(String individual) {
+            return toConstant.get(individual);
+        }
+
+        Set<Map.Entry<E, String>> individuals() {
+            return toIndividual.entrySet();
+        }
+    }
 }
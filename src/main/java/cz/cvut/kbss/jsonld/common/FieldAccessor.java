@@ -0,0 +1,112 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+/**
+ * Reads and writes value of a single field.
+ * <p>
+ * Accessors are resolved once per field (see {@link BeanClassProcessor#getFieldAccessor(java.lang.reflect.Field)}),
+ * so that the access checks and lookups are not repeated for every processed instance.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Gets value of the field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value, possibly {@code null}
+     */
+    Object getValue(Object instance);
+
+    /**
+     * Gets value of a {@code boolean} field from the specified instance.
+     * <p>
+     * Accessors may override the primitive getters to read the value without boxing it. By default, the value is
+     * obtained using {@link #getValue(Object)}.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     */
+    default boolean getBoolean(Object instance) {
+        return (Boolean) getValue(instance);
+    }
+
+    /**
+     * Gets value of a {@code short} field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     * @see #getBoolean(Object)
+     */
+    default short getShort(Object instance) {
+        return ((Number) getValue(instance)).shortValue();
+    }
+
+    /**
+     * Gets value of an {@code int} field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     * @see #getBoolean(Object)
+     */
+    default int getInt(Object instance) {
+        return ((Number) getValue(instance)).intValue();
+    }
+
+    /**
+     * Gets value of a {@code long} field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     * @see #getBoolean(Object)
+     */
+    default long getLong(Object instance) {
+        return ((Number) getValue(instance)).longValue();
+    }
+
+    /**
+     * Gets value of a {@code float} field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     * @see #getBoolean(Object)
+     */
+    default float getFloat(Object instance) {
+        return ((Number) getValue(instance)).floatValue();
+    }
+
+    /**
+     * Gets value of a {@code double} field from the specified instance.
+     *
+     * @param instance Instance to read the field value from
+     * @return Field value
+     * @see #getBoolean(Object)
+     */
+    default double getDouble(Object instance) {
+        return ((Number) getValue(instance)).doubleValue();
+    }
+
+    /**
+     * Sets value of the field on the specified instance.
+     *
+     * @param instance Instance to set the field value on
+     * @param value    The value to set, possibly {@code null}
+     * @throws IllegalArgumentException If the value is not assignable to the field
+     */
+    void setValue(Object instance, Object value);
+}
@@ -0,0 +1,38 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.lang.reflect.Field;
+
+/**
+ * Creates {@link FieldAccessor}s for fields.
+ * <p>
+ * Allows to replace the default access mechanism (see {@link MethodHandleFieldAccessorFactory}), e.g., in environments
+ * where deep reflection is restricted.
+ */
+public interface FieldAccessorFactory {
+
+    /**
+     * Creates accessor of the specified field.
+     *
+     * @param field Field to create accessor for
+     * @return Field accessor
+     * @throws cz.cvut.kbss.jsonld.exception.BeanProcessingException If the field cannot be made accessible
+     */
+    FieldAccessor createAccessor(Field field);
+}
@@ -0,0 +1,42 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Uses accessors from {@link GeneratedMapping}s if they are available for a field, delegating to another factory
+ * otherwise.
+ */
+public class GeneratedFieldAccessorFactory implements FieldAccessorFactory {
+
+    private final FieldAccessorFactory fallback;
+
+    public GeneratedFieldAccessorFactory(FieldAccessorFactory fallback) {
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    public FieldAccessor createAccessor(Field field) {
+        Objects.requireNonNull(field);
+        return GeneratedMappingRegistry.getMapping(field.getDeclaringClass())
+                                       .map(m -> m.getFieldAccessors().get(field.getName()))
+                                       .orElseGet(() -> fallback.createAccessor(field));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Mapping code generated at compile time for a single mapped class.
+ * <p>
+ * Implementations are generated by {@link cz.cvut.kbss.jsonld.processor.JsonLdMappingProcessor} and discovered at
+ * runtime by {@link GeneratedMappingRegistry}. They allow accessing fields and creating instances of the class without
+ * core reflection. Class metadata (e.g., attribute IRIs) are not part of the mapping and are still resolved from
+ * annotations.
+ *
+ * @param <T> The mapped class
+ */
+public interface GeneratedMapping<T> {
+
+    /**
+     * Gets the class this mapping was generated for.
+     *
+     * @return Mapped class
+     */
+    Class<T> getMappedClass();
+
+    /**
+     * Gets accessors of mapped fields declared by the mapped class, keyed by field name.
+     * <p>
+     * Fields which could not be accessed by the generated code are not present in the map and reflection-based access
+     * is used for them.
+     *
+     * @return Map of field names to accessors
+     */
+    Map<String, FieldAccessor> getFieldAccessors();
+
+    /**
+     * Gets a supplier of new instances of the mapped class.
+     *
+     * @return Instance supplier, empty if the class is abstract or has no accessible no-arg constructor
+     */
+    Optional<Supplier<T>> getInstanceSupplier();
+}
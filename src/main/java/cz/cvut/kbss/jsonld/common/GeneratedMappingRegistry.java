@@ -0,0 +1,188 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of {@link GeneratedMapping}s available at runtime.
+ * <p>
+ * Mapping of a class is looked up in the class loader of the class by the name under which
+ * {@link cz.cvut.kbss.jsonld.processor.JsonLdMappingProcessor} generates it and is then cached with the class. Mappings
+ * are enumerated per class loader using {@link ServiceLoader}, as the processor registers them as services.
+ * Additional mappings may be registered manually.
+ * <p>
+ * The registry does not keep classes or class loaders alive, so that redeployed applications can be unloaded.
+ */
+public final class GeneratedMappingRegistry {
+
+    /**
+     * Suffix of the name of a mapping class generated for a mapped class.
+     */
+    public static final String MAPPING_CLASS_SUFFIX = "_JsonLdMapping";
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedMappingRegistry.class);
+
+    private static final ClassValue<MappingHolder> MAPPINGS = new ClassValue<>() {
+        @Override
+        protected MappingHolder computeValue(Class<?> type) {
+            return new MappingHolder(loadMapping(type));
+        }
+    };
+
+    // Names of manually registered classes per class loader. Only names are held, so that the loaders are not kept alive
+    private static final Map<ClassLoader, Set<String>> REGISTERED = new WeakHashMap<>();
+
+    private GeneratedMappingRegistry() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Gets generated mapping of the specified class.
+     * <p>
+     * The mapping is loaded from the class loader of the specified class.
+     *
+     * @param cls Mapped class
+     * @param <T> Class type
+     * @return Optional generated mapping, empty if no mapping has been generated for the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<GeneratedMapping<T>> getMapping(Class<T> cls) {
+        Objects.requireNonNull(cls);
+        return Optional.ofNullable((GeneratedMapping<T>) MAPPINGS.get(cls).mapping);
+    }
+
+    /**
+     * Gets all the generated mappings available in the thread context class loader.
+     *
+     * @return Unmodifiable collection of mappings
+     */
+    public static Collection<GeneratedMapping<?>> getMappings() {
+        return getMappings(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Gets all the generated mappings available in the specified class loader.
+     * <p>
+     * That is, mappings registered as services visible to the class loader and mappings registered manually for
+     * classes of the class loader.
+     *
+     * @param classLoader Class loader to load mappings from, {@code null} represents the system class loader
+     * @return Unmodifiable collection of mappings
+     */
+    public static Collection<GeneratedMapping<?>> getMappings(ClassLoader classLoader) {
+        final ClassLoader loader = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        final Map<Class<?>, GeneratedMapping<?>> result = new LinkedHashMap<>();
+        loadServices(loader).forEach(m -> result.putIfAbsent(m.getMappedClass(), m));
+        final Set<String> registered;
+        synchronized (REGISTERED) {
+            registered = new HashSet<>(REGISTERED.getOrDefault(loader, Collections.emptySet()));
+        }
+        for (String name : registered) {
+            try {
+                final Class<?> cls = Class.forName(name, false, loader);
+                getMapping(cls).ifPresent(m -> result.put(cls, m));
+            } catch (ClassNotFoundException e) {
+                LOG.trace("Manually registered class {} not found in {}.", name, loader);
+            }
+        }
+        return Collections.unmodifiableCollection(result.values());
+    }
+
+    /**
+     * Registers the specified mapping, replacing any previously registered mapping of the same class.
+     *
+     * @param mapping Mapping to register
+     */
+    public static void register(GeneratedMapping<?> mapping) {
+        Objects.requireNonNull(mapping);
+        final Class<?> cls = mapping.getMappedClass();
+        MAPPINGS.get(cls).mapping = mapping;
+        final ClassLoader loader = cls.getClassLoader() != null ? cls.getClassLoader() :
+                                   ClassLoader.getSystemClassLoader();
+        synchronized (REGISTERED) {
+            REGISTERED.computeIfAbsent(loader, k -> new HashSet<>()).add(cls.getName());
+        }
+    }
+
+    private static GeneratedMapping<?> loadMapping(Class<?> cls) {
+        final ClassLoader loader = cls.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        final String mappingName = cls.getName().replace('$', '_') + MAPPING_CLASS_SUFFIX;
+        try {
+            final Class<?> mappingCls = Class.forName(mappingName, true, loader);
+            if (!GeneratedMapping.class.isAssignableFrom(mappingCls)) {
+                return null;
+            }
+            final GeneratedMapping<?> mapping =
+                    (GeneratedMapping<?>) mappingCls.getDeclaredConstructor().newInstance();
+            return mapping.getMappedClass() == cls ? mapping : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.warn("Unable to load generated mapping {}.", mappingName, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Collection<GeneratedMapping<?>> loadServices(ClassLoader classLoader) {
+        final Iterator<GeneratedMapping> it = ServiceLoader.load(GeneratedMapping.class, classLoader).iterator();
+        final Collection<GeneratedMapping<?>> result = new ArrayList<>();
+        while (true) {
+            try {
+                if (!it.hasNext()) {
+                    break;
+                }
+                final GeneratedMapping<?> mapping = it.next();
+                // Prefer the instance cached with the class, it may have been replaced by manual registration
+                result.add(getMapping(mapping.getMappedClass()).orElse((GeneratedMapping) mapping));
+            } catch (ServiceConfigurationError e) {
+                LOG.warn("Unable to load generated mapping.", e);
+            }
+        }
+        LOG.trace("Loaded {} generated mappings from {}.", result.size(), classLoader);
+        return result;
+    }
+
+    private static final class MappingHolder {
+
+        private volatile GeneratedMapping<?> mapping;
+
+        private MappingHolder(GeneratedMapping<?> mapping) {
+            this.mapping = mapping;
+        }
+    }
+}
@@ -38,6 +38,8 @@ public class IdentifierUtil {
 
     /**
      * Generates a (pseudo)random blank node identifier.
+     * <p>
+     * Serialization and deserialization use a {@link BlankNodeIdGenerator} instead.
      *
      * @return Blank node identifier
      */
@@ -56,9 +58,10 @@ public class IdentifierUtil {
         Objects.requireNonNull(value);
         final int colonIndex = value.indexOf(':');
         if (colonIndex >= 0) {
-            final String prefixWithColon = value.substring(0, colonIndex + 1);
-            final String suffix = value.substring(colonIndex + 1);
-            return !B_NODE_PREFIX.equals(prefixWithColon) && !suffix.startsWith("//");
+            // Equivalent to checking prefix and suffix substrings, but without allocating them
+            final boolean blankNode = colonIndex == B_NODE_PREFIX.length() - 1 &&
+                    value.startsWith(B_NODE_PREFIX);
+            return !blankNode && !value.startsWith("//", colonIndex + 1);
         }
         return false;
     }
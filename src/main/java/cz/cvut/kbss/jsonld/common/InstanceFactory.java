@@ -0,0 +1,39 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Provides suppliers of new instances of classes created by deserialization.
+ * <p>
+ * Suppliers are resolved once per class and cached (see {@link BeanClassProcessor#createInstance(Class)}), so
+ * implementations may perform expensive lookups when resolving them.
+ */
+public interface InstanceFactory {
+
+    /**
+     * Gets a supplier of new instances of the specified class.
+     *
+     * @param cls Class to instantiate
+     * @param <T> Instance type
+     * @return Instance supplier, empty if this factory does not support the specified class
+     */
+    <T> Optional<Supplier<T>> getInstanceSupplier(Class<T> cls);
+}
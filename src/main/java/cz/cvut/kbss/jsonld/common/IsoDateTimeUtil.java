@@ -0,0 +1,224 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats and parses datetime values in the ISO 8601 (xsd:dateTime) format without going through
+ * {@link DateTimeFormatter}.
+ * <p>
+ * The output of {@link #format(OffsetDateTime)} is the same as that of {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+ * {@link #parse(CharSequence)} handles only the common form of the value and leaves any other input to the caller, so
+ * that edge cases and errors are handled consistently by the regular parsing.
+ */
+public class IsoDateTimeUtil {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+HH:MM:SS
+    private static final int MAX_LENGTH = 38;
+
+    // yyyy-MM-ddTHH:mmZ
+    private static final int MIN_LENGTH = 17;
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private IsoDateTimeUtil() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Formats the specified value in the ISO 8601 format.
+     *
+     * @param value Value to format
+     * @return Formatted value
+     * @see DateTimeFormatter#ISO_OFFSET_DATE_TIME
+     */
+    public static String format(OffsetDateTime value) {
+        final int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Years outside of the four-digit range are signed
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+        }
+        final char[] buf = new char[MAX_LENGTH];
+        int pos = writeTwoDigits(buf, 0, year / 100);
+        pos = writeTwoDigits(buf, pos, year % 100);
+        buf[pos++] = '-';
+        pos = writeTwoDigits(buf, pos, value.getMonthValue());
+        buf[pos++] = '-';
+        pos = writeTwoDigits(buf, pos, value.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = writeTwoDigits(buf, pos, value.getHour());
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, value.getMinute());
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, value.getSecond());
+        pos = writeFraction(buf, pos, value.getNano());
+        pos = writeOffset(buf, pos, value.getOffset().getTotalSeconds());
+        return new String(buf, 0, pos);
+    }
+
+    private static int writeTwoDigits(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    /**
+     * Writes nanoseconds as a decimal fraction without trailing zeros, nothing if there are none.
+     */
+    private static int writeFraction(char[] buf, int pos, int nano) {
+        if (nano == 0) {
+            return pos;
+        }
+        buf[pos++] = '.';
+        int end = pos + 9;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        while (buf[end - 1] == '0') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int writeOffset(char[] buf, int pos, int totalSeconds) {
+        if (totalSeconds == 0) {
+            buf[pos] = 'Z';
+            return pos + 1;
+        }
+        buf[pos++] = totalSeconds < 0 ? '-' : '+';
+        final int abs = Math.abs(totalSeconds);
+        pos = writeTwoDigits(buf, pos, abs / 3600);
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, abs / 60 % 60);
+        if (abs % 60 != 0) {
+            buf[pos++] = ':';
+            pos = writeTwoDigits(buf, pos, abs % 60);
+        }
+        return pos;
+    }
+
+    /**
+     * Parses the specified ISO 8601 datetime with an offset.
+     * <p>
+     * Only values of the form {@code yyyy-MM-ddTHH:mm[:ss[.fraction]]} followed by {@code Z} or
+     * {@code ±HH:MM[:SS]} are supported. For any other input (including invalid values), {@code null} is returned, so
+     * that the caller can fall back to a regular (and more lenient) parser.
+     *
+     * @param value Value to parse
+     * @return Parsed datetime, {@code null} if the value is not of the supported form
+     */
+    public static OffsetDateTime parse(CharSequence value) {
+        final int length = value.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return null;
+        }
+        final int year = parseDigits(value, 0, 4);
+        final int month = parseDigits(value, 5, 2);
+        final int day = parseDigits(value, 8, 2);
+        final int hour = parseDigits(value, 11, 2);
+        final int minute = parseDigits(value, 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59 ||
+                value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T' || value.charAt(13) != ':') {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+            return null;
+        }
+        int pos = 16;
+        int second = 0;
+        int nano = 0;
+        if (value.charAt(pos) == ':') {
+            second = parseDigits(value, pos + 1, 2);
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            pos += 3;
+            if (pos < length && value.charAt(pos) == '.') {
+                final int start = ++pos;
+                while (pos < length && isDigit(value.charAt(pos))) {
+                    nano = nano * 10 + (value.charAt(pos++) - '0');
+                }
+                final int digits = pos - start;
+                if (digits == 0 || digits > 9) {
+                    return null;
+                }
+                for (int i = digits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        final ZoneOffset offset = parseOffset(value, pos);
+        return offset != null ? OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset) : null;
+    }
+
+    private static ZoneOffset parseOffset(CharSequence value, int pos) {
+        final int length = value.length();
+        if (pos >= length) {
+            return null;
+        }
+        final char sign = value.charAt(pos);
+        if (sign == 'Z') {
+            return pos + 1 == length ? ZoneOffset.UTC : null;
+        }
+        if ((sign != '+' && sign != '-') || (length != pos + 6 && length != pos + 9)) {
+            return null;
+        }
+        final int hours = parseDigits(value, pos + 1, 2);
+        final int minutes = parseDigits(value, pos + 4, 2);
+        final int seconds = length == pos + 9 ? parseDigits(value, pos + 7, 2) : 0;
+        if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59 || value.charAt(pos + 3) != ':' ||
+                (length == pos + 9 && value.charAt(pos + 6) != ':')) {
+            return null;
+        }
+        final int totalSeconds = hours * 3600 + minutes * 60 + seconds;
+        if (totalSeconds > MAX_OFFSET_SECONDS) {
+            return null;
+        }
+        return ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+    }
+
+    /**
+     * Parses a non-negative decimal number of the specified number of digits.
+     *
+     * @return The parsed number, -1 if the value does not contain the specified number of digits at the position
+     */
+    private static int parseDigits(CharSequence value, int pos, int count) {
+        if (pos + count > value.length()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = pos; i < pos + count; i++) {
+            final char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
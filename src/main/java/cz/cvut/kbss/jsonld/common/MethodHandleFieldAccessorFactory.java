@@ -0,0 +1,206 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jsonld.exception.BeanProcessingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Default {@link FieldAccessorFactory} creating accessors based on {@link MethodHandle}s.
+ * <p>
+ * The field is made accessible and its getter and setter handles are resolved only once, when the accessor is created.
+ */
+public class MethodHandleFieldAccessorFactory implements FieldAccessorFactory {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Override
+    public FieldAccessor createAccessor(Field field) {
+        Objects.requireNonNull(field);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            field.setAccessible(true);
+            final MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                // E.g., static final fields or record components, these can still be read
+                setter = null;
+            }
+            // Primitive values can be read without boxing
+            final MethodHandle primitiveGetter = field.getType().isPrimitive() ?
+                                                 adapt(getter, field,
+                                                       MethodType.methodType(field.getType(), Object.class)) : null;
+            return new MethodHandleFieldAccessor(field, adapt(getter, field, GETTER_TYPE), primitiveGetter,
+                                                 adapt(setter, field, SETTER_TYPE));
+        } catch (IllegalAccessException | InaccessibleObjectException | SecurityException e) {
+            throw new BeanProcessingException("Unable to access field " + field, e);
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, Field field, MethodType type) {
+        if (handle == null) {
+            return null;
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            // Static field handles do not take the instance argument
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static final class MethodHandleFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle primitiveGetter;
+        private final MethodHandle setter;
+
+        private MethodHandleFieldAccessor(Field field, MethodHandle getter, MethodHandle primitiveGetter,
+                                          MethodHandle setter) {
+            this.field = field;
+            this.getter = getter;
+            this.primitiveGetter = primitiveGetter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object getValue(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public boolean getBoolean(Object instance) {
+            if (field.getType() != boolean.class) {
+                return FieldAccessor.super.getBoolean(instance);
+            }
+            try {
+                return (boolean) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public short getShort(Object instance) {
+            if (field.getType() != short.class) {
+                return FieldAccessor.super.getShort(instance);
+            }
+            try {
+                return (short) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public int getInt(Object instance) {
+            if (field.getType() != int.class) {
+                return FieldAccessor.super.getInt(instance);
+            }
+            try {
+                return (int) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public long getLong(Object instance) {
+            if (field.getType() != long.class) {
+                return FieldAccessor.super.getLong(instance);
+            }
+            try {
+                return (long) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public float getFloat(Object instance) {
+            if (field.getType() != float.class) {
+                return FieldAccessor.super.getFloat(instance);
+            }
+            try {
+                return (float) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        @Override
+        public double getDouble(Object instance) {
+            if (field.getType() != double.class) {
+                return FieldAccessor.super.getDouble(instance);
+            }
+            try {
+                return (double) primitiveGetter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw readFailure(instance, e);
+            }
+        }
+
+        private RuntimeException readFailure(Object instance, Throwable e) {
+            if (e instanceof ClassCastException) {
+                return new IllegalArgumentException("Instance " + instance + " does not declare field " + field, e);
+            } else if (e instanceof RuntimeException re) {
+                return re;
+            } else if (e instanceof Error err) {
+                throw err;
+            }
+            return new BeanProcessingException("Unable to extract value of field " + field, e);
+        }
+
+        @Override
+        public void setValue(Object instance, Object value) {
+            if (setter == null) {
+                throw new BeanProcessingException("Unable to set value of field " + field + ", it is not writable.");
+            }
+            Objects.requireNonNull(instance);
+            try {
+                setter.invokeExact(instance, value);
+            } catch (ClassCastException | NullPointerException e) {
+                // Consistent with Field.set
+                throw new IllegalArgumentException("Cannot set value " + value + " on field " + field, e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BeanProcessingException("Unable to set value of field " + field, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "FieldAccessor{" + field + "}";
+        }
+    }
+}
@@ -23,6 +23,8 @@ import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.annotation.JsonLdType;
 import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
 import cz.cvut.kbss.jsonld.common.Configured;
+import cz.cvut.kbss.jsonld.common.GeneratedMapping;
+import cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry;
 import cz.cvut.kbss.jsonld.deserialization.expanded.ExpandedJsonLdDeserializer;
 import cz.cvut.kbss.jsonld.deserialization.util.ClasspathScanner;
 import cz.cvut.kbss.jsonld.deserialization.util.TargetClassResolver;
@@ -30,6 +32,7 @@ import cz.cvut.kbss.jsonld.deserialization.util.TargetClassResolverConfig;
 import cz.cvut.kbss.jsonld.deserialization.util.TypeMap;
 import jakarta.json.JsonValue;
 
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -57,7 +60,9 @@ public abstract class JsonLdDeserializer implements Configured {
 
     private TargetClassResolver initializeTargetClassResolver() {
         final String scanPath = configuration.get(ConfigParam.SCAN_PACKAGE, "");
-        final TypeMap typeMap = discoverAvailableTypes(scanPath, configuration.is(ConfigParam.DISABLE_TYPE_MAP_CACHE), configuration.getObject(ConfigParam.CLASS_LOADER));
+        final TypeMap typeMap = configuration.is(ConfigParam.ENABLE_GENERATED_TYPE_INDEX) ?
+                                collectGeneratedTypes(scanPath, configuration.getObject(ConfigParam.CLASS_LOADER)) :
+                                discoverAvailableTypes(scanPath, configuration.is(ConfigParam.DISABLE_TYPE_MAP_CACHE), configuration.getObject(ConfigParam.CLASS_LOADER));
         return new TargetClassResolver(typeMap,
                                        new TargetClassResolverConfig(
                                                configuration.is(ConfigParam.ASSUME_TARGET_TYPE),
@@ -65,6 +70,35 @@ public abstract class JsonLdDeserializer implements Configured {
                                                configuration().is(ConfigParam.PREFER_SUPERCLASS)));
     }
 
+    /**
+     * Collects potential deserialization target types from mappings generated at compile time.
+     *
+     * @param scanPath    Package in which the types should be
+     * @param classLoader Configured class loader to load the mappings from, if any
+     * @return Map of types to Java classes
+     */
+    private static TypeMap collectGeneratedTypes(String scanPath, Object classLoader) {
+        final TypeMap map = new TypeMap();
+        final Collection<GeneratedMapping<?>> mappings = classLoader instanceof ClassLoader loader ?
+                                                         GeneratedMappingRegistry.getMappings(loader) :
+                                                         GeneratedMappingRegistry.getMappings();
+        mappings.stream().map(GeneratedMapping::getMappedClass)
+                .filter(c -> c.getName().startsWith(scanPath))
+                .forEach(c -> registerType(map, c));
+        return map;
+    }
+
+    private static void registerType(TypeMap map, Class<?> c) {
+        final OWLClass annOwl = c.getDeclaredAnnotation(OWLClass.class);
+        if (annOwl != null) {
+            map.register(BeanAnnotationProcessor.expandIriIfNecessary(annOwl.iri(), c), c);
+        }
+        final JsonLdType annJsonLd = c.getDeclaredAnnotation(JsonLdType.class);
+        if (annJsonLd != null) {
+            map.register(BeanAnnotationProcessor.expandIriIfNecessary(annJsonLd.iri(), c), c);
+        }
+    }
+
     /**
      * Finds potential deserialization target types on the classpath.
      *
@@ -79,16 +113,7 @@ public abstract class JsonLdDeserializer implements Configured {
 		if (!(classLoader instanceof ClassLoader)) {
 			classLoader = null;
 		}
-        new ClasspathScanner(c -> {
-            final OWLClass annOwl = c.getDeclaredAnnotation(OWLClass.class);
-            if (annOwl != null) {
-                map.register(BeanAnnotationProcessor.expandIriIfNecessary(annOwl.iri(), c), c);
-            }
-			final JsonLdType annJsonLd = c.getDeclaredAnnotation(JsonLdType.class);
-            if (annJsonLd != null) {
-                map.register(BeanAnnotationProcessor.expandIriIfNecessary(annJsonLd.iri(), c), c);
-            }
-        }).processClasses((ClassLoader) classLoader, scanPath);
+        new ClasspathScanner(c -> registerType(map, c)).processClasses((ClassLoader) classLoader, scanPath);
         return map;
     }
 
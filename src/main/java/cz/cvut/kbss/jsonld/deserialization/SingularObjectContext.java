@@ -45,7 +45,7 @@ class SingularObjectContext<T> extends InstanceContext<T> {
         assert !(instance instanceof Collection);
         try {
             final Object toSet = resolveAssignableValue(field.getType(), value);
-            BeanClassProcessor.setFieldValue(field, instance, toSet);
+            BeanClassProcessor.getFieldAccessor(field).setValue(instance, toSet);
         } catch (DatatypeMappingException e) {
             throw new JsonLdDeserializationException("Type mismatch when setting value " + value + " on field " + field + ".", e);
         }
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdDateTimeMapper;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.common.Configurable;
+import cz.cvut.kbss.jsonld.common.IsoDateTimeUtil;
 
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -29,15 +30,24 @@ class StringBasedDateTimeResolver implements Configurable {
 
     private DateTimeFormatter formatter;
 
+    // Pattern the current formatter was created from
+    private String pattern;
+
     OffsetDateTime resolve(String value) {
         assert value != null;
-        return formatter != null ? OffsetDateTime.parse(value, formatter) : XsdDateTimeMapper.map(value);
+        if (formatter != null) {
+            return OffsetDateTime.parse(value, formatter);
+        }
+        final OffsetDateTime result = IsoDateTimeUtil.parse(value);
+        return result != null ? result : XsdDateTimeMapper.map(value);
     }
 
     @Override
     public void configure(Configuration configuration) {
-        if (configuration.has(ConfigParam.DATE_TIME_FORMAT)) {
-            formatter = DateTimeFormatter.ofPattern(configuration.get(ConfigParam.DATE_TIME_FORMAT));
+        final String configuredPattern = configuration.get(ConfigParam.DATE_TIME_FORMAT);
+        if (configuredPattern != null && !configuredPattern.equals(pattern)) {
+            this.formatter = DateTimeFormatter.ofPattern(configuredPattern);
+            this.pattern = configuredPattern;
         }
     }
 }
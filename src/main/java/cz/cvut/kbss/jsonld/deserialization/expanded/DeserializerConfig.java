@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jsonld.deserialization.expanded;
 
 import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
 import cz.cvut.kbss.jsonld.deserialization.ValueDeserializers;
 import cz.cvut.kbss.jsonld.deserialization.util.TargetClassResolver;
 
@@ -26,11 +27,13 @@ class DeserializerConfig {
     private final Configuration configuration;
     private final TargetClassResolver targetResolver;
     private final ValueDeserializers deserializers;
+    private final BlankNodeIdGenerator blankNodeIdGenerator;
 
     DeserializerConfig(Configuration configuration, TargetClassResolver targetResolver, ValueDeserializers deserializers) {
         this.configuration = configuration;
         this.targetResolver = targetResolver;
         this.deserializers = deserializers;
+        this.blankNodeIdGenerator = BlankNodeIdGenerator.create(configuration);
     }
 
     Configuration getConfiguration() {
@@ -44,4 +47,8 @@ class DeserializerConfig {
     ValueDeserializers getDeserializers() {
         return deserializers;
     }
+
+    BlankNodeIdGenerator getBlankNodeIdGenerator() {
+        return blankNodeIdGenerator;
+    }
 }
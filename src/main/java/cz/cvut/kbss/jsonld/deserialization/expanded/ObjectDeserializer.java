@@ -20,7 +20,6 @@ package cz.cvut.kbss.jsonld.deserialization.expanded;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.JsonLd;
 import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
-import cz.cvut.kbss.jsonld.common.IdentifierUtil;
 import cz.cvut.kbss.jsonld.deserialization.InstanceBuilder;
 import cz.cvut.kbss.jsonld.deserialization.util.ValueUtils;
 import cz.cvut.kbss.jsonld.exception.JsonLdDeserializationException;
@@ -88,7 +87,7 @@ class ObjectDeserializer extends Deserializer<JsonObject> {
     }
 
     private String getId(JsonObject object) {
-        return object.containsKey(JsonLd.ID) ? ValueUtils.stringValue(object.get(JsonLd.ID)) : IdentifierUtil.generateBlankNodeId();
+        return object.containsKey(JsonLd.ID) ? ValueUtils.stringValue(object.get(JsonLd.ID)) : config.getBlankNodeIdGenerator().generateId();
     }
 
     private List<String> orderAttributesForProcessing(JsonObject value) {
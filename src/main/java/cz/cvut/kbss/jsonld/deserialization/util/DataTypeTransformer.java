@@ -83,7 +83,7 @@ public class DataTypeTransformer {
      * @throws InvalidEnumMappingException When no matching enum constant is found for the specified identifier
      */
     public static <T extends Enum<T>> T transformIndividualToEnumConstant(String identifier, Class<T> targetClass) {
-        return EnumUtil.findMatchingConstant(targetClass, (e, iri) -> iri.equals(identifier), (e, iri) -> e)
+        return EnumUtil.findConstantForIndividual(targetClass, identifier)
                        .orElseThrow(() -> new InvalidEnumMappingException(
                                "No matching constant found for individual <" + identifier + "> in target class " + targetClass));
     }
@@ -0,0 +1,324 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.processor;
+
+import cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Annotation processor generating {@link cz.cvut.kbss.jsonld.common.GeneratedMapping}s for mapped classes.
+ * <p>
+ * For every class annotated with {@link cz.cvut.kbss.jopa.model.annotations.OWLClass},
+ * {@link cz.cvut.kbss.jsonld.annotation.JsonLdType} or {@link cz.cvut.kbss.jopa.model.annotations.MappedSuperclass},
+ * a class named {@code <ClassName>_JsonLdMapping} is generated into the same package. It provides field accessors and
+ * instance supplier, so that field values are not read and written and instances are not created reflectively. The
+ * generated mappings are registered as services and picked up by
+ * {@link cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry}.
+ * <p>
+ * Mapped fields (i.e., {@code @Id}, {@code @Types}, {@code @Properties} and OWL property fields) which are not private
+ * are accessed directly, private fields are accessed using {@link java.lang.invoke.VarHandle}s obtained by the
+ * generated class (which resides in the same package and module). Accessor methods are never used, as they may have
+ * side effects. Final fields are skipped and accessed through method handles at runtime.
+ * <p>
+ * Note that only field access and instantiation are generated. Class metadata (attribute IRIs, identifier, types and
+ * properties fields) are still resolved from annotations via reflection, once per class, and the serialization and
+ * deserialization logic itself is not generated.
+ * <p>
+ * The processor is not registered automatically, it has to be enabled explicitly, e.g., using the
+ * {@code -processor cz.cvut.kbss.jsonld.processor.JsonLdMappingProcessor} compiler option.
+ */
+@SupportedAnnotationTypes({JsonLdMappingProcessor.OWL_CLASS, JsonLdMappingProcessor.JSON_LD_TYPE,
+        JsonLdMappingProcessor.MAPPED_SUPERCLASS})
+public class JsonLdMappingProcessor extends AbstractProcessor {
+
+    static final String OWL_CLASS = "cz.cvut.kbss.jopa.model.annotations.OWLClass";
+    static final String JSON_LD_TYPE = "cz.cvut.kbss.jsonld.annotation.JsonLdType";
+    static final String MAPPED_SUPERCLASS = "cz.cvut.kbss.jopa.model.annotations.MappedSuperclass";
+
+    /**
+     * Suffix of the generated mapping class name.
+     */
+    public static final String MAPPING_CLASS_SUFFIX = GeneratedMappingRegistry.MAPPING_CLASS_SUFFIX;
+
+    static final String SERVICE_FILE = "META-INF/services/cz.cvut.kbss.jsonld.common.GeneratedMapping";
+
+    private static final Set<String> MAPPED_FIELD_ANNOTATIONS = Set.of("cz.cvut.kbss.jopa.model.annotations.Id",
+            "cz.cvut.kbss.jopa.model.annotations.Types", "cz.cvut.kbss.jopa.model.annotations.Properties",
+            "cz.cvut.kbss.jopa.model.annotations.OWLDataProperty",
+            "cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty",
+            "cz.cvut.kbss.jopa.model.annotations.OWLAnnotationProperty");
+
+    private final Set<String> processed = new LinkedHashSet<>();
+
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS &&
+                        processed.add(((TypeElement) element).getQualifiedName().toString())) {
+                    processClass((TypeElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+        }
+        // Do not claim the annotations, other processors may be interested in them as well
+        return false;
+    }
+
+    private void processClass(TypeElement type) {
+        if (!isAccessible(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Skipping JSON-LD mapping generation for inaccessible class " + type.getQualifiedName(), type);
+            return;
+        }
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String mappingName = mappingClassName(type);
+        final String fqn = packageName.isEmpty() ? mappingName : packageName + "." + mappingName;
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(fqn, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(generateSource(type, packageName, mappingName));
+            }
+            generated.add(fqn);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate JSON-LD mapping for " + type.getQualifiedName() + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement t) {
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = t.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static String mappingClassName(TypeElement type) {
+        final StringBuilder sb = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement t) {
+            sb.insert(0, t.getSimpleName() + "_");
+            enclosing = t.getEnclosingElement();
+        }
+        return sb.append(MAPPING_CLASS_SUFFIX).toString();
+    }
+
+    private String generateSource(TypeElement type, String packageName, String mappingName) {
+        final String typeName = type.getQualifiedName().toString();
+        final StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(mappingName)
+          .append(" implements cz.cvut.kbss.jsonld.common.GeneratedMapping<").append(typeName).append("> {\n\n");
+        sb.append("    private static final java.util.Map<String, cz.cvut.kbss.jsonld.common.FieldAccessor> ACCESSORS")
+          .append(" = java.util.Map.ofEntries(");
+        final List<String> accessors = new ArrayList<>();
+        final List<String> varHandles = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (isMappedField(field)) {
+                generateAccessor(type, field, varHandles).ifPresent(accessors::add);
+            }
+        }
+        sb.append(String.join(",", accessors)).append(");\n\n");
+        if (!varHandles.isEmpty()) {
+            varHandles.forEach(sb::append);
+            sb.append("\n");
+            generateVarHandleFactory(sb, typeName);
+        }
+        sb.append("    @Override\n");
+        sb.append("    public Class<").append(typeName).append("> getMappedClass() {\n");
+        sb.append("        return ").append(typeName).append(".class;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public java.util.Map<String, cz.cvut.kbss.jsonld.common.FieldAccessor> getFieldAccessors() {\n");
+        sb.append("        return ACCESSORS;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public java.util.Optional<java.util.function.Supplier<").append(typeName)
+          .append(">> getInstanceSupplier() {\n");
+        if (isInstantiable(type)) {
+            sb.append("        return java.util.Optional.of(").append(typeName).append("::new);\n");
+        } else {
+            sb.append("        return java.util.Optional.empty();\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static boolean isMappedField(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (AnnotationMirror am : field.getAnnotationMirrors()) {
+            final TypeElement annType = (TypeElement) am.getAnnotationType().asElement();
+            if (MAPPED_FIELD_ANNOTATIONS.contains(annType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<String> generateAccessor(TypeElement type, VariableElement field, List<String> varHandles) {
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            // Cannot be set by the generated class, leave it to the runtime fallback
+            return Optional.empty();
+        }
+        final String typeName = type.getQualifiedName().toString();
+        final String fieldName = field.getSimpleName().toString();
+        final String fieldType = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+        final String getter;
+        final String setter;
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            final String handle = "HANDLE_" + fieldName;
+            varHandles.add("    private static final java.lang.invoke.VarHandle " + handle + " = varHandle(\"" +
+                                   fieldName + "\", " + fieldType + ".class);\n");
+            getter = "(Object) " + handle + ".get((" + typeName + ") instance)";
+            setter = handle + ".set((" + typeName + ") instance, (" + fieldType + ") value)";
+        } else {
+            getter = "((" + typeName + ") instance)." + fieldName;
+            setter = "((" + typeName + ") instance)." + fieldName + " = (" + fieldType + ") value";
+        }
+        return Optional.of("\n            java.util.Map.entry(\"" + fieldName +
+                "\", new cz.cvut.kbss.jsonld.common.FieldAccessor() {\n" +
+                "                @Override\n" +
+                "                public Object getValue(Object instance) {\n" +
+                "                    return " + getter + ";\n" +
+                "                }\n\n" +
+                "                @Override\n" +
+                "                public void setValue(Object instance, Object value) {\n" +
+                "                    try {\n" +
+                "                        " + setter + ";\n" +
+                "                    } catch (ClassCastException | NullPointerException e) {\n" +
+                "                        throw new IllegalArgumentException(\"Cannot set value \" + value + \" on field " +
+                fieldName + " of " + typeName + "\", e);\n" +
+                "                    }\n" +
+                "                }\n" +
+                "            })");
+    }
+
+    private static void generateVarHandleFactory(StringBuilder sb, String typeName) {
+        sb.append("    private static java.lang.invoke.VarHandle varHandle(String name, Class<?> type) {\n");
+        sb.append("        try {\n");
+        sb.append("            return java.lang.invoke.MethodHandles.privateLookupIn(").append(typeName)
+          .append(".class, java.lang.invoke.MethodHandles.lookup())\n");
+        sb.append("                                                 .findVarHandle(").append(typeName)
+          .append(".class, name, type);\n");
+        sb.append("        } catch (ReflectiveOperationException e) {\n");
+        sb.append("            throw new ExceptionInInitializerError(e);\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+    }
+
+    private static boolean isInstantiable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        // Incremental compilation processes only the changed sources, so keep mappings registered by previous builds
+        final Set<String> registered = readServiceFile();
+        registered.addAll(generated);
+        try {
+            final FileObject file =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String name : registered) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to register generated JSON-LD mappings: " + e.getMessage());
+        }
+    }
+
+    private Set<String> readServiceFile() {
+        final Set<String> result = new LinkedHashSet<>();
+        try {
+            final FileObject file =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int commentStart = line.indexOf('#');
+                    final String name = (commentStart >= 0 ? line.substring(0, commentStart) : line).trim();
+                    if (!name.isEmpty()) {
+                        result.add(name);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // The service file does not exist yet
+        }
+        return result;
+    }
+}
@@ -19,7 +19,10 @@ package cz.cvut.kbss.jsonld.serialization;
 
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
 import cz.cvut.kbss.jsonld.serialization.context.DummyJsonLdContext;
+import cz.cvut.kbss.jsonld.serialization.direct.DirectObjectWriter;
+import cz.cvut.kbss.jsonld.serialization.model.CollectionNode;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.serializer.LiteralValueSerializers;
 import cz.cvut.kbss.jsonld.serialization.serializer.ObjectGraphValueSerializers;
@@ -40,7 +43,10 @@ import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContextFactory;
 
 import java.time.Duration;
 import java.time.Period;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * JSON-LD serializer outputting compacted context-less JSON-LD.
@@ -57,8 +63,17 @@ public class CompactedJsonLdSerializer extends JsonLdSerializer {
         super(jsonGenerator, configuration);
     }
 
+    CompactedJsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration,
+                              ValueSerializers serializers) {
+        super(jsonGenerator, configuration, serializers);
+    }
+
     @Override
     protected ValueSerializers initSerializers() {
+        return createValueSerializers();
+    }
+
+    static ValueSerializers createValueSerializers() {
         final LiteralValueSerializers valueSerializers =
                 new LiteralValueSerializers(new DefaultValueSerializer(new MultilingualStringSerializer()));
         valueSerializers.registerIdentifierSerializer(new IdentifierSerializer());
@@ -77,21 +92,97 @@ public class CompactedJsonLdSerializer extends JsonLdSerializer {
         return valueSerializers;
     }
 
+    @Override
+    public void serialize(Object root) {
+        Objects.requireNonNull(root);
+        if (!(root instanceof Collection<?> collection && collection.isEmpty()) && canWriteWithoutTree(root)) {
+            configureSerializers();
+            writeWithoutTree(root);
+            return;
+        }
+        super.serialize(root);
+    }
+
+    @Override
+    protected void writeItem(Object item) {
+        if (canWriteWithoutTree(item)) {
+            writeWithoutTree(item);
+        } else {
+            super.writeItem(item);
+        }
+    }
+
+    private boolean canWriteWithoutTree(Object root) {
+        return configuration().is(ConfigParam.ENABLE_STREAMING_SERIALIZATION) || getDirectWriter(root).isPresent();
+    }
+
+    private Optional<DirectObjectWriter> getDirectWriter(Object root) {
+        if (configuration().is(ConfigParam.ENABLE_DIRECT_SERIALIZATION) &&
+                !serializers.hasCustomSerializer(root.getClass())) {
+            return DirectObjectWriter.forClass(root.getClass());
+        }
+        return Optional.empty();
+    }
+
+    private void writeWithoutTree(Object root) {
+        final Optional<DirectObjectWriter> writer = getDirectWriter(root);
+        if (writer.isPresent()) {
+            final ObjectGraphTraverser traverser = initTraverser();
+            final ValueSerializers graphSerializers = initObjectGraphSerializers(traverser);
+            traverser.setVisitor(new StreamingJsonLdWriter(graphSerializers, DummyJsonLdContext.INSTANCE,
+                                                         jsonGenerator));
+            writer.get().write(root, graphSerializers, traverser, jsonGenerator);
+        } else {
+            writeJsonStream(root);
+        }
+    }
+
     @Override
     protected JsonNode buildJsonTree(Object root) {
-        final ObjectGraphTraverser traverser = new ObjectGraphTraverser(new SerializationContextFactory(
-                DummyJsonLdContext.INSTANCE));
-        traverser.setRequireId(configuration().is(ConfigParam.REQUIRE_ID));
-        final JsonLdTreeBuilder treeBuilder = initTreeBuilder(traverser);
+        if (root instanceof Collection<?> items && ParallelCollectionSerializer.isApplicable(configuration(), items)) {
+            return buildCollectionInParallel(items);
+        }
+        final ObjectGraphTraverser traverser = initTraverser();
+        final JsonLdTreeBuilder treeBuilder = new JsonLdTreeBuilder(initObjectGraphSerializers(traverser),
+                                                                    DummyJsonLdContext.INSTANCE);
         traverser.setVisitor(treeBuilder);
         traverser.traverse(root);
         return treeBuilder.getTreeRoot();
     }
 
-    private JsonLdTreeBuilder initTreeBuilder(ObjectGraphTraverser traverser) {
+    private JsonNode buildCollectionInParallel(Collection<?> items) {
+        final CollectionNode<?> result = JsonNodeFactory.createCollectionNode(null, items);
+        new ParallelCollectionSerializer(configuration()).serialize(items, () -> {
+            final ObjectGraphTraverser traverser = initTraverser();
+            return new ParallelCollectionSerializer.Chunk(traverser, initObjectGraphSerializers(traverser),
+                                                          DummyJsonLdContext.INSTANCE, DummyJsonLdContext.INSTANCE);
+        }).forEach(chunk -> chunk.getNodes().forEach(result::addItem));
+        return result;
+    }
+
+    /**
+     * Writes the object graph directly into the JSON generator as it is traversed, without building a JSON-LD tree.
+     *
+     * @param root Object graph root
+     */
+    protected void writeJsonStream(Object root) {
+        final ObjectGraphTraverser traverser = initTraverser();
+        traverser.setVisitor(new StreamingJsonLdWriter(initObjectGraphSerializers(traverser),
+                                                     DummyJsonLdContext.INSTANCE, jsonGenerator));
+        traverser.traverse(root);
+    }
+
+    protected ObjectGraphTraverser initTraverser() {
+        final ObjectGraphTraverser traverser = new ObjectGraphTraverser(new SerializationContextFactory(
+                DummyJsonLdContext.INSTANCE));
+        traverser.setRequireId(configuration().is(ConfigParam.REQUIRE_ID));
+        traverser.setBlankNodeIdGenerator(BlankNodeIdGenerator.create(configuration()));
+        return traverser;
+    }
+
+    protected ValueSerializers initObjectGraphSerializers(ObjectGraphTraverser traverser) {
         final ObjectPropertyValueSerializer opSerializer = new ObjectPropertyValueSerializer(traverser);
         opSerializer.configure(configuration());
-        return new JsonLdTreeBuilder(new ObjectGraphValueSerializers(serializers, opSerializer),
-                                     DummyJsonLdContext.INSTANCE);
+        return new ObjectGraphValueSerializers(serializers, opSerializer);
     }
 }
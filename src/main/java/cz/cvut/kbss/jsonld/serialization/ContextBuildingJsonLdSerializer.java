@@ -20,15 +20,22 @@ package cz.cvut.kbss.jsonld.serialization;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
 import cz.cvut.kbss.jsonld.JsonLd;
 import cz.cvut.kbss.jsonld.exception.AmbiguousTermMappingException;
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+import cz.cvut.kbss.jsonld.serialization.context.HoistingJsonLdContextFactory;
+import cz.cvut.kbss.jsonld.serialization.context.IriCompactor;
 import cz.cvut.kbss.jsonld.serialization.context.JsonLdContext;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextCache;
 import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextFactory;
 import cz.cvut.kbss.jsonld.serialization.context.MappingJsonLdContextFactory;
+import cz.cvut.kbss.jsonld.serialization.model.CachedObjectNode;
 import cz.cvut.kbss.jsonld.serialization.model.CollectionNode;
 import cz.cvut.kbss.jsonld.serialization.model.CompositeNode;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.model.StringLiteralNode;
 import cz.cvut.kbss.jsonld.serialization.serializer.LiteralValueSerializers;
 import cz.cvut.kbss.jsonld.serialization.serializer.ObjectGraphValueSerializers;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
@@ -46,12 +53,18 @@ import cz.cvut.kbss.jsonld.serialization.serializer.context.datetime.ContextBuil
 import cz.cvut.kbss.jsonld.serialization.serializer.context.datetime.ContextBuildingTemporalSerializer;
 import cz.cvut.kbss.jsonld.serialization.serializer.datetime.DateSerializer;
 import cz.cvut.kbss.jsonld.serialization.traversal.ObjectGraphTraverser;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
 import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContextFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Period;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -59,16 +72,34 @@ import java.util.Optional;
  */
 public class ContextBuildingJsonLdSerializer extends JsonLdSerializer {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ContextBuildingJsonLdSerializer.class);
+
+    private static final EncodedFieldName GRAPH = EncodedFieldName.of(JsonLd.GRAPH);
+
+    private final JsonLdContextCache contextCache;
+
     ContextBuildingJsonLdSerializer(JsonGenerator jsonGenerator) {
         super(jsonGenerator);
+        this.contextCache = new JsonLdContextCache();
     }
 
     ContextBuildingJsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration) {
         super(jsonGenerator, configuration);
+        this.contextCache = new JsonLdContextCache();
+    }
+
+    ContextBuildingJsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration,
+                                    ValueSerializers serializers, JsonLdContextCache contextCache) {
+        super(jsonGenerator, configuration, serializers);
+        this.contextCache = Objects.requireNonNull(contextCache);
     }
 
     @Override
     protected ValueSerializers initSerializers() {
+        return createValueSerializers();
+    }
+
+    static ValueSerializers createValueSerializers() {
         final ValueSerializer<MultilingualString> mlsSerializer = new ContextBuildingMultilingualStringSerializer();
         final ValueSerializer<Collection<MultilingualString>> mlsColSerializer =
                 new ContextBuildingPluralMultilingualStringSerializer();
@@ -92,24 +123,193 @@ public class ContextBuildingJsonLdSerializer extends JsonLdSerializer {
         return valueSerializers;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Registering a serializer invalidates all cached JSON-LD contexts.
+     */
+    @Override
+    public <T> void registerSerializer(Class<T> type, ValueSerializer<T> serializer) {
+        super.registerSerializer(type, serializer);
+        contextCache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Updating the configuration invalidates all cached JSON-LD contexts.
+     */
+    @Override
+    public void updateConfiguration(Configuration configuration) {
+        super.updateConfiguration(configuration);
+        contextCache.clear();
+    }
+
+    @Override
+    public void serialize(Object root) {
+        Objects.requireNonNull(root);
+        if (configuration().is(ConfigParam.ENABLE_STREAMING_SERIALIZATION) &&
+                !(root instanceof Collection<?> collection && collection.isEmpty()) &&
+                !serializers.hasCustomSerializer(root.getClass())) {
+            configureSerializers();
+            if (writeJsonStream(root)) {
+                return;
+            }
+        }
+        super.serialize(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each item is written with its own root context.
+     */
+    @Override
+    protected void writeItem(Object item) {
+        if (configuration().is(ConfigParam.ENABLE_STREAMING_SERIALIZATION) &&
+                !(item instanceof Collection<?> collection && collection.isEmpty()) &&
+                !serializers.hasCustomSerializer(item.getClass()) && writeJsonStream(item)) {
+            return;
+        }
+        super.writeItem(item);
+    }
+
+    /**
+     * Writes the object graph directly into the JSON generator, without building a JSON-LD tree.
+     * <p>
+     * The serialization is done in two passes. The first one traverses the object graph and only collects term
+     * mappings, so that the complete context is known before the output is written in the second pass.
+     * <p>
+     * Object graphs requiring embedded contexts cannot be streamed, because the embedded contexts would have to be
+     * written before the terms they define are discovered.
+     *
+     * @param root Object graph root
+     * @return {@code true} if the object graph has been written, {@code false} if it requires embedded contexts and
+     * has to be serialized using a JSON-LD tree
+     */
+    protected boolean writeJsonStream(Object root) {
+        final JsonLdContextFactory jsonLdContextFactory = initJsonLdContextFactory();
+        final JsonLdContext rootContext = createRootContext(jsonLdContextFactory, root);
+        final IriCompactor iriCompactor = initIriCompactor(rootContext);
+        final ObjectGraphTraverser collectingTraverser = initTraverser(rootContext, iriCompactor);
+        final TermMappingCollector collector =
+                new TermMappingCollector(initObjectGraphSerializers(collectingTraverser), jsonLdContextFactory);
+        collectingTraverser.setVisitor(collector);
+        traverseRoot(collectingTraverser, root);
+        if (collector.isEmbeddedContextRequired()) {
+            return false;
+        }
+        final ObjectNode contextNode = rootContext.getContextNode();
+        cacheRootContext(root, contextNode);
+
+        final ObjectGraphTraverser traverser = initTraverser(rootContext, iriCompactor);
+        final ValueSerializers objectGraphSerializers = initObjectGraphSerializers(traverser);
+        try {
+            if (root instanceof Collection<?> items) {
+                jsonGenerator.writeObjectStart();
+                toOutputContextNode(contextNode).write(jsonGenerator);
+                jsonGenerator.writeFieldName(GRAPH);
+                jsonGenerator.writeArrayStart();
+                traverser.setVisitor(
+                        new StreamingJsonLdWriter(objectGraphSerializers, jsonLdContextFactory, jsonGenerator));
+                items.forEach(traverser::traverse);
+                jsonGenerator.writeArrayEnd();
+                jsonGenerator.writeObjectEnd();
+            } else {
+                traverser.setVisitor(new RootContextStreamingWriter(objectGraphSerializers, jsonLdContextFactory,
+                                                                    jsonGenerator,
+                                                                    toOutputContextNode(contextNode)));
+                traverser.traverse(root);
+            }
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to serialize object graph with root " + root, e);
+        }
+        return true;
+    }
+
+    private static void traverseRoot(ObjectGraphTraverser traverser, Object root) {
+        if (root instanceof Collection<?> items) {
+            items.forEach(traverser::traverse);
+        } else {
+            traverser.traverse(root);
+        }
+    }
+
     @Override
     protected JsonNode buildJsonTree(Object root) {
-        final JsonLdContextFactory jsonLdContextFactory = new MappingJsonLdContextFactory();
-        final JsonLdContext rootContext = jsonLdContextFactory.createJsonLdContext();
-        final ObjectGraphTraverser traverser =
-                new ObjectGraphTraverser(new SerializationContextFactory(rootContext));
-        traverser.setRequireId(configuration().is(ConfigParam.REQUIRE_ID));
+        if (root instanceof Collection<?> items && isParallelSerializationApplicable(items)) {
+            final Optional<JsonNode> result = buildObjectWithContextAndGraphInParallel(items);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        final JsonLdContextFactory jsonLdContextFactory = initJsonLdContextFactory();
+        final JsonLdContext rootContext = createRootContext(jsonLdContextFactory, root);
+        final ObjectGraphTraverser traverser = initTraverser(rootContext, initIriCompactor(rootContext));
         if (root instanceof Collection) {
             return buildObjectWithContextAndGraph(traverser, rootContext, jsonLdContextFactory, (Collection<?>) root);
         }
         final JsonLdTreeBuilder treeBuilder = initTreeBuilder(traverser, jsonLdContextFactory);
         traverser.setVisitor(treeBuilder);
         traverser.traverse(root);
-        ensureContextNodeNotPresent(treeBuilder.getTreeRoot(), rootContext.getContextNode());
-        treeBuilder.getTreeRoot().prependItem(rootContext.getContextNode());
+        final ObjectNode contextNode = rootContext.getContextNode();
+        ensureContextNodeNotPresent(treeBuilder.getTreeRoot(), contextNode);
+        treeBuilder.getTreeRoot().prependItem(toOutputContextNode(contextNode));
+        cacheRootContext(root, contextNode);
         return treeBuilder.getTreeRoot();
     }
 
+    private boolean isContextHoisted() {
+        return configuration().is(ConfigParam.HOIST_CONTEXT_TERMS);
+    }
+
+    private JsonLdContextFactory initJsonLdContextFactory() {
+        return isContextHoisted() ? new HoistingJsonLdContextFactory() : new MappingJsonLdContextFactory();
+    }
+
+    private JsonLdContext createRootContext(JsonLdContextFactory jsonLdContextFactory, Object root) {
+        if (isContextHoisted()) {
+            // Generated terms depend on the order in which conflicts are discovered, so hoisted contexts are not cached
+            return jsonLdContextFactory.createJsonLdContext();
+        }
+        return contextCache.createRootContext(root);
+    }
+
+    private void cacheRootContext(Object root, ObjectNode contextNode) {
+        if (!isContextHoisted()) {
+            // Cached context is serialized once and then output as a raw fragment
+            contextCache.put(root, contextNode instanceof CachedObjectNode ? contextNode :
+                                   new CachedObjectNode(contextNode));
+        }
+    }
+
+    /**
+     * Gets the root context node to output.
+     * <p>
+     * That is, a reference to {@link ConfigParam#CONTEXT_URL} if it is configured, the generated context otherwise.
+     */
+    private JsonNode toOutputContextNode(ObjectNode contextNode) {
+        final String contextUrl = configuration().get(ConfigParam.CONTEXT_URL);
+        return contextUrl != null ? JsonNodeFactory.createStringLiteralNode(JsonLd.CONTEXT, contextUrl) : contextNode;
+    }
+
+    private IriCompactor initIriCompactor(JsonLdContext rootContext) {
+        final boolean usePrefixes = configuration().is(ConfigParam.COMPACT_IRIS);
+        final String vocab = configuration().get(ConfigParam.VOCAB);
+        if (!usePrefixes && vocab == null) {
+            return null;
+        }
+        return new IriCompactor(rootContext, usePrefixes, vocab);
+    }
+
+    private ObjectGraphTraverser initTraverser(JsonLdContext rootContext, IriCompactor iriCompactor) {
+        final ObjectGraphTraverser traverser =
+                new ObjectGraphTraverser(new SerializationContextFactory(rootContext, iriCompactor));
+        traverser.setRequireId(configuration().is(ConfigParam.REQUIRE_ID));
+        traverser.setBlankNodeIdGenerator(BlankNodeIdGenerator.create(configuration()));
+        return traverser;
+    }
+
     private void ensureContextNodeNotPresent(CompositeNode<?> root, JsonNode rootCtx) {
         final Optional<JsonNode> ctxNode =
                 root.getItems().stream().filter(n -> JsonLd.CONTEXT.equals(n.getName())).findAny();
@@ -121,10 +321,14 @@ public class ContextBuildingJsonLdSerializer extends JsonLdSerializer {
 
     private JsonLdTreeBuilder initTreeBuilder(ObjectGraphTraverser traverser,
                                               JsonLdContextFactory jsonLdContextFactory) {
+        return new JsonLdTreeBuilder(initObjectGraphSerializers(traverser), jsonLdContextFactory);
+    }
+
+    private ValueSerializers initObjectGraphSerializers(ObjectGraphTraverser traverser) {
         final ContextBuildingObjectPropertyValueSerializer opSerializer =
                 new ContextBuildingObjectPropertyValueSerializer(traverser);
         opSerializer.configure(configuration());
-        return new JsonLdTreeBuilder(new ObjectGraphValueSerializers(serializers, opSerializer), jsonLdContextFactory);
+        return new ObjectGraphValueSerializers(serializers, opSerializer);
     }
 
     private JsonNode buildObjectWithContextAndGraph(ObjectGraphTraverser traverser, JsonLdContext rootContext,
@@ -138,8 +342,94 @@ public class ContextBuildingJsonLdSerializer extends JsonLdSerializer {
             return treeBuilder.getTreeRoot();
         }).forEach(graph::addItem);
         final ObjectNode result = JsonNodeFactory.createObjectNode();
-        result.addItem(rootContext.getContextNode());
+        final ObjectNode contextNode = rootContext.getContextNode();
+        cacheRootContext(items, contextNode);
+        result.addItem(toOutputContextNode(contextNode));
         result.addItem(graph);
         return result;
     }
+
+    private boolean isParallelSerializationApplicable(Collection<?> items) {
+        // Hoisted terms and compact IRIs depend on the order in which the object graph is traversed
+        return ParallelCollectionSerializer.isApplicable(configuration(), items) && !isContextHoisted() &&
+                !configuration().is(ConfigParam.COMPACT_IRIS) && !configuration().has(ConfigParam.VOCAB);
+    }
+
+    /**
+     * Serializes elements of the specified root collection in parallel, each chunk of them using its own root context.
+     * <p>
+     * The chunk contexts are then merged into the resulting root context. Chunk contexts also contain terms of subtrees
+     * which are turned into references to instances serialized by other chunks, so the resulting context may define
+     * terms not used by the output and a conflict in such terms makes the collection serialized sequentially as well.
+     *
+     * @param items Root collection
+     * @return Serialized collection, empty {@code Optional} if the chunks map a term inconsistently and the collection
+     * has to be serialized sequentially
+     */
+    private Optional<JsonNode> buildObjectWithContextAndGraphInParallel(Collection<?> items) {
+        final JsonLdContextFactory jsonLdContextFactory = new MappingJsonLdContextFactory();
+        final List<ParallelCollectionSerializer.Chunk> chunks =
+                new ParallelCollectionSerializer(configuration()).serialize(items, () -> {
+                    final JsonLdContext chunkContext = jsonLdContextFactory.createJsonLdContext();
+                    final ObjectGraphTraverser traverser = initTraverser(chunkContext, null);
+                    return new ParallelCollectionSerializer.Chunk(traverser, initObjectGraphSerializers(traverser),
+                                                                  jsonLdContextFactory, chunkContext);
+                });
+        final JsonLdContext rootContext = jsonLdContextFactory.createJsonLdContext();
+        for (ParallelCollectionSerializer.Chunk chunk : chunks) {
+            for (JsonNode termDefinition : chunk.getRootContext().getContextNode().getItems()) {
+                final Optional<JsonNode> existing = rootContext.getTermMapping(termDefinition.getName());
+                if (existing.isPresent() && !existing.get().equals(termDefinition)) {
+                    LOG.trace("Term '{}' is mapped inconsistently by parallel chunks, serializing sequentially.",
+                              termDefinition.getName());
+                    return Optional.empty();
+                }
+                if (existing.isEmpty()) {
+                    registerTermDefinition(rootContext, termDefinition);
+                }
+            }
+        }
+        final ObjectNode contextNode = rootContext.getContextNode();
+        // Make terms registered by other chunks available to nodes resolving their attribute name on write (e.g., types)
+        chunks.forEach(chunk -> contextNode.getItems().stream()
+                                           .filter(t -> !chunk.getRootContext().hasTermMapping(t.getName()))
+                                           .forEach(t -> registerTermDefinition(chunk.getRootContext(), t)));
+        final CollectionNode<?> graph = JsonNodeFactory.createCollectionNodeFromArray(JsonLd.GRAPH);
+        chunks.forEach(chunk -> chunk.getNodes().forEach(graph::addItem));
+        final ObjectNode result = JsonNodeFactory.createObjectNode();
+        result.addItem(toOutputContextNode(contextNode));
+        result.addItem(graph);
+        return Optional.of(result);
+    }
+
+    private static void registerTermDefinition(JsonLdContext context, JsonNode termDefinition) {
+        if (termDefinition instanceof ObjectNode expandedDefinition) {
+            context.registerTermMapping(termDefinition.getName(), expandedDefinition);
+        } else {
+            context.registerTermMapping(termDefinition.getName(), ((StringLiteralNode) termDefinition).getValue());
+        }
+    }
+
+    /**
+     * Streaming writer which outputs the (already complete) root context as the first attribute of the root object.
+     */
+    private static class RootContextStreamingWriter extends StreamingJsonLdWriter {
+
+        private JsonNode rootContextNode;
+
+        private RootContextStreamingWriter(ValueSerializers serializers, JsonLdContextFactory jsonLdContextFactory,
+                                           JsonGenerator jsonGenerator, JsonNode rootContextNode) {
+            super(serializers, jsonLdContextFactory, jsonGenerator);
+            this.rootContextNode = rootContextNode;
+        }
+
+        @Override
+        public void openObject(SerializationContext<?> ctx) {
+            super.openObject(ctx);
+            if (rootContextNode != null) {
+                rootContextNode.write(jsonGenerator);
+                this.rootContextNode = null;
+            }
+        }
+    }
 }
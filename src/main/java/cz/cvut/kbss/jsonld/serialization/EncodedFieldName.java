@@ -0,0 +1,121 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.common.ClassMetadata;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * JSON object field name whose encoded form can be computed once and reused by generators.
+ * <p>
+ * Instances are meant to be held by long-lived objects writing the same key over and over, e.g., for JSON-LD keywords
+ * or attribute terms of mapped classes (see {@link #forAttribute(Field, String)}). Generators which do not support
+ * pre-encoded names simply write {@link #getValue()}.
+ */
+public final class EncodedFieldName {
+
+    // Terms of attributes declared by a class, i.e., attribute identifiers and field names
+    private static final ClassValue<Map<String, EncodedFieldName>> ATTRIBUTE_TERMS = new ClassValue<>() {
+        @Override
+        protected Map<String, EncodedFieldName> computeValue(Class<?> type) {
+            final ClassMetadata metadata = BeanAnnotationProcessor.getClassMetadata(type);
+            final Map<String, EncodedFieldName> result = new HashMap<>();
+            for (Field f : metadata.getAttributeFields()) {
+                if (f.getDeclaringClass() == type) {
+                    final String identifier = metadata.getAttributeIdentifier(f);
+                    if (identifier != null) {
+                        result.put(identifier, new EncodedFieldName(identifier));
+                    }
+                    result.put(f.getName(), new EncodedFieldName(f.getName()));
+                }
+            }
+            return result.isEmpty() ? Collections.emptyMap() : result;
+        }
+    };
+
+    private final String value;
+
+    private volatile byte[] utf8;
+
+    private EncodedFieldName(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates an encoded field name for the specified name.
+     * <p>
+     * The name is encoded lazily, on first use by a generator supporting pre-encoded names.
+     *
+     * @param name Field name
+     * @return New encoded field name
+     */
+    public static EncodedFieldName of(String name) {
+        return new EncodedFieldName(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Gets a shared encoded field name for the specified term of the specified attribute.
+     * <p>
+     * Only the attribute identifier and the field name are supported as terms, so that data-dependent keys are never
+     * retained.
+     *
+     * @param field Attribute field, possibly {@code null}
+     * @param term  Term representing the attribute in the output, possibly {@code null}
+     * @return Encoded term, empty if the term is not one of the supported attribute terms
+     */
+    public static Optional<EncodedFieldName> forAttribute(Field field, String term) {
+        if (field == null || term == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ATTRIBUTE_TERMS.get(field.getDeclaringClass()).get(term));
+    }
+
+    /**
+     * Gets the field name.
+     *
+     * @return Field name
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the field name as a quoted UTF-8 JSON string followed by the name separator (':').
+     */
+    byte[] getUtf8() throws IOException {
+        byte[] result = utf8;
+        if (result == null) {
+            result = Utf8JsonGenerator.encodeFieldName(value);
+            this.utf8 = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
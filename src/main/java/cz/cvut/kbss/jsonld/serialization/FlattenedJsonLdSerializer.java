@@ -0,0 +1,116 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.ObjectGraphTraverser;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * JSON-LD serializer outputting flattened context-less JSON-LD.
+ * <p>
+ * The output is an object with a top-level {@link cz.cvut.kbss.jsonld.JsonLd#GRAPH} containing every serialized node
+ * exactly once. Attributes referencing other nodes contain only their identifiers. As in
+ * {@link CompactedJsonLdSerializer}, attributes are mapped by their full IRIs.
+ */
+public class FlattenedJsonLdSerializer extends CompactedJsonLdSerializer {
+
+    private static final EncodedFieldName GRAPH = EncodedFieldName.of(JsonLd.GRAPH);
+
+    public FlattenedJsonLdSerializer(JsonGenerator jsonGenerator) {
+        super(jsonGenerator);
+    }
+
+    public FlattenedJsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration) {
+        super(jsonGenerator, configuration);
+    }
+
+    FlattenedJsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration,
+                              ValueSerializers serializers) {
+        super(jsonGenerator, configuration, serializers);
+    }
+
+    /**
+     * Serializes object graph with the specified root into a flattened JSON-LD document.
+     * <p>
+     * If the root is a collection, each of its elements becomes a node of the graph. Empty collection is serialized
+     * as an empty array, as by the other serializers. Direct and streaming serialization modes are not supported by
+     * this serializer.
+     *
+     * @param root Object graph root
+     */
+    @Override
+    public void serialize(Object root) {
+        Objects.requireNonNull(root);
+        final JsonNode jsonRoot;
+        if (root instanceof Collection<?> collection && collection.isEmpty()) {
+            jsonRoot = JsonNodeFactory.createArrayNode();
+        } else {
+            configureSerializers();
+            jsonRoot = buildJsonTree(root);
+        }
+        jsonRoot.write(jsonGenerator);
+    }
+
+    @Override
+    protected JsonNode buildJsonTree(Object root) {
+        return buildFlattenedTree(root).getTreeRoot();
+    }
+
+    private FlattenedJsonLdTreeBuilder buildFlattenedTree(Object root) {
+        final ObjectGraphTraverser traverser = initTraverser();
+        final FlattenedJsonLdTreeBuilder treeBuilder =
+                new FlattenedJsonLdTreeBuilder(initObjectGraphSerializers(traverser));
+        traverser.setVisitor(treeBuilder);
+        traverser.traverse(root);
+        return treeBuilder;
+    }
+
+    @Override
+    protected void writeItemsStart() throws IOException {
+        jsonGenerator.writeObjectStart();
+        jsonGenerator.writeFieldName(GRAPH);
+        jsonGenerator.writeArrayStart();
+    }
+
+    /**
+     * Writes graph nodes of the specified item.
+     * <p>
+     * All items are written into a single {@link JsonLd#GRAPH}. Since items are flattened independently of each
+     * other, a node reachable from several items appears in the graph once for each of them. JSON-LD processors merge
+     * such nodes.
+     *
+     * @param item Object graph root
+     */
+    @Override
+    protected void writeItem(Object item) {
+        buildFlattenedTree(item).getGraphNodes().forEach(node -> node.write(jsonGenerator));
+    }
+
+    @Override
+    protected void writeItemsEnd() throws IOException {
+        jsonGenerator.writeArrayEnd();
+        jsonGenerator.writeObjectEnd();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.model.CollectionNode;
+import cz.cvut.kbss.jsonld.serialization.model.CompositeNode;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.InstanceVisitor;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Stack;
+
+/**
+ * Builds a flattened JSON-LD tree from the traversed object graph.
+ * <p>
+ * Every object is added as a top-level node into {@link JsonLd#GRAPH} and the attributes referencing it contain only
+ * its identifier. Each identifier appears in the graph only once. If several distinct instances share an identifier,
+ * the first one encountered is used.
+ */
+public class FlattenedJsonLdTreeBuilder implements InstanceVisitor {
+
+    private final CollectionNode<?> graph = JsonNodeFactory.createCollectionNodeFromArray(JsonLd.GRAPH);
+
+    private final Set<String> graphNodeIds = new HashSet<>();
+
+    private final Stack<CompositeNode<?>> nodeStack = new Stack<>();
+    private CompositeNode<?> currentNode;
+
+    // Term of the attribute referencing the currently open object, used once its identifier is known
+    private String referencingTerm;
+
+    private final ValueSerializers serializers;
+
+    public FlattenedJsonLdTreeBuilder(ValueSerializers serializers) {
+        this.serializers = serializers;
+    }
+
+    @Override
+    public void visitIndividual(SerializationContext<?> ctx) {
+        final ValueSerializer s = serializers.getIndividualSerializer();
+        addNode(s.serialize(ctx.getValue(), ctx));
+    }
+
+    private void addNode(JsonNode node) {
+        if (currentNode != null) {
+            currentNode.addItem(node);
+        } else {
+            graph.addItem(node);
+        }
+    }
+
+    @Override
+    public boolean visitObject(SerializationContext<?> ctx) {
+        if (serializers.hasCustomSerializer(ctx.getValue().getClass())) {
+            final ValueSerializer serializer = serializers.getSerializer(ctx).get();
+            final JsonNode node = serializer.serialize(ctx.getValue(), ctx);
+            if (node != null) {
+                addNode(node);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void openObject(SerializationContext<?> ctx) {
+        nodeStack.push(currentNode);
+        this.currentNode = JsonNodeFactory.createObjectNode();
+        this.referencingTerm = ctx.getTerm();
+    }
+
+    @Override
+    public void visitIdentifier(SerializationContext<String> idCtx) {
+        final String id = idCtx.getValue();
+        currentNode.addItem(serializers.getIdentifierSerializer().serialize(id, idCtx));
+        final CompositeNode<?> parent = nodeStack.peek();
+        if (parent != null) {
+            final ObjectNode reference = JsonNodeFactory.createObjectNode(referencingTerm);
+            reference.addItem(JsonNodeFactory.createObjectIdNode(JsonLd.ID, id));
+            parent.addItem(reference);
+        }
+        if (graphNodeIds.add(id)) {
+            graph.addItem(currentNode);
+        }
+        // Otherwise the node is a repeated occurrence and only the reference to it is kept
+    }
+
+    @Override
+    public void closeObject(SerializationContext<?> ctx) {
+        currentNode.close();
+        this.currentNode = nodeStack.pop();
+    }
+
+    @Override
+    public void visitTypes(SerializationContext<Set<String>> typesCtx) {
+        currentNode.addItem(SerializerUtils.serializeTypes(serializers, typesCtx));
+    }
+
+    @Override
+    public void visitAttribute(SerializationContext<?> ctx) {
+        if (ctx.getValue() != null) {
+            assert currentNode != null;
+            final ValueSerializer serializer = serializers.getOrDefault(ctx);
+            final JsonNode node = serializer.serialize(ctx.getValue(), ctx);
+            if (node != null) {
+                currentNode.addItem(node);
+            }
+        }
+    }
+
+    @Override
+    public void openCollection(SerializationContext<? extends Collection<?>> ctx) {
+        final CollectionNode<?> collection = JsonNodeFactory.createCollectionNode(ctx.getTerm(), ctx.getValue());
+        // Root collection members are graph nodes, so the collection node itself is not part of the output
+        if (currentNode != null) {
+            currentNode.addItem(collection);
+        }
+        nodeStack.push(currentNode);
+        this.currentNode = collection;
+    }
+
+    @Override
+    public void closeCollection(SerializationContext<?> ctx) {
+        assert currentNode instanceof CollectionNode;
+        currentNode.close();
+        this.currentNode = nodeStack.pop();
+    }
+
+    /**
+     * Gets the flattened JSON-LD tree, i.e., an object containing the {@link JsonLd#GRAPH} of all serialized nodes.
+     *
+     * @return Root of the flattened tree
+     */
+    public ObjectNode getTreeRoot() {
+        final ObjectNode root = JsonNodeFactory.createObjectNode();
+        root.addItem(graph);
+        return root;
+    }
+
+    /**
+     * Gets nodes of the flattened graph.
+     *
+     * @return Graph nodes, in the order in which they were serialized
+     */
+    public Collection<JsonNode> getGraphNodes() {
+        return graph.getItems();
+    }
+}
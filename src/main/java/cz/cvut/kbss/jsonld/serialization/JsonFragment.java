@@ -0,0 +1,71 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Already serialized JSON value which can be written repeatedly without being serialized again.
+ * <p>
+ * The fragment is described by a writer producing the value using a {@link JsonGenerator}. Generators which support
+ * raw output serialize the fragment once and then copy the result, other generators just replay the writer.
+ * <p>
+ * The writer must always produce the same value, i.e., the data it writes must not change.
+ */
+public final class JsonFragment {
+
+    private final ValueWriter source;
+
+    private volatile byte[] utf8;
+
+    public JsonFragment(ValueWriter source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Writes the value of this fragment using the specified generator.
+     *
+     * @param generator Target generator
+     * @throws IOException When JSON writing error occurs
+     */
+    public void replay(JsonGenerator generator) throws IOException {
+        source.write(generator);
+    }
+
+    /**
+     * Gets the fragment serialized as UTF-8 JSON.
+     */
+    byte[] getUtf8() throws IOException {
+        byte[] result = utf8;
+        if (result == null) {
+            result = Utf8JsonGenerator.encode(source);
+            this.utf8 = result;
+        }
+        return result;
+    }
+
+    /**
+     * Writes a single JSON value using a generator.
+     */
+    @FunctionalInterface
+    public interface ValueWriter {
+
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
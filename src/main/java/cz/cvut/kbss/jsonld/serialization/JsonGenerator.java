@@ -34,6 +34,18 @@ public interface JsonGenerator {
      */
     void writeFieldName(String name) throws IOException;
 
+    /**
+     * Writes a field name whose encoded form may be reused by the generator.
+     * <p>
+     * Writes the name using {@link #writeFieldName(String)} by default.
+     *
+     * @param name Field name to write
+     * @throws IOException When JSON writing error occurs
+     */
+    default void writeFieldName(EncodedFieldName name) throws IOException {
+        writeFieldName(name.getValue());
+    }
+
     /**
      * Writes a starting marker of a JSON object value (the '{' character).
      * <p>
@@ -78,6 +90,52 @@ public interface JsonGenerator {
      */
     void writeNumber(Number number) throws IOException;
 
+    /**
+     * Outputs the given {@code int} value as a JSON number.
+     * <p>
+     * Generators may override the primitive variants to write the value without boxing it. By default, the value is
+     * written using {@link #writeNumber(Number)}.
+     *
+     * @param number Number to write
+     * @throws IOException When JSON writing error occurs
+     */
+    default void writeNumber(int number) throws IOException {
+        writeNumber((Number) number);
+    }
+
+    /**
+     * Outputs the given {@code long} value as a JSON number.
+     *
+     * @param number Number to write
+     * @throws IOException When JSON writing error occurs
+     * @see #writeNumber(int)
+     */
+    default void writeNumber(long number) throws IOException {
+        writeNumber((Number) number);
+    }
+
+    /**
+     * Outputs the given {@code float} value as a JSON number.
+     *
+     * @param number Number to write
+     * @throws IOException When JSON writing error occurs
+     * @see #writeNumber(int)
+     */
+    default void writeNumber(float number) throws IOException {
+        writeNumber((Number) number);
+    }
+
+    /**
+     * Outputs the given {@code double} value as a JSON number.
+     *
+     * @param number Number to write
+     * @throws IOException When JSON writing error occurs
+     * @see #writeNumber(int)
+     */
+    default void writeNumber(double number) throws IOException {
+        writeNumber((Number) number);
+    }
+
     /**
      * Outputs the given boolean value as a JSON boolean.
      *
@@ -105,4 +163,26 @@ public interface JsonGenerator {
      * @throws IOException When JSON writing error occurs
      */
     void writeString(String text) throws IOException;
+
+    /**
+     * Outputs an already serialized JSON value.
+     * <p>
+     * Can be used anywhere a value can be written. Replays the fragment using this generator by default.
+     *
+     * @param fragment Fragment to write
+     * @throws IOException When JSON writing error occurs
+     */
+    default void writeRaw(JsonFragment fragment) throws IOException {
+        fragment.replay(this);
+    }
+
+    /**
+     * Flushes any buffered output into the underlying target.
+     * <p>
+     * Does nothing by default, which is suitable for generators which do not buffer output.
+     *
+     * @throws IOException When JSON writing error occurs
+     */
+    default void flush() throws IOException {
+    }
 }
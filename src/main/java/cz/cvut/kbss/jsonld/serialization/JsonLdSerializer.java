@@ -19,12 +19,16 @@ package cz.cvut.kbss.jsonld.serialization;
 
 import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.common.Configured;
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Base class for all JSON-LD serializers.
@@ -39,16 +43,40 @@ public abstract class JsonLdSerializer implements Configured {
 
     protected final ValueSerializers serializers;
 
+    /**
+     * Whether {@link #serializers} are shared by a {@link JsonLdSerializerEngine} and already configured.
+     */
+    private final boolean sharedSerializers;
+
     protected JsonLdSerializer(JsonGenerator jsonGenerator) {
         this.jsonGenerator = Objects.requireNonNull(jsonGenerator);
         this.configuration = new Configuration();
         this.serializers = initSerializers();
+        this.sharedSerializers = false;
     }
 
     public JsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration) {
         this.jsonGenerator = Objects.requireNonNull(jsonGenerator);
         this.configuration = Objects.requireNonNull(configuration);
         this.serializers = initSerializers();
+        this.sharedSerializers = false;
+    }
+
+    /**
+     * Creates a serializer using value serializers shared by a {@link JsonLdSerializerEngine}.
+     * <p>
+     * The serializers must already be configured using the specified configuration, neither of them may be modified
+     * by this instance.
+     *
+     * @param jsonGenerator Generator to write the output into
+     * @param configuration Configuration of the engine
+     * @param serializers   Configured value serializers of the engine
+     */
+    JsonLdSerializer(JsonGenerator jsonGenerator, Configuration configuration, ValueSerializers serializers) {
+        this.jsonGenerator = Objects.requireNonNull(jsonGenerator);
+        this.configuration = Objects.requireNonNull(configuration);
+        this.serializers = Objects.requireNonNull(serializers);
+        this.sharedSerializers = true;
     }
 
     @Override
@@ -90,12 +118,91 @@ public abstract class JsonLdSerializer implements Configured {
         if (root instanceof Collection<?> collection && collection.isEmpty()) {
             jsonRoot = JsonNodeFactory.createArrayNode();
         } else {
-            serializers.configure(configuration);
+            configureSerializers();
             jsonRoot = buildJsonTree(root);
         }
         jsonRoot.write(jsonGenerator);
     }
 
+    /**
+     * Serializes object graphs pulled from the specified iterator.
+     * <p>
+     * Each item is written into the {@link JsonGenerator} as soon as it is pulled from the iterator, so that the
+     * items need not be loaded in memory at once. By default, the items are written as elements of a JSON array, each
+     * of them serialized as if it were the root of its own object graph. In contrast to serialization of a
+     * collection, instances shared by several items are thus serialized fully in each of them.
+     *
+     * @param items Iterator of object graph roots, {@code null} items are skipped
+     */
+    public void serialize(Iterator<?> items) {
+        Objects.requireNonNull(items);
+        configureSerializers();
+        try {
+            writeItemsStart();
+            while (items.hasNext()) {
+                final Object item = items.next();
+                if (item != null) {
+                    writeItem(item);
+                }
+            }
+            writeItemsEnd();
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to serialize items.", e);
+        }
+    }
+
+    /**
+     * Serializes object graphs provided by the specified stream.
+     * <p>
+     * The stream is consumed lazily, see {@link #serialize(Iterator)}. It is not closed by this method.
+     *
+     * @param items Stream of object graph roots, {@code null} items are skipped
+     */
+    public void serialize(Stream<?> items) {
+        Objects.requireNonNull(items);
+        serialize(items.iterator());
+    }
+
+    /**
+     * Writes the beginning of the output of {@link #serialize(Iterator)}, before the first item is written.
+     *
+     * @throws IOException When JSON writing error occurs
+     */
+    protected void writeItemsStart() throws IOException {
+        jsonGenerator.writeArrayStart();
+    }
+
+    /**
+     * Writes a single item pulled from the iterator passed to {@link #serialize(Iterator)}.
+     * <p>
+     * Value serializers are already configured when this method is called.
+     *
+     * @param item Object graph root
+     */
+    protected void writeItem(Object item) {
+        buildJsonTree(item).write(jsonGenerator);
+    }
+
+    /**
+     * Writes the end of the output of {@link #serialize(Iterator)}, after the last item has been written.
+     *
+     * @throws IOException When JSON writing error occurs
+     */
+    protected void writeItemsEnd() throws IOException {
+        jsonGenerator.writeArrayEnd();
+    }
+
+    /**
+     * Configures value serializers using the current configuration of this serializer.
+     * <p>
+     * Serializers shared by a {@link JsonLdSerializerEngine} are configured only once, when the engine is built.
+     */
+    protected void configureSerializers() {
+        if (!sharedSerializers) {
+            serializers.configure(configuration);
+        }
+    }
+
     protected abstract ValueSerializers initSerializers();
 
     /**
@@ -123,4 +230,13 @@ public abstract class JsonLdSerializer implements Configured {
                                                                          Configuration configuration) {
         return new ContextBuildingJsonLdSerializer(jsonWriter, configuration);
     }
+
+    public static JsonLdSerializer createFlattenedJsonLdSerializer(JsonGenerator jsonWriter) {
+        return new FlattenedJsonLdSerializer(jsonWriter);
+    }
+
+    public static JsonLdSerializer createFlattenedJsonLdSerializer(JsonGenerator jsonWriter,
+                                                                   Configuration configuration) {
+        return new FlattenedJsonLdSerializer(jsonWriter, configuration);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextCache;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, thread-safe JSON-LD serialization engine.
+ * <p>
+ * The engine is built once with configuration and custom value serializers. Its value serializers are configured when
+ * the engine is built and are then shared by all writers (see {@link #writer(JsonGenerator)}), which are cheap to
+ * create and bound to a single output. An engine can thus be shared, e.g., by all requests handled by a server.
+ * <p>
+ * Custom value serializers registered in the engine are invoked concurrently and thus must be thread-safe.
+ */
+public final class JsonLdSerializerEngine {
+
+    private final Configuration configuration;
+
+    private final ValueSerializers serializers;
+
+    private final SerializerFactory serializerFactory;
+
+    private JsonLdSerializerEngine(Builder builder) {
+        this.configuration = builder.configuration;
+        this.serializers = builder.serializers;
+        this.serializerFactory = builder.serializerFactory;
+    }
+
+    /**
+     * Creates a writer which outputs serialized object graphs into the specified generator.
+     *
+     * @param jsonGenerator Output generator
+     * @return New writer
+     */
+    public JsonLdWriter writer(JsonGenerator jsonGenerator) {
+        return new JsonLdWriter(serializerFactory.create(jsonGenerator, configuration, serializers));
+    }
+
+    /**
+     * Gets a copy of the configuration of this engine.
+     *
+     * @return Configuration copy, modifying it has no effect on this engine
+     */
+    public Configuration configuration() {
+        return new Configuration(configuration);
+    }
+
+    /**
+     * Creates a builder of an engine producing compacted context-less JSON-LD.
+     *
+     * @return Engine builder
+     * @see CompactedJsonLdSerializer
+     */
+    public static Builder compacted() {
+        return new Builder(CompactedJsonLdSerializer::createValueSerializers, CompactedJsonLdSerializer::new);
+    }
+
+    /**
+     * Creates a builder of an engine producing compacted JSON-LD with context.
+     * <p>
+     * Root contexts generated by writers of the engine are cached and shared by all its writers.
+     *
+     * @return Engine builder
+     * @see ContextBuildingJsonLdSerializer
+     */
+    public static Builder contextBuilding() {
+        final JsonLdContextCache contextCache = new JsonLdContextCache();
+        return new Builder(ContextBuildingJsonLdSerializer::createValueSerializers,
+                           (generator, config, serializers) -> new ContextBuildingJsonLdSerializer(generator, config,
+                                                                                                   serializers,
+                                                                                                   contextCache));
+    }
+
+    /**
+     * Creates a builder of an engine producing flattened context-less JSON-LD.
+     *
+     * @return Engine builder
+     * @see FlattenedJsonLdSerializer
+     */
+    public static Builder flattened() {
+        return new Builder(CompactedJsonLdSerializer::createValueSerializers, FlattenedJsonLdSerializer::new);
+    }
+
+    @FunctionalInterface
+    private interface SerializerFactory {
+        JsonLdSerializer create(JsonGenerator jsonGenerator, Configuration configuration,
+                                ValueSerializers serializers);
+    }
+
+    /**
+     * Builder of {@link JsonLdSerializerEngine}.
+     * <p>
+     * A builder can be used to build a single engine.
+     */
+    public static final class Builder {
+
+        private final ValueSerializers serializers;
+
+        private final SerializerFactory serializerFactory;
+
+        private Configuration configuration = new Configuration();
+
+        private boolean built;
+
+        private Builder(Supplier<ValueSerializers> serializersSupplier, SerializerFactory serializerFactory) {
+            this.serializers = serializersSupplier.get();
+            this.serializerFactory = serializerFactory;
+        }
+
+        /**
+         * Sets configuration of the engine.
+         * <p>
+         * The configuration is copied, so later changes to it do not affect the engine.
+         *
+         * @param configuration Serialization configuration
+         * @return This builder
+         */
+        public Builder configuration(Configuration configuration) {
+            this.configuration = new Configuration(Objects.requireNonNull(configuration));
+            return this;
+        }
+
+        /**
+         * Registers a custom serializer for the specified type.
+         * <p>
+         * If a serializer already existed for the type, it is replaced by the new one.
+         *
+         * @param type       Type to register the serializer for
+         * @param serializer Thread-safe serializer to register
+         * @param <T>        Serialized type
+         * @return This builder
+         */
+        public <T> Builder registerSerializer(Class<T> type, ValueSerializer<T> serializer) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(serializer);
+            ensureNotBuilt();
+            serializers.registerSerializer(type, serializer);
+            return this;
+        }
+
+        /**
+         * Builds the engine and configures its value serializers.
+         *
+         * @return New serializer engine
+         */
+        public JsonLdSerializerEngine build() {
+            ensureNotBuilt();
+            this.built = true;
+            serializers.configure(configuration);
+            return new JsonLdSerializerEngine(this);
+        }
+
+        private void ensureNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Engine has already been built by this builder.");
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import cz.cvut.kbss.jsonld.serialization.model.CollectionNode;
 import cz.cvut.kbss.jsonld.serialization.model.CompositeNode;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
 import cz.cvut.kbss.jsonld.serialization.traversal.InstanceVisitor;
@@ -81,6 +82,7 @@ public class JsonLdTreeBuilder implements InstanceVisitor {
     @Override
     public void openObject(SerializationContext<?> ctx) {
         final ObjectNode newCurrent = JsonNodeFactory.createObjectNode(ctx.getTerm());
+        setEncodedName(newCurrent, ctx);
         openNewNode(newCurrent);
         // Prepare to create new JSON-LD context when an object is open
         ctx.setJsonLdContext(jsonLdContextFactory.createJsonLdContext(ctx.getJsonLdContext()));
@@ -119,7 +121,7 @@ public class JsonLdTreeBuilder implements InstanceVisitor {
 
     @Override
     public void visitTypes(SerializationContext<Set<String>> typesCtx) {
-        currentNode.addItem(serializers.getTypesSerializer().serialize(typesCtx.getValue(), typesCtx));
+        currentNode.addItem(SerializerUtils.serializeTypes(serializers, typesCtx));
     }
 
     @Override
@@ -129,14 +131,20 @@ public class JsonLdTreeBuilder implements InstanceVisitor {
             final ValueSerializer serializer = serializers.getOrDefault(ctx);
             final JsonNode node = serializer.serialize(ctx.getValue(), ctx);
             if (node != null) {
+                setEncodedName(node, ctx);
                 currentNode.addItem(node);
             }
         }
     }
 
+    private static void setEncodedName(JsonNode node, SerializationContext<?> ctx) {
+        EncodedFieldName.forAttribute(ctx.getField(), node.getName()).ifPresent(node::setEncodedName);
+    }
+
     @Override
     public void openCollection(SerializationContext<? extends Collection<?>> ctx) {
         final CollectionNode<?> newCurrent =JsonNodeFactory.createCollectionNode(ctx.getTerm(), ctx.getValue());
+        setEncodedName(newCurrent, ctx);
         openNewNode(newCurrent);
     }
 
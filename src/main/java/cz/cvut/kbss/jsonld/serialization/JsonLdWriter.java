@@ -0,0 +1,66 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serializes object graphs into a single {@link JsonGenerator} using a shared {@link JsonLdSerializerEngine}.
+ * <p>
+ * Writers are cheap to create and are meant to be used for a single request/output. Like the generator they are bound
+ * to, writers are not thread-safe.
+ */
+public final class JsonLdWriter {
+
+    private final JsonLdSerializer serializer;
+
+    JsonLdWriter(JsonLdSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    /**
+     * Serializes object graph with the specified root.
+     *
+     * @param root Object graph root
+     * @see JsonLdSerializer#serialize(Object)
+     */
+    public void serialize(Object root) {
+        serializer.serialize(root);
+    }
+
+    /**
+     * Serializes object graphs pulled from the specified iterator.
+     *
+     * @param items Iterator of object graph roots
+     * @see JsonLdSerializer#serialize(Iterator)
+     */
+    public void serialize(Iterator<?> items) {
+        serializer.serialize(items);
+    }
+
+    /**
+     * Serializes object graphs provided by the specified stream.
+     *
+     * @param items Stream of object graph roots
+     * @see JsonLdSerializer#serialize(Stream)
+     */
+    public void serialize(Stream<?> items) {
+        serializer.serialize(items);
+    }
+}
@@ -100,7 +100,7 @@ public class JsonNodeFactory {
         };
     }
 
-    private static CollectionType determineCollectionType(Collection<?> collection) {
+    static CollectionType determineCollectionType(Collection<?> collection) {
         if (collection instanceof List) {
             return CollectionType.LIST;
         } else if (collection instanceof Set) {
@@ -0,0 +1,95 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes newline-delimited JSON-LD (NDJSON), i.e., one self-contained JSON-LD document per line.
+ * <p>
+ * Each record is serialized independently by a shared {@link JsonLdSerializerEngine}, so that, for example,
+ * context-building engines reuse root contexts cached per record type. The root context is written into each record,
+ * unless {@link cz.cvut.kbss.jsonld.ConfigParam#CONTEXT_URL} is configured, in which case records reference it.
+ * <p>
+ * Records are serialized into a buffer first and then appended to the output followed by a newline, after which the
+ * output is flushed. {@link #write(Object)} can thus be called concurrently, only appending to the output is
+ * synchronized. The JSON generators must not output line breaks (i.e., they must not pretty-print).
+ */
+public class NdJsonLdWriter {
+
+    private final JsonLdSerializerEngine engine;
+
+    private final Writer output;
+
+    private final Function<Writer, JsonGenerator> generatorFactory;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param engine           Engine serializing the records
+     * @param output           Output to write the records into
+     * @param generatorFactory Creates a JSON generator writing into the specified writer
+     */
+    public NdJsonLdWriter(JsonLdSerializerEngine engine, Writer output,
+                          Function<Writer, JsonGenerator> generatorFactory) {
+        this.engine = Objects.requireNonNull(engine);
+        this.output = Objects.requireNonNull(output);
+        this.generatorFactory = Objects.requireNonNull(generatorFactory);
+    }
+
+    /**
+     * Serializes the specified root entity as a single record.
+     *
+     * @param record Record root
+     */
+    public void write(Object record) {
+        Objects.requireNonNull(record);
+        final StringWriter buffer = new StringWriter();
+        try {
+            final JsonGenerator generator = generatorFactory.apply(buffer);
+            engine.writer(generator).serialize(record);
+            generator.flush();
+            synchronized (output) {
+                output.write(buffer.toString());
+                output.write('\n');
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to write record " + record, e);
+        }
+    }
+
+    /**
+     * Serializes each element of the specified stream as a separate record.
+     * <p>
+     * If the stream is parallel, records are serialized concurrently and their order in the output is not defined.
+     *
+     * @param records Stream of record roots, {@code null} elements are skipped
+     */
+    public void writeAll(Stream<?> records) {
+        Objects.requireNonNull(records);
+        records.filter(Objects::nonNull).forEach(this::write);
+    }
+}
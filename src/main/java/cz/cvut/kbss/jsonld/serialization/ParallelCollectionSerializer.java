@@ -0,0 +1,237 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContext;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextFactory;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.ObjectGraphTraverser;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Serializes elements of a root collection in parallel.
+ * <p>
+ * The collection is split into chunks, each of which is serialized by its own {@link ObjectGraphTraverser} on the
+ * configured executor (see {@link ConfigParam#PARALLEL_SERIALIZATION_EXECUTOR}). Traversers of different chunks do not
+ * know about each other, so an instance shared by several chunks is serialized in each of them. Once all chunks are
+ * done, all but the first occurrence (in collection order) of such instances are turned into references, so that the
+ * serialized nodes correspond to those of sequential serialization (generated blank node identifiers may differ).
+ * <p>
+ * Note that term definitions registered by chunks while serializing subtrees which are then turned into references
+ * remain in the chunk contexts. A context built from the chunk contexts may thus contain terms not used by the
+ * output.
+ */
+class ParallelCollectionSerializer {
+
+    /**
+     * Minimum number of elements serialized by one chunk.
+     */
+    static final int MIN_CHUNK_SIZE = 256;
+
+    private final Executor executor;
+
+    private final Map<Object, String> generatedIdentifiers = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // Used only inside the synchronized generatedIdentifiers, so it is never called concurrently
+    private final BlankNodeIdGenerator blankNodeIdGenerator;
+
+    ParallelCollectionSerializer(Configuration configuration) {
+        final Object executor = configuration.getObject(ConfigParam.PARALLEL_SERIALIZATION_EXECUTOR);
+        this.executor = executor instanceof Executor ex ? ex : ForkJoinPool.commonPool();
+        this.blankNodeIdGenerator = BlankNodeIdGenerator.create(configuration);
+    }
+
+    /**
+     * Checks whether the specified root collection should be serialized in parallel.
+     *
+     * @param configuration Serialization configuration
+     * @param root          Root collection
+     * @return {@code true} if parallel serialization is enabled and the collection is large enough to be split into at
+     * least two chunks
+     */
+    static boolean isApplicable(Configuration configuration, Collection<?> root) {
+        return configuration.is(ConfigParam.ENABLE_PARALLEL_SERIALIZATION) && root.size() >= 2 * MIN_CHUNK_SIZE;
+    }
+
+    /**
+     * Serializes the specified elements in parallel.
+     * <p>
+     * The chunks are created by the specified factory in the calling thread.
+     *
+     * @param elements     Root collection elements
+     * @param chunkFactory Creates chunks, i.e., traversers and serializers used to serialize a part of the elements
+     * @return Serialized chunks, in the order of the elements
+     */
+    List<Chunk> serialize(Collection<?> elements, Supplier<Chunk> chunkFactory) {
+        final List<?> items = new ArrayList<>(elements);
+        final int chunkCount =
+                Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), items.size() / MIN_CHUNK_SIZE));
+        final int chunkSize = (items.size() + chunkCount - 1) / chunkCount;
+        final List<Chunk> chunks = new ArrayList<>(chunkCount);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount);
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            final Chunk chunk = chunkFactory.get();
+            chunk.traverser.setGeneratedIdentifiers(generatedIdentifiers);
+            chunk.traverser.setBlankNodeIdGenerator(blankNodeIdGenerator);
+            final List<?> part = items.subList(i, Math.min(i + chunkSize, items.size()));
+            chunks.add(chunk);
+            futures.add(CompletableFuture.runAsync(() -> chunk.serialize(part), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw new JsonLdSerializationException("Unable to serialize collection.", e.getCause());
+        }
+        replaceRepeatedInstancesWithReferences(chunks);
+        return chunks;
+    }
+
+    private static void replaceRepeatedInstancesWithReferences(List<Chunk> chunks) {
+        final Set<Object> embedded = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Chunk chunk : chunks) {
+            for (EmbeddedNode node : chunk.embeddedNodes) {
+                if (!embedded.add(node.instance)) {
+                    node.node.retainOnly(node.identifier);
+                }
+            }
+        }
+    }
+
+    /**
+     * Part of the root collection serialized by a single traverser.
+     */
+    static class Chunk {
+
+        private final ObjectGraphTraverser traverser;
+        private final ValueSerializers serializers;
+        private final JsonLdContextFactory jsonLdContextFactory;
+        private final JsonLdContext rootContext;
+
+        private final Set<Object> embeddedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<EmbeddedNode> embeddedNodes = new ArrayList<>();
+        private final List<JsonNode> nodes = new ArrayList<>();
+
+        /**
+         * Creates a chunk.
+         *
+         * @param traverser            Traverser used by the chunk
+         * @param serializers          Value serializers bound to the traverser
+         * @param jsonLdContextFactory Factory of JSON-LD contexts of the serialized objects
+         * @param rootContext          Root JSON-LD context of the traverser
+         */
+        Chunk(ObjectGraphTraverser traverser, ValueSerializers serializers,
+              JsonLdContextFactory jsonLdContextFactory, JsonLdContext rootContext) {
+            this.traverser = traverser;
+            this.serializers = serializers;
+            this.jsonLdContextFactory = jsonLdContextFactory;
+            this.rootContext = rootContext;
+        }
+
+        private void serialize(List<?> items) {
+            for (Object item : items) {
+                if (item == null) {
+                    continue;
+                }
+                final RecordingJsonLdTreeBuilder treeBuilder = new RecordingJsonLdTreeBuilder(this);
+                traverser.setVisitor(treeBuilder);
+                traverser.traverse(item);
+                if (treeBuilder.getTreeRoot() != null) {
+                    nodes.add(treeBuilder.getTreeRoot());
+                }
+            }
+        }
+
+        /**
+         * Gets nodes of the serialized elements.
+         *
+         * @return Serialized elements
+         */
+        List<JsonNode> getNodes() {
+            return nodes;
+        }
+
+        /**
+         * Gets the root JSON-LD context of this chunk.
+         *
+         * @return Root context
+         */
+        JsonLdContext getRootContext() {
+            return rootContext;
+        }
+    }
+
+    private record EmbeddedNode(Object instance, ObjectNode node, JsonNode identifier) {
+    }
+
+    /**
+     * Tree builder which records objects serialized with all their attributes (as opposed to references).
+     */
+    private static class RecordingJsonLdTreeBuilder extends JsonLdTreeBuilder {
+
+        private final Chunk chunk;
+
+        private Object openedInstance;
+
+        private RecordingJsonLdTreeBuilder(Chunk chunk) {
+            super(chunk.serializers, chunk.jsonLdContextFactory);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public void openObject(SerializationContext<?> ctx) {
+            super.openObject(ctx);
+            this.openedInstance = chunk.embeddedInstances.add(ctx.getValue()) ? ctx.getValue() : null;
+        }
+
+        @Override
+        public void visitIdentifier(SerializationContext<String> idCtx) {
+            super.visitIdentifier(idCtx);
+            if (openedInstance != null) {
+                // Identifier is the first item of the object, which is the current tree node at this point
+                final ObjectNode node = (ObjectNode) getTreeRoot();
+                chunk.embeddedNodes.add(new EmbeddedNode(openedInstance, node, node.getItems().iterator().next()));
+                this.openedInstance = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.CollectionType;
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextFactory;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.InstanceVisitor;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Writes the result of object graph traversal by {@link cz.cvut.kbss.jsonld.serialization.traversal.ObjectGraphTraverser}
+ * directly into a {@link JsonGenerator}.
+ * <p>
+ * As opposed to {@link JsonLdTreeBuilder}, no tree representing the whole output is built. Objects and collections are
+ * written as they are opened and closed by the traverser and only nodes produced by value serializers for the visited
+ * attributes are created, so memory consumption does not grow with the size of the output.
+ * <p>
+ * Since JSON-LD contexts would have to be prepended to the already written objects, this writer does not support
+ * embedded contexts. Term mappings have to be either known in advance (and written by the caller) or not generated at
+ * all.
+ */
+public class StreamingJsonLdWriter implements InstanceVisitor {
+
+    private static final EncodedFieldName LIST = EncodedFieldName.of(JsonLd.LIST);
+
+    private final ValueSerializers serializers;
+
+    private final JsonLdContextFactory jsonLdContextFactory;
+
+    protected final JsonGenerator jsonGenerator;
+
+    public StreamingJsonLdWriter(ValueSerializers serializers, JsonLdContextFactory jsonLdContextFactory,
+                                 JsonGenerator jsonGenerator) {
+        this.serializers = Objects.requireNonNull(serializers);
+        this.jsonLdContextFactory = Objects.requireNonNull(jsonLdContextFactory);
+        this.jsonGenerator = Objects.requireNonNull(jsonGenerator);
+    }
+
+    @Override
+    public void visitIndividual(SerializationContext<?> ctx) {
+        final ValueSerializer s = serializers.getIndividualSerializer();
+        writeNode(s.serialize(ctx.getValue(), ctx));
+    }
+
+    private void writeNode(JsonNode node) {
+        if (node != null) {
+            node.write(jsonGenerator);
+        }
+    }
+
+    @Override
+    public boolean visitObject(SerializationContext<?> ctx) {
+        if (serializers.hasCustomSerializer(ctx.getValue().getClass())) {
+            final ValueSerializer serializer = serializers.getSerializer(ctx).get();
+            writeNode(serializer.serialize(ctx.getValue(), ctx));
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void openObject(SerializationContext<?> ctx) {
+        try {
+            writeTerm(ctx);
+            jsonGenerator.writeObjectStart();
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to open object " + ctx.getValue(), e);
+        }
+        ctx.setJsonLdContext(jsonLdContextFactory.createJsonLdContext(ctx.getJsonLdContext()));
+    }
+
+    private void writeTerm(SerializationContext<?> ctx) throws IOException {
+        if (ctx.getTerm() != null) {
+            final Optional<EncodedFieldName> encodedTerm = EncodedFieldName.forAttribute(ctx.getField(), ctx.getTerm());
+            if (encodedTerm.isPresent()) {
+                jsonGenerator.writeFieldName(encodedTerm.get());
+            } else {
+                jsonGenerator.writeFieldName(ctx.getTerm());
+            }
+        }
+    }
+
+    @Override
+    public void closeObject(SerializationContext<?> ctx) {
+        if (!ctx.isCurrentEmpty()) {
+            throw new JsonLdSerializationException(
+                    "Unable to write embedded context " + ctx.getContextNode() + " of already written object " + ctx.getValue());
+        }
+        try {
+            jsonGenerator.writeObjectEnd();
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to close object " + ctx.getValue(), e);
+        }
+    }
+
+    @Override
+    public void visitIdentifier(SerializationContext<String> idCtx) {
+        writeNode(serializers.getIdentifierSerializer().serialize(idCtx.getValue(), idCtx));
+    }
+
+    @Override
+    public void visitTypes(SerializationContext<Set<String>> typesCtx) {
+        writeNode(SerializerUtils.serializeTypes(serializers, typesCtx));
+    }
+
+    @Override
+    public void visitAttribute(SerializationContext<?> ctx) {
+        if (ctx.getValue() != null) {
+            final ValueSerializer serializer = serializers.getOrDefault(ctx);
+            final JsonNode node = serializer.serialize(ctx.getValue(), ctx);
+            if (node != null) {
+                EncodedFieldName.forAttribute(ctx.getField(), node.getName()).ifPresent(node::setEncodedName);
+                writeNode(node);
+            }
+        }
+    }
+
+    @Override
+    public void openCollection(SerializationContext<? extends Collection<?>> ctx) {
+        final CollectionType type = JsonNodeFactory.determineCollectionType(ctx.getValue());
+        try {
+            writeTerm(ctx);
+            if (type == CollectionType.LIST) {
+                jsonGenerator.writeObjectStart();
+                jsonGenerator.writeFieldName(LIST);
+            }
+            jsonGenerator.writeArrayStart();
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to open collection " + ctx.getValue(), e);
+        }
+    }
+
+    @Override
+    public void closeCollection(SerializationContext<?> ctx) {
+        try {
+            jsonGenerator.writeArrayEnd();
+            if (JsonNodeFactory.determineCollectionType((Collection<?>) ctx.getValue()) == CollectionType.LIST) {
+                jsonGenerator.writeObjectEnd();
+            }
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to close collection " + ctx.getValue(), e);
+        }
+    }
+}
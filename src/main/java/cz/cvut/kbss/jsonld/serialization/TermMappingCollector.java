@@ -0,0 +1,116 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextFactory;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.InstanceVisitor;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Collects JSON-LD term mappings of an object graph without producing any output.
+ * <p>
+ * The visited values are passed to the same value serializers as during regular serialization, so that the resulting
+ * JSON-LD context is exactly the one that would be generated by {@link JsonLdTreeBuilder}. However, the nodes returned
+ * by the serializers are discarded immediately.
+ * <p>
+ * The collector also tracks whether any of the visited objects requires an embedded context, which can be the case when
+ * term mappings in the object graph conflict.
+ */
+class TermMappingCollector implements InstanceVisitor {
+
+    private final ValueSerializers serializers;
+    private final JsonLdContextFactory jsonLdContextFactory;
+
+    private boolean embeddedContextRequired;
+
+    TermMappingCollector(ValueSerializers serializers, JsonLdContextFactory jsonLdContextFactory) {
+        this.serializers = serializers;
+        this.jsonLdContextFactory = jsonLdContextFactory;
+    }
+
+    @Override
+    public void visitIndividual(SerializationContext<?> ctx) {
+        // Individuals do not register any term mapping
+    }
+
+    @Override
+    public boolean visitObject(SerializationContext<?> ctx) {
+        if (serializers.hasCustomSerializer(ctx.getValue().getClass())) {
+            final ValueSerializer serializer = serializers.getSerializer(ctx).get();
+            serializer.serialize(ctx.getValue(), ctx);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void openObject(SerializationContext<?> ctx) {
+        ctx.setJsonLdContext(jsonLdContextFactory.createJsonLdContext(ctx.getJsonLdContext()));
+    }
+
+    @Override
+    public void closeObject(SerializationContext<?> ctx) {
+        if (!ctx.isCurrentEmpty()) {
+            this.embeddedContextRequired = true;
+        }
+    }
+
+    @Override
+    public void visitIdentifier(SerializationContext<String> idCtx) {
+        serializers.getIdentifierSerializer().serialize(idCtx.getValue(), idCtx);
+    }
+
+    @Override
+    public void visitTypes(SerializationContext<Set<String>> typesCtx) {
+        SerializerUtils.serializeTypes(serializers, typesCtx);
+    }
+
+    @Override
+    public void visitAttribute(SerializationContext<?> ctx) {
+        if (ctx.getValue() != null) {
+            final ValueSerializer serializer = serializers.getOrDefault(ctx);
+            serializer.serialize(ctx.getValue(), ctx);
+        }
+    }
+
+    @Override
+    public void openCollection(SerializationContext<? extends Collection<?>> ctx) {
+        // Collections do not register any term mapping
+    }
+
+    @Override
+    public void closeCollection(SerializationContext<?> ctx) {
+        // Collections do not register any term mapping
+    }
+
+    /**
+     * Whether any of the visited objects requires its own embedded JSON-LD context.
+     *
+     * @return {@code true} if an embedded context is required, {@code false} if all terms can be mapped in the root
+     * context
+     */
+    boolean isEmbeddedContextRequired() {
+        return embeddedContextRequired;
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link JsonGenerator} writing compact UTF-8 encoded JSON directly into an {@link OutputStream}, a
+ * {@link WritableByteChannel} or a {@link ByteBuffer}.
+ * <p>
+ * The output is collected in an internal byte buffer, which is written into the target whenever it is full and on
+ * {@link #flush()}. The generator does not own the target, so it does not close it. Since the serializers do not flush
+ * the generator, {@link #flush()} has to be called once the output is complete.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class Utf8JsonGenerator implements JsonGenerator {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Longest output of a single char - \\uXXXX escape
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd',
+            'e', 'f'};
+
+    /**
+     * Escapes of ASCII characters. {@code 0} means the character is written as is, {@code -1} means it is written as
+     * a unicode escape, any other value is the character written after a backslash.
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\t'] = 't';
+    }
+
+    // Doubles with smaller absolute value are written by Double.toString without an exponent
+    private static final double MAX_PLAIN_INTEGRAL_DOUBLE = 1e7;
+
+    private final ByteSink sink;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    // Characters of the currently written string
+    private final char[] chars = new char[BUFFER_SIZE / MAX_CHAR_BYTES];
+
+    private int position;
+
+    // Whether the current object/array is still empty, indexed by nesting depth
+    private boolean[] first = new boolean[16];
+
+    private int depth;
+
+    private boolean afterFieldName;
+
+    /**
+     * Creates a generator writing into the specified output stream.
+     *
+     * @param output Target output stream
+     */
+    public Utf8JsonGenerator(OutputStream output) {
+        Objects.requireNonNull(output);
+        this.sink = new ByteSink() {
+            @Override
+            public void write(byte[] bytes, int length) throws IOException {
+                output.write(bytes, 0, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                output.flush();
+            }
+        };
+    }
+
+    /**
+     * Creates a generator writing into the specified channel.
+     *
+     * @param channel Target channel
+     */
+    public Utf8JsonGenerator(WritableByteChannel channel) {
+        Objects.requireNonNull(channel);
+        final ByteBuffer wrapper = ByteBuffer.wrap(buffer);
+        this.sink = (bytes, length) -> {
+            wrapper.clear().limit(length);
+            while (wrapper.hasRemaining()) {
+                channel.write(wrapper);
+            }
+        };
+    }
+
+    /**
+     * Creates a generator writing into the specified byte buffer.
+     * <p>
+     * If the buffer does not have enough space for the output, an {@link IOException} is thrown.
+     *
+     * @param target Target buffer
+     */
+    public Utf8JsonGenerator(ByteBuffer target) {
+        Objects.requireNonNull(target);
+        this.sink = (bytes, length) -> {
+            if (target.remaining() < length) {
+                throw new IOException("Not enough space in the target buffer to write " + length + " bytes.");
+            }
+            target.put(bytes, 0, length);
+        };
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (!first[depth]) {
+            writeByte((byte) ',');
+        }
+        first[depth] = false;
+        writeQuoted(name);
+        writeByte((byte) ':');
+        this.afterFieldName = true;
+    }
+
+    @Override
+    public void writeFieldName(EncodedFieldName name) throws IOException {
+        if (!first[depth]) {
+            writeByte((byte) ',');
+        }
+        first[depth] = false;
+        writeBytes(name.getUtf8());
+        this.afterFieldName = true;
+    }
+
+    @Override
+    public void writeObjectStart() throws IOException {
+        openContainer((byte) '{');
+    }
+
+    @Override
+    public void writeObjectEnd() throws IOException {
+        closeContainer((byte) '}');
+    }
+
+    @Override
+    public void writeArrayStart() throws IOException {
+        openContainer((byte) '[');
+    }
+
+    @Override
+    public void writeArrayEnd() throws IOException {
+        closeContainer((byte) ']');
+    }
+
+    private void openContainer(byte marker) throws IOException {
+        beforeValue();
+        writeByte(marker);
+        depth++;
+        if (depth == first.length) {
+            this.first = Arrays.copyOf(first, first.length * 2);
+        }
+        first[depth] = true;
+    }
+
+    private void closeContainer(byte marker) throws IOException {
+        writeByte(marker);
+        depth--;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterFieldName) {
+            this.afterFieldName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (!first[depth]) {
+                writeByte((byte) ',');
+            }
+            first[depth] = false;
+        }
+    }
+
+    @Override
+    public void writeNumber(Number number) throws IOException {
+        Objects.requireNonNull(number);
+        if (number instanceof Integer || number instanceof Long || number instanceof Short ||
+                number instanceof Byte) {
+            writeNumber(number.longValue());
+        } else if (number instanceof Double d) {
+            writeFloatingPoint(d, false);
+        } else if (number instanceof Float f) {
+            writeFloatingPoint(f, true);
+        } else {
+            // BigDecimal, BigInteger and other types have no specialized representation
+            beforeValue();
+            writeAscii(number.toString());
+        }
+    }
+
+    @Override
+    public void writeNumber(int value) throws IOException {
+        writeNumber((long) value);
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        beforeValue();
+        writeLong(value);
+    }
+
+    /**
+     * Writes the specified floating point value.
+     * <p>
+     * The output is the same as that of {@link Double#toString(double)}, except that non-finite values are written
+     * as strings.
+     *
+     * @param value Value to write
+     * @throws IOException When JSON writing error occurs
+     */
+    @Override
+    public void writeNumber(double value) throws IOException {
+        writeFloatingPoint(value, false);
+    }
+
+    /**
+     * Writes the specified floating point value.
+     * <p>
+     * The output is the same as that of {@link Float#toString(float)}, except that non-finite values are written as
+     * strings.
+     *
+     * @param value Value to write
+     * @throws IOException When JSON writing error occurs
+     */
+    @Override
+    public void writeNumber(float value) throws IOException {
+        writeFloatingPoint(value, true);
+    }
+
+    private void writeFloatingPoint(double value, boolean isFloat) throws IOException {
+        beforeValue();
+        if (!Double.isFinite(value)) {
+            writeQuoted(Double.toString(value));
+        } else if (value == Math.rint(value) && Math.abs(value) < MAX_PLAIN_INTEGRAL_DOUBLE &&
+                (value != 0 || Double.doubleToRawLongBits(value) == 0)) {
+            // Integral values are written without the string conversion, e.g., 42.0
+            writeLong((long) value);
+            ensureCapacity(2);
+            buffer[position++] = '.';
+            buffer[position++] = '0';
+        } else {
+            writeAscii(isFloat ? Float.toString((float) value) : Double.toString(value));
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(LONG_MIN_VALUE);
+            return;
+        }
+        ensureCapacity(LONG_MIN_VALUE.length);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int i = position + digits;
+        position = i;
+        do {
+            buffer[--i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        beforeValue();
+        writeBytes(NULL);
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        beforeValue();
+        writeQuoted(text);
+    }
+
+    @Override
+    public void writeRaw(JsonFragment fragment) throws IOException {
+        beforeValue();
+        writeBytes(fragment.getUtf8());
+    }
+
+    private void writeQuoted(String text) throws IOException {
+        writeByte((byte) '"');
+        final int length = text.length();
+        int i = 0;
+        while (i < length) {
+            // Characters which are guaranteed to fit into the buffer are written without further capacity checks
+            final int count = Math.min(Math.min(length - i, chars.length), (buffer.length - position) / MAX_CHAR_BYTES);
+            if (count == 0) {
+                flushBuffer();
+                continue;
+            }
+            text.getChars(i, i + count, chars, 0);
+            final byte[] buf = buffer;
+            int pos = position;
+            int j = 0;
+            for (; j < count; j++) {
+                final char c = chars[j];
+                if (c < 0x80 && ESCAPES[c] == 0) {
+                    buf[pos++] = (byte) c;
+                } else {
+                    this.position = pos;
+                    j = writeSpecialChar(text, i + j, c) - i;
+                    pos = position;
+                }
+            }
+            this.position = pos;
+            i += j;
+        }
+        writeByte((byte) '"');
+    }
+
+    /**
+     * Writes a character which has to be escaped or encoded into multiple bytes.
+     *
+     * @return Index of the last character consumed from the text
+     */
+    private int writeSpecialChar(String text, int i, char c) {
+        if (c < 0x80) {
+            writeEscape(c, ESCAPES[c]);
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xc0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isSurrogate(c)) {
+            if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                // Unpaired surrogate cannot be encoded in UTF-8
+                writeCodePoint(0xfffd);
+            }
+        } else {
+            writeCodePoint(c);
+        }
+        return i;
+    }
+
+    private void writeEscape(char c, byte escape) {
+        buffer[position++] = '\\';
+        if (escape > 0) {
+            buffer[position++] = escape;
+        } else {
+            buffer[position++] = 'u';
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = HEX_DIGITS[c >> 4];
+            buffer[position++] = HEX_DIGITS[c & 0xf];
+        }
+    }
+
+    private void writeCodePoint(int codePoint) {
+        if (codePoint < 0x10000) {
+            buffer[position++] = (byte) (0xe0 | (codePoint >> 12));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+        } else {
+            buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+        }
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+    }
+
+    private void writeAscii(String text) throws IOException {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void writeByte(byte b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length <= buffer.length) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+            return;
+        }
+        // Fragments larger than the buffer are passed through it in chunks
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            final int count = Math.min(bytes.length - offset, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, count);
+            position += count;
+            offset += count;
+        }
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (position + length > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            sink.write(buffer, position);
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Writes all buffered output into the target and flushes it (if supported).
+     *
+     * @throws IOException When writing into the target fails
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        sink.flush();
+    }
+
+    /**
+     * Encodes the specified field name as a quoted JSON string followed by the name separator.
+     */
+    static byte[] encodeFieldName(String name) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(name.length() + 3);
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(out);
+        generator.writeQuoted(name);
+        generator.writeByte((byte) ':');
+        generator.flush();
+        return out.toByteArray();
+    }
+
+    /**
+     * Serializes the value produced by the specified writer into UTF-8 JSON.
+     */
+    static byte[] encode(JsonFragment.ValueWriter writer) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(out);
+        writer.write(generator);
+        generator.flush();
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface ByteSink {
+
+        void write(byte[] bytes, int length) throws IOException;
+
+        default void flush() throws IOException {
+        }
+    }
+}
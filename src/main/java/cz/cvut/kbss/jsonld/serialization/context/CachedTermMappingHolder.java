@@ -0,0 +1,194 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Root term mapping holder backed by a previously generated context.
+ * <p>
+ * Registering a term mapping already present in the cached context only marks the term as used, so that the mapping
+ * does not have to be rebuilt. Once a term mapping not present in the cached context is registered, the holder
+ * switches to a regular mapping containing the used cached terms.
+ * <p>
+ * Only terms registered in the current serialization are visible, so the resulting mapping is the same as if it was
+ * built without the cached context.
+ */
+class CachedTermMappingHolder extends TermMappingHolder {
+
+    private final CachedContext cachedContext;
+
+    // Cached terms registered in the current serialization
+    private final Set<String> usedTerms = new HashSet<>();
+
+    // Regular mapping, created when a term mapping not matching the cached context is registered
+    private EmbeddedTermMappingHolder mapping;
+
+    CachedTermMappingHolder(CachedContext cachedContext) {
+        super(DummyTermMappingHolder.INSTANCE);
+        this.cachedContext = Objects.requireNonNull(cachedContext);
+    }
+
+    @Override
+    boolean canRegisterTermMapping(String term, JsonNode mappedNode) {
+        return true;
+    }
+
+    @Override
+    void registerTermMapping(String term, JsonNode mappedNode) {
+        Objects.requireNonNull(term);
+        Objects.requireNonNull(mappedNode);
+        if (mapping == null) {
+            final JsonNode cached = cachedContext.mapping.get(term);
+            if (cached != null && (cached == mappedNode || cached.equals(mappedNode))) {
+                if (!allTermsUsed()) {
+                    usedTerms.add(term);
+                }
+                return;
+            }
+            final EmbeddedTermMappingHolder newMapping = new EmbeddedTermMappingHolder();
+            getMapping().forEach(newMapping::registerTermMapping);
+            this.mapping = newMapping;
+        }
+        mapping.registerTermMapping(term, mappedNode);
+    }
+
+    private boolean allTermsUsed() {
+        return usedTerms.size() == cachedContext.mapping.size();
+    }
+
+    private boolean isUsed(String term) {
+        return cachedContext.mapping.containsKey(term) && (allTermsUsed() || usedTerms.contains(term));
+    }
+
+    @Override
+    Optional<JsonNode> getTermMapping(String term) {
+        if (mapping != null) {
+            return mapping.getTermMapping(term);
+        }
+        return isUsed(term) ? Optional.of(cachedContext.mapping.get(term)) : Optional.empty();
+    }
+
+    @Override
+    Map<String, JsonNode> getMapping() {
+        if (mapping != null) {
+            return mapping.getMapping();
+        }
+        if (allTermsUsed()) {
+            return cachedContext.mapping;
+        }
+        final Map<String, JsonNode> result = new LinkedHashMap<>();
+        cachedContext.mapping.forEach((term, node) -> {
+            if (usedTerms.contains(term)) {
+                result.put(term, node);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    boolean hasTermMapping(String term) {
+        return mapping != null ? mapping.hasTermMapping(term) : isUsed(term);
+    }
+
+    @Override
+    boolean hasTermMapping(String term, JsonNode mappedNode) {
+        if (mapping != null) {
+            return mapping.hasTermMapping(term, mappedNode);
+        }
+        return isUsed(term) && cachedContext.mapping.get(term).equals(mappedNode);
+    }
+
+    @Override
+    Optional<String> getOwnMappedTerm(String iri) {
+        Objects.requireNonNull(iri);
+        if (mapping != null) {
+            return mapping.getOwnMappedTerm(iri);
+        }
+        return cachedContext.termsByIri.getOrDefault(iri, List.of()).stream().filter(this::isUsed).findFirst();
+    }
+
+    @Override
+    boolean isEmpty() {
+        return mapping != null ? mapping.isEmpty() : usedTerms.isEmpty();
+    }
+
+    @Override
+    boolean isRoot() {
+        return true;
+    }
+
+    /**
+     * Gets the context node representing the current mapping.
+     *
+     * @return The cached context node if the current mapping is the same as the cached one, a new node otherwise
+     */
+    ObjectNode getContextNode() {
+        if (mapping == null && allTermsUsed()) {
+            return cachedContext.contextNode;
+        }
+        final ObjectNode node = new ObjectNode(JsonLd.CONTEXT);
+        getMapping().values().forEach(node::addItem);
+        return node;
+    }
+
+    /**
+     * Previously generated context with indexes used by {@link CachedTermMappingHolder}.
+     * <p>
+     * Instances are immutable and can be shared by concurrent serializations.
+     */
+    static final class CachedContext {
+
+        private final ObjectNode contextNode;
+
+        // Term definitions in the order of the context node
+        private final Map<String, JsonNode> mapping;
+
+        // Terms by the IRIs they map, in the order of the context node
+        private final Map<String, List<String>> termsByIri;
+
+        CachedContext(ObjectNode contextNode) {
+            this.contextNode = Objects.requireNonNull(contextNode);
+            final Map<String, JsonNode> mapping = new LinkedHashMap<>();
+            final Map<String, List<String>> termsByIri = new LinkedHashMap<>();
+            for (JsonNode item : contextNode.getItems()) {
+                mapping.put(item.getName(), item);
+                extractId(item).ifPresent(
+                        iri -> termsByIri.computeIfAbsent(iri, k -> new ArrayList<>(1)).add(item.getName()));
+            }
+            this.mapping = Collections.unmodifiableMap(mapping);
+            this.termsByIri = termsByIri;
+        }
+
+        ObjectNode getContextNode() {
+            return contextNode;
+        }
+    }
+}
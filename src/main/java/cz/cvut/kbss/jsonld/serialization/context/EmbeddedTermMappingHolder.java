@@ -26,6 +26,12 @@ class EmbeddedTermMappingHolder extends TermMappingHolder {
 
     private final Map<String, JsonNode> mapping = new HashMap<>();
 
+    // Reverse index of the mapping, so that terms can be looked up without scanning all the term definitions
+    private final Map<String, String> termsByIri = new HashMap<>();
+
+    // IRIs mapped by more than one term, lookup for them has to respect mapping iteration order
+    private Set<String> ambiguousIris = Collections.emptySet();
+
     EmbeddedTermMappingHolder() {
         super(DummyTermMappingHolder.INSTANCE);
     }
@@ -51,7 +57,9 @@ class EmbeddedTermMappingHolder extends TermMappingHolder {
             parentContext.registerTermMapping(term, mappedNode);
         } else {
             verifyMappingUnique(term, mappedNode);
-            mapping.put(term, mappedNode);
+            if (mapping.put(term, mappedNode) == null) {
+                indexTerm(term, mappedNode);
+            }
         }
     }
 
@@ -59,6 +67,18 @@ class EmbeddedTermMappingHolder extends TermMappingHolder {
         return parentContext == DummyTermMappingHolder.INSTANCE;
     }
 
+    private void indexTerm(String term, JsonNode mappedNode) {
+        extractId(mappedNode).ifPresent(iri -> {
+            final String existing = termsByIri.putIfAbsent(iri, term);
+            if (existing != null) {
+                if (ambiguousIris.isEmpty()) {
+                    this.ambiguousIris = new HashSet<>();
+                }
+                ambiguousIris.add(iri);
+            }
+        });
+    }
+
     private void verifyMappingUnique(String term, JsonNode value) {
         if (mapping.containsKey(term) && !Objects.equals(mapping.get(term), value)) {
             throw new AmbiguousTermMappingException("Context already contains mapping for term '" + term + "'.");
@@ -85,13 +105,23 @@ class EmbeddedTermMappingHolder extends TermMappingHolder {
         return mapping.containsKey(term) && mapping.get(term).equals(mappedNode);
     }
 
+    @Override
+    Optional<String> getOwnMappedTerm(String iri) {
+        Objects.requireNonNull(iri);
+        if (ambiguousIris.contains(iri)) {
+            return super.getOwnMappedTerm(iri);
+        }
+        return Optional.ofNullable(termsByIri.get(iri));
+    }
+
     @Override
     public Optional<String> getMappedTerm(String iri) {
-        final Optional<String> result = super.getMappedTerm(iri);
+        final Optional<String> result = getOwnMappedTerm(iri);
         if (result.isPresent()) {
             return result;
         }
-        return parentContext.getMappedTerm(iri);
+        // Terms redefined in this holder do not map to the parent IRI anymore
+        return parentContext.getMappedTerm(iri).filter(term -> !mapping.containsKey(term));
     }
 
     @Override
@@ -0,0 +1,169 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JSON-LD context which keeps all term mappings of the serialized object graph in one place.
+ * <p>
+ * Instead of creating embedded contexts, a term mapping conflicting with an already registered one is registered under
+ * a generated unique term (the original term with a numeric suffix). Registering the same mapping again resolves to
+ * the same unique term.
+ * <p>
+ * The context is shared by all objects in the graph, so it never reports itself as non-empty for an object (see
+ * {@link #isCurrentEmpty()}). It is expected to be written once, as the root context.
+ */
+public class HoistingJsonLdContext implements JsonLdContext {
+
+    // Term mapping in the order of registration
+    private final Map<String, JsonNode> mapping = new LinkedHashMap<>();
+
+    // Terms already resolved for the combination of original term and its definition
+    private final Map<TermDefinition, String> resolvedTerms = new HashMap<>();
+
+    private final Map<String, String> termsByIri = new HashMap<>();
+
+    @Override
+    public void registerTermMapping(String term, String iri) {
+        resolveTermMapping(term, iri);
+    }
+
+    @Override
+    public void registerTermMapping(String term, ObjectNode mappedNode) {
+        resolveTermMapping(term, mappedNode);
+    }
+
+    /**
+     * Registers the specified term mapping and returns the term under which it is available.
+     *
+     * @param term Mapped term
+     * @param iri  IRI to which the term is mapped
+     * @return The specified term or a generated unique term if the specified one is already mapped differently
+     */
+    @Override
+    public String resolveTermMapping(String term, String iri) {
+        Objects.requireNonNull(term);
+        Objects.requireNonNull(iri);
+        return resolve(new TermDefinition(term, iri), () -> iri,
+                       t -> JsonNodeFactory.createStringLiteralNode(t, iri));
+    }
+
+    /**
+     * Registers the specified term mapping and returns the term under which it is available.
+     *
+     * @param term       Mapped term
+     * @param mappedNode Node to which the term is mapped
+     * @return The specified term or a generated unique term if the specified one is already mapped differently
+     */
+    @Override
+    public String resolveTermMapping(String term, ObjectNode mappedNode) {
+        Objects.requireNonNull(term);
+        Objects.requireNonNull(mappedNode);
+        return resolve(new TermDefinition(term, new ArrayList<>(mappedNode.getItems())),
+                       () -> TermMappingHolder.extractId(mappedNode).orElse(null),
+                       t -> rename(mappedNode, t));
+    }
+
+    private String resolve(TermDefinition definition, Supplier<String> iri,
+                           Function<String, JsonNode> nodeFactory) {
+        final String existing = resolvedTerms.get(definition);
+        if (existing != null) {
+            return existing;
+        }
+        final String term = generateUniqueTerm(definition.term);
+        resolvedTerms.put(definition, term);
+        mapping.put(term, nodeFactory.apply(term));
+        final String id = iri.get();
+        if (id != null) {
+            termsByIri.putIfAbsent(id, term);
+        }
+        return term;
+    }
+
+    private String generateUniqueTerm(String term) {
+        String result = term;
+        int i = 1;
+        while (mapping.containsKey(result)) {
+            result = term + i++;
+        }
+        return result;
+    }
+
+    private static JsonNode rename(ObjectNode node, String term) {
+        if (term.equals(node.getName())) {
+            return node;
+        }
+        final ObjectNode result = JsonNodeFactory.createObjectNode(term);
+        node.getItems().forEach(result::addItem);
+        return result;
+    }
+
+    @Override
+    public Optional<JsonNode> getTermMapping(String term) {
+        return Optional.ofNullable(mapping.get(term));
+    }
+
+    @Override
+    public boolean hasTermMapping(String term) {
+        return mapping.containsKey(term);
+    }
+
+    @Override
+    public Optional<String> getMappedTerm(String iri) {
+        return Optional.ofNullable(termsByIri.get(iri));
+    }
+
+    /**
+     * Always returns {@code true}, as term mappings are never specific to a single object.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isCurrentEmpty() {
+        return true;
+    }
+
+    @Override
+    public ObjectNode getContextNode() {
+        final ObjectNode node = new ObjectNode(JsonLd.CONTEXT);
+        mapping.values().forEach(node::addItem);
+        return node;
+    }
+
+    /**
+     * Term definition independent of the name of the node representing it.
+     *
+     * @param term       Original term
+     * @param definition IRI or items of an expanded term definition
+     */
+    private record TermDefinition(String term, Object definition) {
+    }
+}
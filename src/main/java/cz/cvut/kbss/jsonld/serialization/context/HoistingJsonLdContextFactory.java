@@ -0,0 +1,36 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+/**
+ * Creates {@link HoistingJsonLdContext}s.
+ * <p>
+ * Objects in the serialized graph share the root context, so no context is created for them.
+ */
+public class HoistingJsonLdContextFactory implements JsonLdContextFactory {
+
+    @Override
+    public JsonLdContext createJsonLdContext() {
+        return new HoistingJsonLdContext();
+    }
+
+    @Override
+    public JsonLdContext createJsonLdContext(JsonLdContext parent) {
+        return parent;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.exception.AmbiguousTermMappingException;
+import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.model.StringLiteralNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compacts IRIs using namespace prefixes and an optional vocabulary mapping ({@link JsonLd#VOCAB}).
+ * <p>
+ * Namespaces are taken from {@link cz.cvut.kbss.jopa.model.annotations.Namespace} declarations of classes registered
+ * via {@link #registerNamespaces(Class)}. A prefix is added to the root context when it is first used for compaction.
+ * Each IRI is compacted only once, so all its occurrences within one serialization use the same form, regardless of
+ * namespaces discovered later.
+ * <p>
+ * Only namespaces ending with a JSON-LD gen-delim character (e.g., {@code /} or {@code #}) are used, as only those
+ * define prefixes usable in compact IRIs.
+ * <p>
+ * Prefixes used for compaction are reserved, i.e., attribute terms must not redefine them in embedded contexts (see
+ * {@link #resolveTerm(String, String)}), as that would change the meaning of compact IRIs already produced.
+ * <p>
+ * Instances are not thread-safe and are intended to be used for a single serialization.
+ */
+public class IriCompactor {
+
+    private static final String GEN_DELIMS = ":/?#[]@";
+
+    private final JsonLdContext rootContext;
+
+    private final boolean usePrefixes;
+
+    private final String vocab;
+
+    // Namespace -> prefix
+    private final Map<String, String> namespaces = new HashMap<>();
+
+    // Namespace -> prefix term registered in the root context, empty if the prefix cannot be used
+    private final Map<String, Optional<String>> prefixTerms = new HashMap<>();
+
+    // Prefix terms registered in the root context and vocabulary-relative IRIs used for compaction
+    private final Set<String> reservedTerms = new HashSet<>();
+
+    private final Set<Class<?>> registeredClasses = new HashSet<>();
+
+    private final Map<String, String> compactIris = new HashMap<>();
+
+    private final Map<String, String> vocabularyIris = new HashMap<>();
+
+    /**
+     * Creates a compactor registering prefixes (and vocabulary mapping) in the specified context.
+     *
+     * @param rootContext Root context of the serialized object graph
+     * @param usePrefixes Whether to compact IRIs using namespace prefixes
+     * @param vocab       Vocabulary IRI, possibly {@code null}
+     */
+    public IriCompactor(JsonLdContext rootContext, boolean usePrefixes, String vocab) {
+        this.rootContext = Objects.requireNonNull(rootContext);
+        this.usePrefixes = usePrefixes;
+        this.vocab = vocab;
+        if (vocab != null) {
+            rootContext.registerTermMapping(JsonLd.VOCAB, vocab);
+        }
+    }
+
+    /**
+     * Makes namespaces declared for the specified class available for compaction.
+     * <p>
+     * If several namespaces share a prefix, the first registered one wins.
+     *
+     * @param cls Class whose namespaces to register
+     */
+    public void registerNamespaces(Class<?> cls) {
+        if (!usePrefixes || !registeredClasses.add(cls)) {
+            return;
+        }
+        BeanAnnotationProcessor.getNamespaces(cls).forEach((prefix, namespace) -> {
+            if (!namespaces.containsValue(prefix) && isPrefixNamespace(namespace)) {
+                namespaces.putIfAbsent(namespace, prefix);
+            }
+        });
+    }
+
+    private static boolean isPrefixNamespace(String namespace) {
+        return !namespace.isEmpty() && GEN_DELIMS.indexOf(namespace.charAt(namespace.length() - 1)) >= 0;
+    }
+
+    /**
+     * Compacts the specified IRI using the longest matching namespace.
+     *
+     * @param iri IRI to compact
+     * @return Compact IRI, or the specified IRI if it cannot be compacted
+     */
+    public String compactIri(String iri) {
+        if (iri.startsWith("@")) {
+            return iri;
+        }
+        return compactIris.computeIfAbsent(iri, this::resolveCompactIri);
+    }
+
+    private String resolveCompactIri(String iri) {
+        String namespace = null;
+        for (String ns : namespaces.keySet()) {
+            if (iri.length() > ns.length() && iri.startsWith(ns) && !iri.startsWith("//", ns.length()) &&
+                    (namespace == null || ns.length() > namespace.length())) {
+                namespace = ns;
+            }
+        }
+        if (namespace == null) {
+            return iri;
+        }
+        final String suffix = iri.substring(namespace.length());
+        return prefixTerms.computeIfAbsent(namespace, this::registerPrefix).map(p -> p + ":" + suffix).orElse(iri);
+    }
+
+    private Optional<String> registerPrefix(String namespace) {
+        final String prefix = namespaces.get(namespace);
+        try {
+            // The context may register the prefix under a different term if it resolves conflicts
+            final String prefixTerm = rootContext.resolveTermMapping(prefix, namespace);
+            reservedTerms.add(prefixTerm);
+            return Optional.of(prefixTerm);
+        } catch (AmbiguousTermMappingException e) {
+            // Prefix clashes with an attribute term
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the term under which the specified attribute mapping should be registered.
+     * <p>
+     * If the term is a prefix or a vocabulary-relative IRI already used for compaction, the (compact) IRI is used as the
+     * term instead, so that the term does not change the meaning of the compacted IRIs.
+     *
+     * @param term Attribute term
+     * @param iri  (Compact) IRI to which the term is mapped
+     * @return The specified term or the specified IRI if the term is reserved
+     */
+    public String resolveTerm(String term, String iri) {
+        return reservedTerms.contains(term) ? iri : term;
+    }
+
+    /**
+     * Gets the expanded term definition which should be registered for the specified attribute mapping.
+     * <p>
+     * If the term is a prefix or a vocabulary-relative IRI already used for compaction, the definition is renamed to its
+     * (compact) {@link JsonLd#ID}, so that the term does not change the meaning of the compacted IRIs.
+     *
+     * @param term       Attribute term
+     * @param definition Attribute term definition
+     * @return The specified definition or its copy renamed to the mapped IRI if the term is reserved
+     * @see #resolveTerm(String, String)
+     */
+    public ObjectNode resolveTermDefinition(String term, ObjectNode definition) {
+        if (!reservedTerms.contains(term)) {
+            return definition;
+        }
+        final Optional<String> id = TermMappingHolder.extractId(definition);
+        if (id.isEmpty()) {
+            return definition;
+        }
+        final ObjectNode result = JsonNodeFactory.createObjectNode(id.get());
+        definition.getItems().forEach(result::addItem);
+        return result;
+    }
+
+    /**
+     * Compacts the specified vocabulary IRI, e.g., a type.
+     * <p>
+     * Such IRIs are relative to the vocabulary mapping (if set). Otherwise, they are compacted using namespace
+     * prefixes.
+     *
+     * @param iri IRI to compact
+     * @return Compacted IRI, or the specified IRI if it cannot be compacted
+     */
+    public String compactVocabularyIri(String iri) {
+        if (vocab == null) {
+            return compactIri(iri);
+        }
+        return vocabularyIris.computeIfAbsent(iri, i -> {
+            final String suffix = i.startsWith(vocab) ? i.substring(vocab.length()) : "";
+            // Defined terms take precedence over vocabulary-relative IRIs
+            if (!suffix.isEmpty() && suffix.indexOf(':') < 0 && !rootContext.hasTermMapping(suffix)) {
+                // Terms registered later must not redefine the suffix
+                reservedTerms.add(suffix);
+                return suffix;
+            }
+            return compactIri(i);
+        });
+    }
+
+    /**
+     * Compacts IRIs ({@link JsonLd#ID} and {@link JsonLd#TYPE}) in the specified expanded term definition.
+     *
+     * @param definition Expanded term definition
+     * @return Term definition with compacted IRIs, possibly the specified instance if nothing can be compacted
+     */
+    public ObjectNode compactTermDefinition(ObjectNode definition) {
+        final ObjectNode result = JsonNodeFactory.createObjectNode(definition.getName());
+        boolean changed = false;
+        for (JsonNode item : definition.getItems()) {
+            if (item instanceof StringLiteralNode literal &&
+                    (JsonLd.ID.equals(item.getName()) || JsonLd.TYPE.equals(item.getName()))) {
+                final String compacted = compactIri(literal.getValue());
+                changed |= !compacted.equals(literal.getValue());
+                result.addItem(JsonNodeFactory.createStringLiteralNode(item.getName(), compacted));
+            } else {
+                result.addItem(item);
+            }
+        }
+        return changed ? result : definition;
+    }
+}
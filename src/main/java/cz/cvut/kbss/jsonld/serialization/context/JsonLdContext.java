@@ -49,6 +49,36 @@ public interface JsonLdContext {
      */
     void registerTermMapping(String term, ObjectNode mappedNode);
 
+    /**
+     * Registers the specified term mapping and returns the term under which it is available.
+     * <p>
+     * By default, the mapping is registered using {@link #registerTermMapping(String, String)} under the specified
+     * term. Contexts resolving conflicting mappings by registering them under different terms override this method.
+     *
+     * @param term Mapped term
+     * @param iri  IRI to which the term is mapped
+     * @return Term under which the mapping is registered
+     */
+    default String resolveTermMapping(String term, String iri) {
+        registerTermMapping(term, iri);
+        return term;
+    }
+
+    /**
+     * Registers the specified term mapping and returns the term under which it is available.
+     * <p>
+     * By default, the mapping is registered using {@link #registerTermMapping(String, ObjectNode)} under the specified
+     * term. Contexts resolving conflicting mappings by registering them under different terms override this method.
+     *
+     * @param term       Mapped term
+     * @param mappedNode Node to which the term is mapped
+     * @return Term under which the mapping is registered
+     */
+    default String resolveTermMapping(String term, ObjectNode mappedNode) {
+        registerTermMapping(term, mappedNode);
+        return term;
+    }
+
     /**
      * Gets the mapping for the specified term (if it exists).
      *
@@ -0,0 +1,91 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches root JSON-LD contexts generated by serialization, so that identical contexts are not rebuilt for every
+ * serialized object graph.
+ * <p>
+ * Contexts are cached per root type (for collections, per type of their first element). Since term mappings depend
+ * also on the serialized values, a cached context is not written blindly. Instead, root contexts created by this cache
+ * are backed by the cached context, registering a term mapping already present in it is cheap, and the cached context
+ * node is reused if no other term mapping is registered.
+ * <p>
+ * The cache has to be cleared when the serialization setup changes (e.g., configuration or value serializers), so
+ * that stale contexts are not consulted.
+ */
+public class JsonLdContextCache {
+
+    private final Map<CacheKey, CachedTermMappingHolder.CachedContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a root JSON-LD context for serialization of the specified object graph.
+     *
+     * @param root Object graph root
+     * @return New root JSON-LD context
+     */
+    public JsonLdContext createRootContext(Object root) {
+        final CacheKey key = CacheKey.of(root);
+        final CachedTermMappingHolder.CachedContext cached = key != null ? contexts.get(key) : null;
+        return cached != null ? new MappingJsonLdContext(cached) : new MappingJsonLdContext();
+    }
+
+    /**
+     * Caches the specified root JSON-LD context node generated for the specified object graph.
+     * <p>
+     * The node must not be modified afterwards.
+     *
+     * @param root        Object graph root
+     * @param contextNode Root context node of the serialized object graph
+     */
+    public void put(Object root, ObjectNode contextNode) {
+        final CacheKey key = CacheKey.of(root);
+        if (key == null) {
+            return;
+        }
+        final CachedTermMappingHolder.CachedContext existing = contexts.get(key);
+        if (existing == null || existing.getContextNode() != contextNode) {
+            contexts.put(key, new CachedTermMappingHolder.CachedContext(contextNode));
+        }
+    }
+
+    /**
+     * Removes all cached contexts.
+     */
+    public void clear() {
+        contexts.clear();
+    }
+
+    private record CacheKey(Class<?> type, boolean collection) {
+
+        private static CacheKey of(Object root) {
+            if (root instanceof Collection<?> col) {
+                return col.stream().filter(Objects::nonNull).findFirst().map(e -> new CacheKey(e.getClass(), true))
+                          .orElse(null);
+            }
+            return new CacheKey(root.getClass(), false);
+        }
+    }
+}
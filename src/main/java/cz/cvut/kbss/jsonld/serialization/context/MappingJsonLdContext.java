@@ -36,30 +36,67 @@ public class MappingJsonLdContext implements JsonLdContext {
 
     private TermMappingHolder mappingHolder;
 
+    // Whether this context only writes through to the mapping holder of its parent. A holder of its own is created
+    // lazily, when a term mapping conflicting with the inherited one is registered
+    private boolean inherited;
+
+    // Holder backed by a previously built root context, if this context has been created from it
+    private final CachedTermMappingHolder cachedMappingHolder;
+
     public MappingJsonLdContext() {
         this.mappingHolder = new EmbeddedTermMappingHolder();
+        this.cachedMappingHolder = null;
+    }
+
+    /**
+     * Creates a new root context backed by the specified previously built context.
+     * <p>
+     * Registering terms already present in the cached context does not rebuild the mapping, and the cached context
+     * node is reused if the terms registered in this context are exactly the ones in the cached context.
+     *
+     * @param cachedContext Previously built context
+     */
+    MappingJsonLdContext(CachedTermMappingHolder.CachedContext cachedContext) {
+        this.cachedMappingHolder = new CachedTermMappingHolder(cachedContext);
+        this.mappingHolder = cachedMappingHolder;
     }
 
+    /**
+     * Creates a new context inheriting term mapping from the specified parent.
+     * <p>
+     * The new context shares mapping of the parent until a term mapping conflicting with the parent is registered in
+     * it, so creating a context for each serialized object is cheap.
+     *
+     * @param parent Parent context
+     */
     public MappingJsonLdContext(JsonLdContext parent) {
         assert parent instanceof MappingJsonLdContext;
-        this.mappingHolder = new WriteThroughTermMappingHolder(((MappingJsonLdContext) parent).mappingHolder);
+        this.mappingHolder = ((MappingJsonLdContext) parent).mappingHolder;
+        this.inherited = true;
+        this.cachedMappingHolder = null;
     }
 
     @Override
     public void registerTermMapping(String term, String iri) {
-        final JsonNode value = JsonNodeFactory.createStringLiteralNode(term, iri);
-        if (!mappingHolder.canRegisterTermMapping(term, value) && !mappingHolder.isRoot()) {
-            this.mappingHolder = new EmbeddedTermMappingHolder(mappingHolder);
-        }
-        mappingHolder.registerTermMapping(term, value);
+        registerTermMapping(term, JsonNodeFactory.createStringLiteralNode(term, iri));
     }
 
     @Override
     public void registerTermMapping(String term, ObjectNode mappedNode) {
-        if (!mappingHolder.canRegisterTermMapping(term, mappedNode) && !mappingHolder.isRoot()) {
-            this.mappingHolder = new EmbeddedTermMappingHolder(mappingHolder);
+        registerTermMapping(term, (JsonNode) mappedNode);
+    }
+
+    private void registerTermMapping(String term, JsonNode value) {
+        if (inherited && !canWriteThrough(term, value)) {
+            this.mappingHolder = new EmbeddedTermMappingHolder(new WriteThroughTermMappingHolder(mappingHolder));
+            this.inherited = false;
         }
-        mappingHolder.registerTermMapping(term, mappedNode);
+        mappingHolder.registerTermMapping(term, value);
+    }
+
+    private boolean canWriteThrough(String term, JsonNode value) {
+        final Optional<JsonNode> existing = mappingHolder.getTermMapping(term);
+        return existing.isEmpty() || existing.get().equals(value);
     }
 
     @Override
@@ -79,11 +116,14 @@ public class MappingJsonLdContext implements JsonLdContext {
 
     @Override
     public boolean isCurrentEmpty() {
-        return mappingHolder.isEmpty();
+        return inherited || mappingHolder.isEmpty();
     }
 
     @Override
     public ObjectNode getContextNode() {
+        if (cachedMappingHolder != null) {
+            return cachedMappingHolder.getContextNode();
+        }
         final ObjectNode node = new ObjectNode(JsonLd.CONTEXT);
         mappingHolder.getMapping().values().forEach(node::addItem);
         return node;
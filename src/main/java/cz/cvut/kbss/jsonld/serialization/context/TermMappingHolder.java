@@ -50,7 +50,25 @@ abstract class TermMappingHolder {
 
     abstract boolean isRoot();
 
+    /**
+     * Gets the term mapped to the specified IRI, searching also in parent holders where applicable.
+     *
+     * @param iri IRI to find term for
+     * @return Matching term, empty {@code Optional} if there is none
+     */
     public Optional<String> getMappedTerm(String iri) {
+        return getOwnMappedTerm(iri);
+    }
+
+    /**
+     * Gets the term mapped to the specified IRI in the mapping of this holder (see {@link #getMapping()}).
+     * <p>
+     * If multiple terms are mapped to the IRI, the first one in the mapping iteration order is returned.
+     *
+     * @param iri IRI to find term for
+     * @return Matching term, empty {@code Optional} if there is none
+     */
+    Optional<String> getOwnMappedTerm(String iri) {
         Objects.requireNonNull(iri);
         for (Map.Entry<String, JsonNode> e : getMapping().entrySet()) {
             final Optional<String> id = extractId(e.getValue());
@@ -61,7 +79,7 @@ abstract class TermMappingHolder {
         return Optional.empty();
     }
 
-    private static Optional<String> extractId(JsonNode node) {
+    static Optional<String> extractId(JsonNode node) {
         assert node instanceof StringLiteralNode || node instanceof ObjectNode;
         if (node instanceof StringLiteralNode) {
             return Optional.of(((StringLiteralNode) node).getValue());
@@ -54,6 +54,16 @@ class WriteThroughTermMappingHolder extends TermMappingHolder {
         return !parentContext.hasTermMapping(term) || parentContext.getTermMapping(term).get().equals(mappedNode);
     }
 
+    @Override
+    Optional<String> getOwnMappedTerm(String iri) {
+        return parentContext.getOwnMappedTerm(iri);
+    }
+
+    @Override
+    public Optional<String> getMappedTerm(String iri) {
+        return parentContext.getMappedTerm(iri);
+    }
+
     @Override
     Map<String, JsonNode> getMapping() {
         return parentContext.getMapping();
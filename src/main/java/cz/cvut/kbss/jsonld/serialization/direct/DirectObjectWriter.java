@@ -0,0 +1,210 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.direct;
+
+import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.common.BeanClassProcessor;
+import cz.cvut.kbss.jsonld.common.ClassMetadata;
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.common.FieldAccessorFactory;
+import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+import cz.cvut.kbss.jsonld.exception.MissingIdentifierException;
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import cz.cvut.kbss.jsonld.serialization.context.DummyJsonLdContext;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.traversal.InstanceTypeResolver;
+import cz.cvut.kbss.jsonld.serialization.traversal.ObjectGraphTraverser;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContextFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Writes instances of a single mapped class directly into a {@link JsonGenerator}, without building the intermediate
+ * JSON-LD tree.
+ * <p>
+ * The writer is assembled once per class from the cached class metadata and field accessors. It supports mapped classes
+ * without a {@link cz.cvut.kbss.jopa.model.annotations.Properties} field. Values of object properties are handed over to
+ * an {@link ObjectGraphTraverser}, which writes them into the same generator. Other classes have to be serialized
+ * using the regular object graph traversal.
+ * <p>
+ * The output is the same as that of {@link cz.cvut.kbss.jsonld.serialization.CompactedJsonLdSerializer}. Attribute
+ * values are serialized using the configured {@link ValueSerializers}, so custom value serializers are respected. String
+ * attributes and primitive numeric and boolean attributes handled by the default serializers are written without
+ * creating intermediate serialization contexts and JSON nodes.
+ * <p>
+ * Cached writers are rebuilt when the class metadata or the field accessor factory change, e.g., after
+ * {@link BeanAnnotationProcessor#setPropertyAccessResolver} or {@link BeanClassProcessor#setFieldAccessorFactory} is
+ * called.
+ */
+public final class DirectObjectWriter {
+
+    private static volatile ClassValue<Entry> writers = createWriterCache();
+
+    private static final SerializationContextFactory CONTEXT_FACTORY =
+            new SerializationContextFactory(DummyJsonLdContext.INSTANCE);
+
+    private final InstanceTypeResolver typeResolver = new InstanceTypeResolver();
+
+    private final Field identifierField;
+    private final Field typesField;
+    private final List<Field> attributes;
+    private final FieldAccessor[] accessors;
+    // Writers of literal attributes which bypass value serializers, null for other attributes
+    private final LiteralAttributeWriter[] literalWriters;
+
+    private DirectObjectWriter(ClassMetadata metadata) {
+        this.identifierField = metadata.getIdentifierField().orElse(null);
+        this.typesField = metadata.getTypesField().orElse(null);
+        this.attributes = metadata.getAttributeFields();
+        this.accessors = attributes.stream().map(BeanClassProcessor::getFieldAccessor).toArray(FieldAccessor[]::new);
+        this.literalWriters = new LiteralAttributeWriter[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            literalWriters[i] = createLiteralWriter(attributes.get(i), metadata, accessors[i]);
+        }
+    }
+
+    private static LiteralAttributeWriter createLiteralWriter(Field field, ClassMetadata metadata,
+                                                              FieldAccessor accessor) {
+        final String term = metadata.getAttributeIdentifier(field);
+        if (field.getType() == String.class && !BeanAnnotationProcessor.isObjectProperty(field)) {
+            return new StringAttributeWriter(term, accessor);
+        }
+        return PrimitiveAttributeWriter.create(field, term, accessor).orElse(null);
+    }
+
+    private static ClassValue<Entry> createWriterCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Entry computeValue(Class<?> type) {
+                // Resolve the factory first, so that a concurrent change makes the entry stale rather than inconsistent
+                final FieldAccessorFactory accessorFactory = BeanClassProcessor.getFieldAccessorFactory();
+                final ClassMetadata metadata = BeanAnnotationProcessor.getClassMetadata(type);
+                final DirectObjectWriter writer = isSupported(type, metadata) ? new DirectObjectWriter(metadata) : null;
+                return new Entry(metadata, accessorFactory, Optional.ofNullable(writer));
+            }
+        };
+    }
+
+    private static boolean isSupported(Class<?> type, ClassMetadata metadata) {
+        if (Collection.class.isAssignableFrom(type) || BeanClassProcessor.isIndividualType(type) ||
+                BeanClassProcessor.isIdentifierType(type)) {
+            return false;
+        }
+        if (!BeanAnnotationProcessor.isMappedType(type) && !metadata.hasTypesField()) {
+            return false;
+        }
+        return !metadata.hasPropertiesField();
+    }
+
+    /**
+     * Gets a direct writer for the specified class.
+     * <p>
+     * Writers are resolved once per class and cached.
+     *
+     * @param type Class whose instances should be written
+     * @return Optional writer, empty if instances of the specified class cannot be written directly
+     */
+    public static Optional<DirectObjectWriter> forClass(Class<?> type) {
+        Objects.requireNonNull(type);
+        final Entry entry = writers.get(type);
+        if (entry.isCurrent(type)) {
+            return entry.writer;
+        }
+        // Mapping configuration changed, discard all the writers built using the previous one
+        final ClassValue<Entry> fresh = createWriterCache();
+        writers = fresh;
+        return fresh.get(type).writer;
+    }
+
+    /**
+     * Writes the specified instance as a JSON-LD object.
+     *
+     * @param instance    Instance to write
+     * @param serializers Serializers of identifier, types and attribute values. Must be already configured and have to
+     *                    serialize object property values using the specified traverser
+     * @param traverser   Traverser writing object property values into the specified generator. Resolves identifier of
+     *                    the instance
+     * @param generator   Target generator
+     * @throws MissingIdentifierException If identifier is required by the traverser and the instance has none
+     */
+    public void write(Object instance, ValueSerializers serializers, ObjectGraphTraverser traverser,
+                      JsonGenerator generator) {
+        Objects.requireNonNull(instance);
+        final SerializationContext<?> ctx = CONTEXT_FACTORY.create(instance);
+        final String id = traverser.registerInstance(instance);
+        final JsonNode idNode = serializers.getIdentifierSerializer()
+                                           .serialize(id, CONTEXT_FACTORY.createForIdentifier(identifierField, id, ctx));
+        final Set<String> types = typeResolver.resolveTypes(instance);
+        final JsonNode typesNode = SerializerUtils.serializeTypes(serializers,
+                                                                  CONTEXT_FACTORY.createForTypes(typesField, types, ctx));
+        try {
+            generator.writeObjectStart();
+            idNode.write(generator);
+            typesNode.write(generator);
+            for (int i = 0; i < accessors.length; i++) {
+                final LiteralAttributeWriter literalWriter = literalWriters[i];
+                if (literalWriter != null && literalWriter.isApplicable(serializers)) {
+                    literalWriter.write(instance, generator);
+                } else {
+                    writeAttribute(attributes.get(i), accessors[i].getValue(instance), ctx, serializers, generator);
+                }
+            }
+            generator.writeObjectEnd();
+        } catch (IOException e) {
+            throw new JsonLdSerializationException("Unable to serialize instance " + instance, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeAttribute(Field field, Object value, SerializationContext<?> ctx,
+                                       ValueSerializers serializers, JsonGenerator generator) {
+        if (value == null) {
+            return;
+        }
+        final SerializationContext<Object> attCtx = CONTEXT_FACTORY.createForAttribute(field, value, ctx);
+        final ValueSerializer<Object> serializer = serializers.getOrDefault(attCtx);
+        final JsonNode node = serializer.serialize(value, attCtx);
+        if (node != null) {
+            node.write(generator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirectObjectWriter{" + attributes + "}";
+    }
+
+    private record Entry(ClassMetadata metadata, FieldAccessorFactory accessorFactory,
+                         Optional<DirectObjectWriter> writer) {
+
+        boolean isCurrent(Class<?> type) {
+            return metadata == BeanAnnotationProcessor.getClassMetadata(type) &&
+                    accessorFactory == BeanClassProcessor.getFieldAccessorFactory();
+        }
+    }
+}
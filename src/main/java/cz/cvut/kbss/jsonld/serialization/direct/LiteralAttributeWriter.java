@@ -0,0 +1,46 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.direct;
+
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+
+import java.io.IOException;
+
+/**
+ * Writes value of a literal attribute without creating a serialization context and a JSON node for it.
+ */
+interface LiteralAttributeWriter {
+
+    /**
+     * Checks whether this writer produces the same output as the serializer registered for the attribute type.
+     *
+     * @param serializers Configured value serializers
+     * @return {@code true} if the default serializer is used for the attribute type
+     */
+    boolean isApplicable(ValueSerializers serializers);
+
+    /**
+     * Writes the attribute of the specified instance.
+     *
+     * @param instance  Instance whose attribute to write
+     * @param generator Target generator
+     * @throws IOException When JSON writing error occurs
+     */
+    void write(Object instance, JsonGenerator generator) throws IOException;
+}
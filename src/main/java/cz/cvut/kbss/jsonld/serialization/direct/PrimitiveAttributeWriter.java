@@ -0,0 +1,122 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.direct;
+
+import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.serialization.EncodedFieldName;
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.BooleanSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.NumberSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes value of a primitive numeric or boolean attribute without boxing it.
+ * <p>
+ * The output is the same as that of {@link NumberSerializer} and {@link BooleanSerializer}, i.e., a typed value object.
+ * So the writer can be used only if these serializers are registered for the corresponding boxed type.
+ */
+final class PrimitiveAttributeWriter implements LiteralAttributeWriter {
+
+    private static final EncodedFieldName TYPE = EncodedFieldName.of(JsonLd.TYPE);
+    private static final EncodedFieldName VALUE = EncodedFieldName.of(JsonLd.VALUE);
+
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = Map.of(
+            boolean.class, Boolean.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class);
+
+    private final Class<?> type;
+    private final Class<?> boxedType;
+    private final EncodedFieldName term;
+    private final String datatype;
+    private final FieldAccessor accessor;
+
+    private PrimitiveAttributeWriter(Class<?> type, String term, String datatype, FieldAccessor accessor) {
+        this.type = type;
+        this.boxedType = BOXED_TYPES.get(type);
+        this.term = EncodedFieldName.of(term);
+        this.datatype = datatype;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Creates a writer for the specified field, provided it is of a supported primitive type.
+     *
+     * @param field    Attribute field
+     * @param term     Term representing the attribute
+     * @param accessor Accessor of the field
+     * @return Optional writer, empty if the field is not of a supported primitive type
+     */
+    static Optional<PrimitiveAttributeWriter> create(Field field, String term, FieldAccessor accessor) {
+        final Class<?> type = field.getType();
+        if (!BOXED_TYPES.containsKey(type)) {
+            return Optional.empty();
+        }
+        final String datatype = type == boolean.class ? XSD.BOOLEAN : NumberSerializer.resolveDatatype(type);
+        return Optional.of(new PrimitiveAttributeWriter(type, term, datatype, accessor));
+    }
+
+    @Override
+    public boolean isApplicable(ValueSerializers serializers) {
+        final Optional<? extends ValueSerializer<?>> serializer = serializers.getSerializerForType(boxedType);
+        if (serializer.isEmpty()) {
+            return false;
+        }
+        final Class<?> serializerType = serializer.get().getClass();
+        return type == boolean.class ? serializerType == BooleanSerializer.class :
+               serializerType == NumberSerializer.class;
+    }
+
+    @Override
+    public void write(Object instance, JsonGenerator generator) throws IOException {
+        generator.writeFieldName(term);
+        generator.writeObjectStart();
+        generator.writeFieldName(TYPE);
+        generator.writeString(datatype);
+        generator.writeFieldName(VALUE);
+        writeValue(instance, generator);
+        generator.writeObjectEnd();
+    }
+
+    private void writeValue(Object instance, JsonGenerator generator) throws IOException {
+        if (type == int.class) {
+            generator.writeNumber(accessor.getInt(instance));
+        } else if (type == long.class) {
+            generator.writeNumber(accessor.getLong(instance));
+        } else if (type == double.class) {
+            generator.writeNumber(accessor.getDouble(instance));
+        } else if (type == float.class) {
+            generator.writeNumber(accessor.getFloat(instance));
+        } else if (type == short.class) {
+            generator.writeNumber((int) accessor.getShort(instance));
+        } else {
+            generator.writeBoolean(accessor.getBoolean(instance));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.direct;
+
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.serialization.EncodedFieldName;
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+import cz.cvut.kbss.jsonld.serialization.serializer.LiteralValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.DefaultValueSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes value of a string attribute as a plain JSON string.
+ * <p>
+ * The output is the same as that of {@link DefaultValueSerializer}, so the writer can be used only with the built-in
+ * {@link LiteralValueSerializers} with no serializer registered for strings. Other {@link ValueSerializers}
+ * implementations may serialize strings differently.
+ */
+final class StringAttributeWriter implements LiteralAttributeWriter {
+
+    private final EncodedFieldName term;
+    private final FieldAccessor accessor;
+
+    StringAttributeWriter(String term, FieldAccessor accessor) {
+        this.term = EncodedFieldName.of(term);
+        this.accessor = accessor;
+    }
+
+    @Override
+    public boolean isApplicable(ValueSerializers serializers) {
+        return serializers instanceof LiteralValueSerializers && !serializers.hasCustomSerializer(String.class);
+    }
+
+    @Override
+    public void write(Object instance, JsonGenerator generator) throws IOException {
+        final Object value = accessor.getValue(instance);
+        if (value != null) {
+            generator.writeFieldName(term);
+            generator.writeString(value.toString());
+        }
+    }
+}
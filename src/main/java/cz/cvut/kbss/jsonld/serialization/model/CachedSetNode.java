@@ -0,0 +1,53 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.model;
+
+import cz.cvut.kbss.jsonld.serialization.JsonFragment;
+import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Set node whose value is serialized only once and then written as a raw JSON fragment.
+ * <p>
+ * Intended for nodes written repeatedly, e.g., types shared by all instances of a class. The node must not be
+ * modified after creation.
+ */
+public class CachedSetNode extends SetNode {
+
+    private final JsonFragment value;
+
+    /**
+     * Creates a cached copy of the specified node.
+     *
+     * @param node Node to copy
+     */
+    public CachedSetNode(SetNode node) {
+        super(node.getName());
+        node.getItems().forEach(this::addItem);
+        if (!node.isOpen()) {
+            close();
+        }
+        this.value = new JsonFragment(node::writeValue);
+    }
+
+    @Override
+    protected void writeValue(JsonGenerator writer) throws IOException {
+        writer.writeRaw(value);
+    }
+}
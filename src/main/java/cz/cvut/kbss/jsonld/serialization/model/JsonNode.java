@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jsonld.serialization.model;
 
 import cz.cvut.kbss.jsonld.exception.JsonLdSerializationException;
+import cz.cvut.kbss.jsonld.serialization.EncodedFieldName;
 import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
 
 import java.io.IOException;
@@ -27,6 +28,9 @@ public abstract class JsonNode {
     private final String name;
     private final boolean valueNode;
 
+    // Pre-encoded name, if available
+    private EncodedFieldName encodedName;
+
     JsonNode() {
         this.name = null;
         this.valueNode = true;
@@ -45,6 +49,16 @@ public abstract class JsonNode {
         return valueNode;
     }
 
+    /**
+     * Sets pre-encoded form of the name of this node, used when the node key is written.
+     *
+     * @param encodedName Encoded name, its value has to be the same as {@link #getName()}
+     */
+    public void setEncodedName(EncodedFieldName encodedName) {
+        assert encodedName == null || encodedName.getValue().equals(name);
+        this.encodedName = encodedName;
+    }
+
     public void write(JsonGenerator writer) {
         try {
             if (!valueNode) {
@@ -57,7 +71,11 @@ public abstract class JsonNode {
     }
 
     protected void writeKey(JsonGenerator writer) throws IOException {
-        writer.writeFieldName(name);
+        if (encodedName != null) {
+            writer.writeFieldName(encodedName);
+        } else {
+            writer.writeFieldName(name);
+        }
     }
 
     abstract protected void writeValue(JsonGenerator writer) throws IOException;
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jsonld.serialization.model;
 
 import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.EncodedFieldName;
 import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
 
 import java.io.IOException;
@@ -31,6 +32,8 @@ import java.util.List;
  */
 public class ListNode extends CollectionNode<List<JsonNode>> {
 
+    private static final EncodedFieldName LIST = EncodedFieldName.of(JsonLd.LIST);
+
     public ListNode() {
     }
 
@@ -46,7 +49,7 @@ public class ListNode extends CollectionNode<List<JsonNode>> {
     @Override
     protected void writeValue(final JsonGenerator writer) throws IOException {
         writer.writeObjectStart();
-        writer.writeFieldName(JsonLd.LIST);
+        writer.writeFieldName(LIST);
         writer.writeArrayStart();
         items.forEach(item -> item.write(writer));
         writer.writeArrayEnd();
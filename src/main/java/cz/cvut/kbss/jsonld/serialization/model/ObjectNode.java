@@ -46,6 +46,17 @@ public class ObjectNode extends CompositeNode<List<JsonNode>> {
         items.add(0, node);
     }
 
+    /**
+     * Removes all items of this node except for the specified one.
+     * <p>
+     * This allows turning a serialized object into a reference to it by keeping only its identifier.
+     *
+     * @param node Item to keep
+     */
+    public void retainOnly(JsonNode node) {
+        items.removeIf(item -> item != node);
+    }
+
     @Override
     protected void writeValue(JsonGenerator writer) throws IOException {
         writer.writeObjectStart();
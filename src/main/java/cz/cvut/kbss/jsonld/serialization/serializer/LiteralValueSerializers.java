@@ -55,6 +55,11 @@ public class LiteralValueSerializers implements ValueSerializers {
         return Optional.ofNullable((ValueSerializer<T>) serializers.get(ctx.getValue().getClass()));
     }
 
+    @Override
+    public <T> Optional<ValueSerializer<T>> getSerializerForType(Class<T> type) {
+        return Optional.ofNullable((ValueSerializer<T>) serializers.get(type));
+    }
+
     @Override
     public <T> ValueSerializer<T> getOrDefault(SerializationContext<T> ctx) {
         return (ValueSerializer<T>) serializers.getOrDefault(ctx.getValue().getClass(), defaultSerializer);
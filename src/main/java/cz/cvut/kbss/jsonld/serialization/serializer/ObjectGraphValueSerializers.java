@@ -54,6 +54,11 @@ public class ObjectGraphValueSerializers implements ValueSerializers {
                 Optional.empty());
     }
 
+    @Override
+    public <T> Optional<ValueSerializer<T>> getSerializerForType(Class<T> type) {
+        return serializers.getSerializerForType(type);
+    }
+
     @Override
     public <T> ValueSerializer<T> getOrDefault(SerializationContext<T> ctx) {
         final Optional<ValueSerializer<T>> result = serializers.getSerializer(ctx);
@@ -23,8 +23,13 @@ import cz.cvut.kbss.jsonld.common.BeanClassProcessor;
 import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.TypesSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.context.ContextBuildingTypesSerializer;
 import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Utilities for serializers.
  */
@@ -76,4 +81,28 @@ public class SerializerUtils {
         node.addItem(JsonNodeFactory.createLiteralNode(JsonLd.VALUE, value));
         return node;
     }
+
+    /**
+     * Serializes types of an instance using the types serializer provided by the specified serializers.
+     * <p>
+     * Resolved types may be shared by all instances of a class. They are thus passed to a custom types serializer as a
+     * copy, so that it may modify them.
+     *
+     * @param serializers Serializers providing the types serializer
+     * @param typesCtx    Context representing the types to serialize
+     * @return Resulting JSON node
+     * @see cz.cvut.kbss.jsonld.serialization.traversal.InstanceTypeResolver#resolveTypes(Object)
+     */
+    public static JsonNode serializeTypes(ValueSerializers serializers, SerializationContext<Set<String>> typesCtx) {
+        final ValueSerializer<Set<String>> serializer = serializers.getTypesSerializer();
+        final Class<?> serializerType = serializer.getClass();
+        if (serializerType == TypesSerializer.class || serializerType == ContextBuildingTypesSerializer.class) {
+            return serializer.serialize(typesCtx.getValue(), typesCtx);
+        }
+        final Set<String> types = new HashSet<>(typesCtx.getValue());
+        final SerializationContext<Set<String>> ctx =
+                new SerializationContext<>(typesCtx.getTerm(), typesCtx.getField(), types, typesCtx.getJsonLdContext());
+        ctx.setIriCompactor(typesCtx.getIriCompactor());
+        return serializer.serialize(types, ctx);
+    }
 }
@@ -49,6 +49,20 @@ public interface ValueSerializers extends Configurable {
      */
     <T> Optional<ValueSerializer<T>> getSerializer(SerializationContext<T> ctx);
 
+    /**
+     * Gets a custom serializer registered for the specified type.
+     * <p>
+     * Unlike {@link #getSerializer(SerializationContext)}, the result depends only on the type, so it can be resolved
+     * without a serialization context. Returns an empty optional by default.
+     *
+     * @param type Type of values
+     * @param <T>  Type of the value
+     * @return Optional containing the custom serializer registered for the specified type or an empty optional
+     */
+    default <T> Optional<ValueSerializer<T>> getSerializerForType(Class<T> type) {
+        return Optional.empty();
+    }
+
     /**
      * Gets a custom serializer registered for the specified serialization context or a default serializer if there is no custom one registered.
      *
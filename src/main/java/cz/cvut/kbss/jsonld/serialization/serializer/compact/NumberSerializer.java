@@ -26,6 +26,7 @@ import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -33,6 +34,15 @@ import java.util.Objects;
  */
 public class NumberSerializer implements ValueSerializer<Number> {
 
+    private static final Map<Class<?>, String> DATATYPES = Map.ofEntries(
+            Map.entry(Integer.class, XSD.INT), Map.entry(int.class, XSD.INT),
+            Map.entry(Long.class, XSD.LONG), Map.entry(long.class, XSD.LONG),
+            Map.entry(Double.class, XSD.DOUBLE), Map.entry(double.class, XSD.DOUBLE),
+            Map.entry(Float.class, XSD.FLOAT), Map.entry(float.class, XSD.FLOAT),
+            Map.entry(Short.class, XSD.SHORT), Map.entry(short.class, XSD.SHORT),
+            Map.entry(BigInteger.class, XSD.INTEGER),
+            Map.entry(BigDecimal.class, XSD.DECIMAL));
+
     @Override
     public JsonNode serialize(Number value, SerializationContext<Number> ctx) {
         Objects.requireNonNull(value);
@@ -40,23 +50,25 @@ public class NumberSerializer implements ValueSerializer<Number> {
     }
 
     protected String getDatatype(Number value) {
-        if (value instanceof Integer) {
-            return XSD.INT;
-        } else if (value instanceof Long) {
-            return XSD.LONG;
-        } else if (value instanceof Double) {
-            return XSD.DOUBLE;
-        } else if (value instanceof Float) {
-            return XSD.FLOAT;
-        } else if (value instanceof Short) {
-            return XSD.SHORT;
+        final String datatype = DATATYPES.get(value.getClass());
+        if (datatype != null) {
+            return datatype;
         } else if (value instanceof BigInteger) {
             return XSD.INTEGER;
         } else if (value instanceof BigDecimal) {
             return XSD.DECIMAL;
-        } else {
-            throw new IllegalArgumentException("Unsupported numeric literal type " + value.getClass());
         }
+        throw new IllegalArgumentException("Unsupported numeric literal type " + value.getClass());
+    }
+
+    /**
+     * Gets the XSD datatype of the specified numeric type.
+     *
+     * @param type Numeric type, boxed or primitive
+     * @return Datatype IRI, {@code null} if the type is not supported
+     */
+    public static String resolveDatatype(Class<?> type) {
+        return DATATYPES.get(type);
     }
 
     /**
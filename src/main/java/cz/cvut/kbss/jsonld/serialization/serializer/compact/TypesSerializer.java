@@ -18,17 +18,45 @@
 package cz.cvut.kbss.jsonld.serialization.serializer.compact;
 
 import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
-import cz.cvut.kbss.jsonld.serialization.model.CollectionNode;
+import cz.cvut.kbss.jsonld.serialization.model.CachedSetNode;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.SetNode;
 import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
 import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypesSerializer implements ValueSerializer<Set<String>> {
+
+    // Bounds the cache in case of unusually many distinct type sets
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * Nodes representing types of instances without a {@link cz.cvut.kbss.jopa.model.annotations.Types} field.
+     * <p>
+     * Such types depend only on the class of the instance, so they are serialized only once.
+     */
+    private final Map<Set<String>, JsonNode> classTypeNodes = new ConcurrentHashMap<>();
+
     @Override
     public JsonNode serialize(Set<String> value, SerializationContext<Set<String>> ctx) {
-        final CollectionNode<?> typesNode = JsonNodeFactory.createSetNode(ctx.getTerm());
+        if (ctx.getField() != null) {
+            return createTypesNode(value, ctx);
+        }
+        JsonNode node = classTypeNodes.get(value);
+        if (node == null) {
+            node = new CachedSetNode(createTypesNode(value, ctx));
+            if (classTypeNodes.size() < MAX_CACHE_SIZE) {
+                classTypeNodes.putIfAbsent(Set.copyOf(value), node);
+            }
+        }
+        return node;
+    }
+
+    private static SetNode createTypesNode(Set<String> value, SerializationContext<Set<String>> ctx) {
+        final SetNode typesNode = JsonNodeFactory.createSetNode(ctx.getTerm());
         value.forEach(type -> typesNode.addItem(JsonNodeFactory.createStringLiteralNode(type)));
         return typesNode;
     }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.jsonld.serialization.serializer.compact.datetime;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.IsoDateTimeUtil;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
 import cz.cvut.kbss.jsonld.serialization.serializer.datetime.DateTimeSerializer;
@@ -36,15 +37,31 @@ public class IsoDateTimeSerializer extends DateTimeSerializer {
 
     protected DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+    // Pattern the current formatter was created from, null if the default format is used
+    private String pattern;
+
     @Override
     public JsonNode serialize(OffsetDateTime value, SerializationContext<TemporalAccessor> ctx) {
-        return SerializerUtils.createdTypedValueNode(ctx.getTerm(), formatter.format(value), XSD.DATETIME);
+        return SerializerUtils.createdTypedValueNode(ctx.getTerm(), format(value), XSD.DATETIME);
+    }
+
+    /**
+     * Formats the specified value using the configured format.
+     *
+     * @param value Value to format
+     * @return Formatted value
+     */
+    protected String format(OffsetDateTime value) {
+        return formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME ? IsoDateTimeUtil.format(value) :
+               formatter.format(value);
     }
 
     @Override
     public void configure(Configuration configuration) {
-        if (configuration.has(ConfigParam.DATE_TIME_FORMAT)) {
-            this.formatter = DateTimeFormatter.ofPattern(configuration.get(ConfigParam.DATE_TIME_FORMAT));
+        final String configuredPattern = configuration.get(ConfigParam.DATE_TIME_FORMAT);
+        if (configuredPattern != null && !configuredPattern.equals(pattern)) {
+            this.formatter = DateTimeFormatter.ofPattern(configuredPattern);
+            this.pattern = configuredPattern;
         }
     }
 }
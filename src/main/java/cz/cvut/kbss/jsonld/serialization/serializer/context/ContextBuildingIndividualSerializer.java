@@ -33,15 +33,12 @@ public class ContextBuildingIndividualSerializer extends IndividualSerializer {
     @Override
     public JsonNode serialize(Object value, SerializationContext ctx) {
         // Assume term has been already registered in context
+        final String iri = BeanClassProcessor.isIdentifierType(value.getClass()) ? value.toString() :
+                           EnumUtil.resolveMappedIndividual((Enum<?>) value);
         if (serializeUsingExtendedDefinition) {
-            if (BeanClassProcessor.isIdentifierType(value.getClass())) {
-                return JsonNodeFactory.createStringLiteralNode(ctx.getTerm(), value.toString());
-            } else {
-                return JsonNodeFactory.createStringLiteralNode(ctx.getTerm(),
-                                                               EnumUtil.resolveMappedIndividual((Enum<?>) value));
-            }
+            return JsonNodeFactory.createStringLiteralNode(ctx.getTerm(), ctx.compactIri(iri));
         }
-        return super.serialize(value, ctx);
+        return super.serialize(ctx.compactIri(iri), ctx);
     }
 
     @Override
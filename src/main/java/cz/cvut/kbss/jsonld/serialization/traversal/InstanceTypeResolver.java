@@ -19,18 +19,20 @@ package cz.cvut.kbss.jsonld.serialization.traversal;
 
 import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
 import cz.cvut.kbss.jsonld.common.BeanClassProcessor;
+import cz.cvut.kbss.jsonld.common.ClassMetadata;
 import cz.cvut.kbss.jsonld.exception.BeanProcessingException;
 import cz.cvut.kbss.jsonld.exception.MissingTypeInfoException;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Determines the set of types an instance possesses.
  */
-class InstanceTypeResolver {
+public class InstanceTypeResolver {
 
     /**
      * Resolves all the types the instance belongs to.
@@ -41,28 +43,39 @@ class InstanceTypeResolver {
      * and any of its ancestors.</li>
      * <li>Value of types field in the instance.</li>
      * </ul>
+     * <p>
+     * Types of instances without a types field depend only on their class, so they are resolved once per class and
+     * shared.
      *
      * @param instance The instance whose types should be resolved
-     * @return Set of types of the instance
+     * @return Set of types of the instance. The set must not be modified
      */
-    Set<String> resolveTypes(Object instance) {
+    public Set<String> resolveTypes(Object instance) {
         assert instance != null;
-        final Set<String> declaredTypes = BeanAnnotationProcessor.getJsonLdTypeOrOwlClasses(instance);
-        final Optional<Field> typesField = BeanAnnotationProcessor.getTypesField(instance.getClass());
-        typesField.ifPresent(f -> {
-            if (!Collection.class.isAssignableFrom(f.getType())) {
-                throw new BeanProcessingException("@Types field in object " + instance + " must be a collection.");
-            }
-            final Collection<?> runtimeTypes = (Collection<?>) BeanClassProcessor.getFieldValue(f, instance);
-            if (runtimeTypes != null) {
-                runtimeTypes.forEach(t -> declaredTypes.add(t.toString()));
-            }
-        });
-        if (declaredTypes.isEmpty()) {
+        final ClassMetadata metadata = BeanAnnotationProcessor.getClassMetadata(instance.getClass());
+        final Optional<Field> typesField = metadata.getTypesField();
+        if (typesField.isEmpty()) {
+            return ensureNotEmpty(metadata.getTypes(), instance);
+        }
+        final Field f = typesField.get();
+        if (!Collection.class.isAssignableFrom(f.getType())) {
+            throw new BeanProcessingException("@Types field in object " + instance + " must be a collection.");
+        }
+        final Collection<?> runtimeTypes = (Collection<?>) BeanClassProcessor.getFieldValue(f, instance);
+        if (runtimeTypes == null || runtimeTypes.isEmpty()) {
+            return ensureNotEmpty(metadata.getTypes(), instance);
+        }
+        final Set<String> types = new HashSet<>(metadata.getTypes());
+        runtimeTypes.forEach(t -> types.add(t.toString()));
+        return types;
+    }
+
+    private static Set<String> ensureNotEmpty(Set<String> types, Object instance) {
+        if (types.isEmpty()) {
             throw new MissingTypeInfoException("No type info found on instance " + instance +
                     ". Either annotate the class with @OWLClass/@JsonLdType or provide a non-empty @Types field. " +
                     "If it is a literal, make sure that the property referencing is not an @OWLObjectProperty");
         }
-        return declaredTypes;
+        return types;
     }
 }
@@ -19,7 +19,8 @@ package cz.cvut.kbss.jsonld.serialization.traversal;
 
 import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
 import cz.cvut.kbss.jsonld.common.BeanClassProcessor;
-import cz.cvut.kbss.jsonld.common.IdentifierUtil;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
+import cz.cvut.kbss.jsonld.common.ClassMetadata;
 import cz.cvut.kbss.jsonld.exception.MissingIdentifierException;
 
 import java.lang.reflect.Field;
@@ -44,6 +45,11 @@ public class ObjectGraphTraverser {
 
     private final Map<Object, String> knownInstances = new IdentityHashMap<>();
 
+    // Shared identifiers generated for instances without identifier, null if they are not shared
+    private Map<Object, String> generatedIdentifiers;
+
+    private BlankNodeIdGenerator blankNodeIdGenerator = BlankNodeIdGenerator.counter();
+
     public ObjectGraphTraverser(SerializationContextFactory serializationContextFactory) {
         this.serializationContextFactory = serializationContextFactory;
     }
@@ -98,57 +104,31 @@ public class ObjectGraphTraverser {
         openInstance(ctx);
         visitIdentifier(ctx);
         if (firstEncounter) {
+            final ClassMetadata metadata = BeanAnnotationProcessor.getClassMetadata(ctx.getValue().getClass());
             visitTypes(ctx);
-            serializeFields(ctx);
-            serializePropertiesField(ctx);
+            serializeFields(ctx, metadata);
+            serializePropertiesField(ctx, metadata);
         }
         closeInstance(ctx);
     }
 
-    private void serializeFields(SerializationContext<?> ctx) {
+    private void serializeFields(SerializationContext<?> ctx, ClassMetadata metadata) {
         final Object instance = ctx.getValue();
-        final List<Field> fieldsToSerialize =
-                orderAttributesForSerialization(BeanAnnotationProcessor.getSerializableFields(instance),
-                                                BeanAnnotationProcessor.getAttributeOrder(instance.getClass()));
-        for (Field f : fieldsToSerialize) {
-            if (shouldSkipFieldSerialization(f)) {
-                continue;
-            }
-            Object value = BeanClassProcessor.getFieldValue(f, instance);
+        // Attribute fields are already ordered and do not contain identifier, types and properties
+        for (Field f : metadata.getAttributeFields()) {
+            final Object value = BeanClassProcessor.getFieldAccessor(f).getValue(instance);
             final SerializationContext<?> fieldCtx = serializationContextFactory.createForAttribute(f, value, ctx);
             visitAttribute(fieldCtx);
         }
     }
 
-    private boolean shouldSkipFieldSerialization(Field f) {
-        return BeanAnnotationProcessor.isInstanceIdentifier(f) || BeanAnnotationProcessor.isPropertiesField(
-                f) || BeanAnnotationProcessor.isTypesField(f);
-    }
-
-    private List<Field> orderAttributesForSerialization(List<Field> fields, String[] ordering) {
-        final List<Field> result = new ArrayList<>(fields.size());
-        for (String item : ordering) {
-            final Iterator<Field> it = fields.iterator();
-            while (it.hasNext()) {
-                final Field f = it.next();
-                if (f.getName().equals(item)) {
-                    it.remove();
-                    result.add(f);
-                    break;
-                }
-            }
-        }
-        result.addAll(fields);
-        return result;
-    }
-
-    private void serializePropertiesField(SerializationContext<?> ctx) {
+    private void serializePropertiesField(SerializationContext<?> ctx, ClassMetadata metadata) {
         final Object instance = ctx.getValue();
-        if (!BeanAnnotationProcessor.hasPropertiesField(instance.getClass())) {
+        if (!metadata.hasPropertiesField()) {
             return;
         }
-        final Field propertiesField = BeanAnnotationProcessor.getPropertiesField(instance.getClass());
-        final Object value = BeanClassProcessor.getFieldValue(propertiesField, instance);
+        final Field propertiesField = metadata.getPropertiesField().get();
+        final Object value = BeanClassProcessor.getFieldAccessor(propertiesField).getValue(instance);
         if (value == null) {
             return;
         }
@@ -174,13 +154,35 @@ public class ObjectGraphTraverser {
         visitor.openObject(ctx);
     }
 
+    /**
+     * Registers the specified instance as already visited and resolves its identifier.
+     * <p>
+     * This is used when the instance is written without being traversed, so that further occurrences of it in the
+     * traversed object graph are serialized as references.
+     *
+     * @param instance Instance to register
+     * @return Identifier of the instance, possibly a generated blank node identifier
+     * @throws MissingIdentifierException If identifier is required and the instance has none
+     */
+    public String registerInstance(Object instance) {
+        final String identifier = resolveIdentifier(Objects.requireNonNull(instance));
+        knownInstances.put(instance, identifier);
+        return identifier;
+    }
+
     private String resolveIdentifier(Object instance) {
         final Optional<Object> extractedId = BeanAnnotationProcessor.getInstanceIdentifier(instance);
         if (!extractedId.isPresent() && requireId) {
             throw MissingIdentifierException.create(instance);
         }
         return extractedId.orElseGet(() -> knownInstances.containsKey(instance) ? knownInstances.get(instance) :
-                                           IdentifierUtil.generateBlankNodeId()).toString();
+                                           generateIdentifier(instance)).toString();
+    }
+
+    private String generateIdentifier(Object instance) {
+        return generatedIdentifiers != null ?
+               generatedIdentifiers.computeIfAbsent(instance, i -> blankNodeIdGenerator.generateId()) :
+               blankNodeIdGenerator.generateId();
     }
 
     public void closeInstance(SerializationContext<?> ctx) {
@@ -223,4 +225,27 @@ public class ObjectGraphTraverser {
     public void setRequireId(boolean requireId) {
         this.requireId = requireId;
     }
+
+    /**
+     * Sets a map in which identifiers generated for instances without identifier are kept.
+     * <p>
+     * This allows traversers processing parts of the same object graph to assign the same identifier to such
+     * instances. The map has to be identity-based and, if used concurrently, thread-safe.
+     *
+     * @param generatedIdentifiers Map of instances to their generated identifiers
+     */
+    public void setGeneratedIdentifiers(Map<Object, String> generatedIdentifiers) {
+        this.generatedIdentifiers = Objects.requireNonNull(generatedIdentifiers);
+    }
+
+    /**
+     * Sets generator of blank node identifiers for instances without identifier.
+     * <p>
+     * Defaults to a {@link BlankNodeIdGenerator#counter()} created for this traverser.
+     *
+     * @param blankNodeIdGenerator Blank node identifier generator
+     */
+    public void setBlankNodeIdGenerator(BlankNodeIdGenerator blankNodeIdGenerator) {
+        this.blankNodeIdGenerator = Objects.requireNonNull(blankNodeIdGenerator);
+    }
 }
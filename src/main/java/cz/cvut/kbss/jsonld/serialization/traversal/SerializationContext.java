@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.jsonld.serialization.traversal;
 
+import cz.cvut.kbss.jsonld.serialization.context.IriCompactor;
 import cz.cvut.kbss.jsonld.serialization.context.JsonLdContext;
 import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
 import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
@@ -48,6 +49,8 @@ public class SerializationContext<T> implements JsonLdContext {
 
     private JsonLdContext jsonLdContext;
 
+    private IriCompactor iriCompactor;
+
     public SerializationContext(String term, T value, JsonLdContext jsonLdContext) {
         this(term, null, value, jsonLdContext);
     }
@@ -91,16 +94,67 @@ public class SerializationContext<T> implements JsonLdContext {
         this.jsonLdContext = jsonLdContext;
     }
 
+    public IriCompactor getIriCompactor() {
+        return iriCompactor;
+    }
+
+    public void setIriCompactor(IriCompactor iriCompactor) {
+        this.iriCompactor = iriCompactor;
+    }
+
+    /**
+     * Compacts the specified IRI if IRI compaction is enabled.
+     *
+     * @param iri IRI to compact
+     * @return Compact IRI or the specified IRI if it cannot be compacted
+     * @see IriCompactor#compactIri(String)
+     */
+    public String compactIri(String iri) {
+        return iriCompactor != null ? iriCompactor.compactIri(iri) : iri;
+    }
+
+    /**
+     * Compacts the specified vocabulary IRI (e.g., a type) if IRI compaction is enabled.
+     *
+     * @param iri IRI to compact
+     * @return Compacted IRI or the specified IRI if it cannot be compacted
+     * @see IriCompactor#compactVocabularyIri(String)
+     */
+    public String compactVocabularyIri(String iri) {
+        return iriCompactor != null ? iriCompactor.compactVocabularyIri(iri) : iri;
+    }
+
     @Override
     public void registerTermMapping(String term, String iri) {
-        jsonLdContext.registerTermMapping(term, iri);
-        this.term = term;
+        resolveTermMapping(term, iri);
     }
 
     @Override
     public void registerTermMapping(String term, ObjectNode mappedNode) {
-        jsonLdContext.registerTermMapping(term, mappedNode);
-        this.term = term;
+        resolveTermMapping(term, mappedNode);
+    }
+
+    @Override
+    public String resolveTermMapping(String term, String iri) {
+        if (iriCompactor != null) {
+            iri = iriCompactor.compactIri(iri);
+            term = iriCompactor.resolveTerm(term, iri);
+        }
+        this.term = jsonLdContext.resolveTermMapping(term, iri);
+        return this.term;
+    }
+
+    @Override
+    public String resolveTermMapping(String term, ObjectNode mappedNode) {
+        if (iriCompactor != null) {
+            final ObjectNode definition = iriCompactor.compactTermDefinition(mappedNode);
+            mappedNode = iriCompactor.resolveTermDefinition(term, definition);
+            if (mappedNode != definition) {
+                term = mappedNode.getName();
+            }
+        }
+        this.term = jsonLdContext.resolveTermMapping(term, mappedNode);
+        return this.term;
     }
 
     @Override
@@ -19,6 +19,7 @@ package cz.cvut.kbss.jsonld.serialization.traversal;
 
 import cz.cvut.kbss.jsonld.JsonLd;
 import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.serialization.context.IriCompactor;
 import cz.cvut.kbss.jsonld.serialization.context.JsonLdContext;
 
 import java.lang.reflect.Field;
@@ -31,37 +32,61 @@ public class SerializationContextFactory {
 
     private final JsonLdContext rootContext;
 
+    private final IriCompactor iriCompactor;
+
     public SerializationContextFactory(JsonLdContext rootContext) {
+        this(rootContext, null);
+    }
+
+    /**
+     * Creates a factory whose serialization contexts compact IRIs using the specified compactor.
+     *
+     * @param rootContext  Root JSON-LD context
+     * @param iriCompactor IRI compactor, possibly {@code null}
+     */
+    public SerializationContextFactory(JsonLdContext rootContext, IriCompactor iriCompactor) {
         this.rootContext = rootContext;
+        this.iriCompactor = iriCompactor;
     }
 
     public <T> SerializationContext<T> create(T value) {
         // Create root serialization context
-        return new SerializationContext<>(value, rootContext);
+        return init(new SerializationContext<>(value, rootContext));
     }
 
     public <T> SerializationContext<T> create(T value, SerializationContext<?> current) {
-        return new SerializationContext<>(value, current.getJsonLdContext());
+        return init(new SerializationContext<>(value, current.getJsonLdContext()));
     }
 
     public <T> SerializationContext<T> createForProperties(Field field, T value, SerializationContext<?> current) {
         assert BeanAnnotationProcessor.isPropertiesField(field);
 
-        return new SerializationContext<>(field, value, current.getJsonLdContext());
+        return init(new SerializationContext<>(field, value, current.getJsonLdContext()));
     }
 
     public <T> SerializationContext<T> createForAttribute(Field field, T value, SerializationContext<?> current) {
-        return new SerializationContext<>(BeanAnnotationProcessor.getAttributeIdentifier(field), field, value,
-                                          current.getJsonLdContext());
+        if (iriCompactor != null) {
+            iriCompactor.registerNamespaces(field.getDeclaringClass());
+        }
+        return init(new SerializationContext<>(BeanAnnotationProcessor.getAttributeIdentifier(field), field, value,
+                                               current.getJsonLdContext()));
     }
 
     public SerializationContext<String> createForIdentifier(Field field, String value,
                                                             SerializationContext<?> current) {
-        return new SerializationContext<>(JsonLd.ID, field, value, current.getJsonLdContext());
+        return init(new SerializationContext<>(JsonLd.ID, field, value, current.getJsonLdContext()));
     }
 
     public SerializationContext<Set<String>> createForTypes(Field field, Set<String> value,
                                                             SerializationContext<?> current) {
-        return new SerializationContext<>(JsonLd.TYPE, field, value, current.getJsonLdContext());
+        if (iriCompactor != null) {
+            iriCompactor.registerNamespaces(current.getValue().getClass());
+        }
+        return init(new SerializationContext<>(JsonLd.TYPE, field, value, current.getJsonLdContext()));
+    }
+
+    private <T> SerializationContext<T> init(SerializationContext<T> ctx) {
+        ctx.setIriCompactor(iriCompactor);
+        return ctx;
     }
 }
@@ -406,4 +406,30 @@ class BeanAnnotationProcessorTest {
         assertEquals(RDFS.RANGE,
                 BeanAnnotationProcessor.getAttributeIdentifier(ClassWithNamespaces.class.getDeclaredField("range")));
     }
+
+    @Test
+    void expandIriIfNecessaryPrefersNamespaceDeclaredOnClassOverNamespaceDeclaredInAncestor() {
+        assertEquals(RDFS.NAMESPACE + "Concept",
+                     BeanAnnotationProcessor.expandIriIfNecessary("skos:Concept", ClassOverridingNamespace.class));
+        // Prefixes not overridden are inherited
+        assertEquals(RDF.TYPE, BeanAnnotationProcessor.expandIriIfNecessary("rdf:type", ClassOverridingNamespace.class));
+        assertEquals(SKOS.CONCEPT, BeanAnnotationProcessor.expandIriIfNecessary("skos:Concept", ClassWithNamespaces.class));
+    }
+
+    @Namespace(prefix = "skos", namespace = RDFS.NAMESPACE)
+    private static class ClassOverridingNamespace extends ClassWithNamespaces {
+    }
+
+    @Test
+    void expandIriIfNecessaryReturnsSameExpandedIriForRepeatedCalls() {
+        final String first = BeanAnnotationProcessor.expandIriIfNecessary("dc:Agent", ClassWithNamespace.class);
+        assertEquals(DC.Terms.AGENT, first);
+        assertSame(first, BeanAnnotationProcessor.expandIriIfNecessary("dc:Agent", ClassWithNamespace.class));
+    }
+
+    @Test
+    void expandIriIfNecessaryReturnsArgumentWhenNoMatchingNamespaceIsDeclared() {
+        assertEquals("unknown:value", BeanAnnotationProcessor.expandIriIfNecessary("unknown:value",
+                                                                                   ClassWithNamespace.class));
+    }
 }
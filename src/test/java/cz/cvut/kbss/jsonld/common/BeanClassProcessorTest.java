@@ -32,7 +32,10 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static cz.cvut.kbss.jsonld.common.BeanClassProcessor.createCollection;
 import static cz.cvut.kbss.jsonld.common.BeanClassProcessor.getCollectionItemType;
@@ -65,6 +68,33 @@ class BeanClassProcessorTest {
         }
     }
 
+    @Test
+    void createInstanceUsesCustomInstanceFactoryWhenSet() {
+        final Person person = new Person();
+        try {
+            BeanClassProcessor.setInstanceFactory(new InstanceFactory() {
+                @Override
+                public <T> Optional<Supplier<T>> getInstanceSupplier(Class<T> cls) {
+                    return Person.class.equals(cls) ? Optional.of(() -> cls.cast(person)) : Optional.empty();
+                }
+            });
+            assertSame(person, BeanClassProcessor.createInstance(Person.class));
+            // Falls back to the default factory
+            assertNotNull(BeanClassProcessor.createInstance(Organization.class));
+        } finally {
+            BeanClassProcessor.setInstanceFactory(new DefaultInstanceFactory());
+        }
+        assertNotSame(person, BeanClassProcessor.createInstance(Person.class));
+    }
+
+    @Test
+    void createNewInstanceThrowsBeanProcessingExceptionForAbstractClass() {
+        assertThrows(BeanProcessingException.class, () -> BeanClassProcessor.createInstance(AbstractClass.class));
+    }
+
+    public abstract static class AbstractClass {
+    }
+
     @Test
     void testCreateCollectionOfListType() {
         final Collection<?> res = createCollection(CollectionType.LIST);
@@ -89,6 +119,11 @@ class BeanClassProcessorTest {
         assertTrue(res instanceof List);
     }
 
+    @Test
+    void createCollectionThrowsIllegalArgumentExceptionForUnsupportedCollectionType() {
+        assertThrows(IllegalArgumentException.class, () -> createCollection(Queue.class));
+    }
+
     private static class ClassWithListField {
 
         @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "List")
@@ -195,4 +230,99 @@ class BeanClassProcessorTest {
     void isIdentifierTypeReturnsFalseForNullArgument() {
         assertFalse(BeanClassProcessor.isIdentifierType(null));
     }
+
+    @Test
+    void getFieldAccessorReturnsCachedAccessorForField() throws Exception {
+        final Field field = Person.class.getDeclaredField("firstName");
+        final FieldAccessor accessor = BeanClassProcessor.getFieldAccessor(field);
+        assertSame(accessor, BeanClassProcessor.getFieldAccessor(Person.class.getDeclaredField("firstName")));
+    }
+
+    @Test
+    void fieldAccessorGetsAndSetsPrivateFieldValue() throws Exception {
+        final Person instance = new Person();
+        final FieldAccessor accessor =
+                BeanClassProcessor.getFieldAccessor(Person.class.getDeclaredField("firstName"));
+        accessor.setValue(instance, "John");
+        assertEquals("John", instance.getFirstName());
+        assertEquals("John", accessor.getValue(instance));
+    }
+
+    @Test
+    void fieldAccessorSetsPrimitiveFieldValue() throws Exception {
+        final PrimitiveField instance = new PrimitiveField();
+        BeanClassProcessor.setFieldValue(PrimitiveField.class.getDeclaredField("count"), instance, 117);
+        assertEquals(117, instance.count);
+        assertEquals(117, BeanClassProcessor.getFieldValue(PrimitiveField.class.getDeclaredField("count"), instance));
+    }
+
+    private static class PrimitiveField {
+        private int count;
+    }
+
+    @Test
+    void fieldAccessorGetsPrimitiveFieldValuesWithoutBoxing() throws Exception {
+        final PrimitiveFields instance = new PrimitiveFields();
+        assertTrue(getAccessor("flag").getBoolean(instance));
+        assertEquals((short) 1, getAccessor("shortValue").getShort(instance));
+        assertEquals(2, getAccessor("intValue").getInt(instance));
+        assertEquals(3L, getAccessor("longValue").getLong(instance));
+        assertEquals(4.5f, getAccessor("floatValue").getFloat(instance));
+        assertEquals(5.5, getAccessor("doubleValue").getDouble(instance));
+    }
+
+    private static FieldAccessor getAccessor(String fieldName) throws Exception {
+        return BeanClassProcessor.getFieldAccessor(PrimitiveFields.class.getDeclaredField(fieldName));
+    }
+
+    @Test
+    void fieldAccessorPrimitiveGettersConvertValueOfFieldOfDifferentType() throws Exception {
+        final PrimitiveFields instance = new PrimitiveFields();
+        assertEquals(2L, getAccessor("intValue").getLong(instance));
+        assertEquals(3, getAccessor("boxedLong").getInt(instance));
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrimitiveFields {
+        private boolean flag = true;
+        private short shortValue = 1;
+        private int intValue = 2;
+        private long longValue = 3;
+        private float floatValue = 4.5f;
+        private double doubleValue = 5.5;
+        private Long boxedLong = 3L;
+    }
+
+    @Test
+    void setFieldValueThrowsIllegalArgumentExceptionWhenValueTypeDoesNotMatchFieldType() throws Exception {
+        final Field field = PrimitiveField.class.getDeclaredField("count");
+        final PrimitiveField instance = new PrimitiveField();
+        assertThrows(IllegalArgumentException.class, () -> BeanClassProcessor.setFieldValue(field, instance, "117"));
+        assertThrows(IllegalArgumentException.class, () -> BeanClassProcessor.setFieldValue(field, instance, null));
+    }
+
+    @Test
+    void setFieldAccessorFactoryReplacesFactoryUsedToCreateAccessors() throws Exception {
+        final Field field = Person.class.getDeclaredField("firstName");
+        final FieldAccessor original = BeanClassProcessor.getFieldAccessor(field);
+        final FieldAccessor custom = new FieldAccessor() {
+            @Override
+            public Object getValue(Object instance) {
+                return "custom";
+            }
+
+            @Override
+            public void setValue(Object instance, Object value) {
+            }
+        };
+        try {
+            BeanClassProcessor.setFieldAccessorFactory(f -> custom);
+            assertSame(custom, BeanClassProcessor.getFieldAccessor(field));
+            assertEquals("custom", BeanClassProcessor.getFieldValue(field, new Person()));
+        } finally {
+            BeanClassProcessor.setFieldAccessorFactory(
+                    new GeneratedFieldAccessorFactory(new MethodHandleFieldAccessorFactory()));
+        }
+        assertNotSame(original, BeanClassProcessor.getFieldAccessor(field));
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.exception.JsonLdException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlankNodeIdGeneratorTest {
+
+    @Test
+    void counterGeneratesUniqueBlankNodeIdentifiers() {
+        final BlankNodeIdGenerator sut = BlankNodeIdGenerator.counter();
+        final Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            final String id = sut.generateId();
+            assertThat(id, startsWith(IdentifierUtil.B_NODE_PREFIX));
+            assertTrue(ids.add(id));
+        }
+    }
+
+    @Test
+    void counterUsesDistinctPrefixForEachGenerator() {
+        final BlankNodeIdGenerator one = BlankNodeIdGenerator.counter();
+        final BlankNodeIdGenerator two = BlankNodeIdGenerator.counter();
+        assertNotEquals(one.generateId(), two.generateId());
+    }
+
+    @Test
+    void counterDoesNotGenerateLabelsUsedByJsonLdProcessors() {
+        final BlankNodeIdGenerator sut = BlankNodeIdGenerator.counter();
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.generateId(), not(matchesPattern("_:b\\d+")));
+        }
+    }
+
+    @Test
+    void counterWithPrefixGeneratesSameSequenceForEachGenerator() {
+        final BlankNodeIdGenerator one = BlankNodeIdGenerator.counter("n");
+        final BlankNodeIdGenerator two = BlankNodeIdGenerator.counter("n");
+        assertEquals("_:n0", one.generateId());
+        assertEquals("_:n0", two.generateId());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(one.generateId(), two.generateId());
+        }
+    }
+
+    @Test
+    void createReturnsCounterGeneratorWhenNoneIsConfigured() {
+        final BlankNodeIdGenerator result = BlankNodeIdGenerator.create(new Configuration());
+        assertInstanceOf(CountingBlankNodeIdGenerator.class, result);
+    }
+
+    @Test
+    void createReturnsConfiguredGeneratorInstance() {
+        final BlankNodeIdGenerator generator = () -> "_:test";
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.BLANK_NODE_ID_GENERATOR, generator);
+        assertSame(generator, BlankNodeIdGenerator.create(config));
+        assertSame(generator, BlankNodeIdGenerator.create(config));
+    }
+
+    @Test
+    void createCallsConfiguredGeneratorSupplierForEachSession() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.BLANK_NODE_ID_GENERATOR, (Supplier<BlankNodeIdGenerator>) BlankNodeIdGenerator::counter);
+        assertNotSame(BlankNodeIdGenerator.create(config), BlankNodeIdGenerator.create(config));
+    }
+
+    @Test
+    void createThrowsJsonLdExceptionForUnsupportedConfigurationValue() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.BLANK_NODE_ID_GENERATOR, "random");
+        assertThrows(JsonLdException.class, () -> BlankNodeIdGenerator.create(config));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.Person;
+import cz.cvut.kbss.jsonld.environment.model.Study;
+import cz.cvut.kbss.jsonld.environment.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassMetadataTest {
+
+    @Test
+    void getClassMetadataReturnsSameInstanceForRepeatedCalls() {
+        final ClassMetadata first = BeanAnnotationProcessor.getClassMetadata(Employee.class);
+        assertSame(first, BeanAnnotationProcessor.getClassMetadata(Employee.class));
+    }
+
+    @Test
+    void attributeFieldsDoNotContainIdentifierTypesAndPropertiesFields() throws Exception {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(Person.class);
+        final List<Field> result = sut.getAttributeFields();
+        assertFalse(result.contains(Person.class.getDeclaredField("uri")));
+        assertFalse(result.contains(Person.class.getDeclaredField("properties")));
+        assertTrue(result.contains(Person.getFirstNameField()));
+        assertTrue(result.contains(Person.getLastNameField()));
+    }
+
+    @Test
+    void attributeFieldsAreOrderedAccordingToAttributeOrderDeclaration() throws Exception {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(Study.class);
+        final List<Field> result = sut.getAttributeFields();
+        assertEquals(Study.class.getDeclaredField("name"), result.get(0));
+        assertEquals(Study.class.getDeclaredField("participants"), result.get(1));
+        assertEquals(Study.class.getDeclaredField("members"), result.get(2));
+    }
+
+    @Test
+    void metadataProvidesIdentifierAndPropertiesFields() throws Exception {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(Person.class);
+        assertTrue(sut.getIdentifierField().isPresent());
+        assertEquals(Person.class.getDeclaredField("uri"), sut.getIdentifierField().get());
+        assertTrue(sut.hasPropertiesField());
+        assertEquals(Person.class.getDeclaredField("properties"), sut.getPropertiesField().get());
+        assertFalse(sut.hasTypesField());
+    }
+
+    @Test
+    void getAttributeIdentifierReturnsResolvedIdentifiersOfInheritedFields() throws Exception {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(User.class);
+        assertEquals(Vocabulary.FIRST_NAME, sut.getAttributeIdentifier(Person.getFirstNameField()));
+        assertEquals(JsonLd.ID, sut.getAttributeIdentifier(Person.class.getDeclaredField("uri")));
+    }
+
+    @Test
+    void marshallableFieldsAreUnmodifiable() {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(Employee.class);
+        assertThrows(UnsupportedOperationException.class, () -> sut.getMarshallableFields().clear());
+        assertThrows(UnsupportedOperationException.class, () -> sut.getDeserializationFields().clear());
+    }
+
+    @Test
+    void getTypesReturnsUnmodifiableTypesOfClassAndItsAncestors() {
+        final ClassMetadata sut = BeanAnnotationProcessor.getClassMetadata(Employee.class);
+        assertEquals(Set.of(Vocabulary.PERSON, Vocabulary.USER, Vocabulary.EMPLOYEE), sut.getTypes());
+        assertSame(sut.getTypes(), sut.getTypes());
+        assertThrows(UnsupportedOperationException.class, () -> sut.getTypes().clear());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jopa.model.annotations.Individual;
+import cz.cvut.kbss.jopa.vocabulary.OWL;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.OwlPropertyType;
+import cz.cvut.kbss.jsonld.exception.InvalidEnumMappingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumUtilTest {
+
+    @Test
+    void resolveMappedIndividualReturnsIndividualMappedByEnumConstant() {
+        for (OwlPropertyType constant : OwlPropertyType.values()) {
+            assertEquals(OwlPropertyType.getMappedIndividual(constant), EnumUtil.resolveMappedIndividual(constant));
+        }
+    }
+
+    @Test
+    void resolveMappedIndividualThrowsInvalidEnumMappingExceptionForConstantWithoutIndividual() {
+        assertThrows(InvalidEnumMappingException.class, () -> EnumUtil.resolveMappedIndividual(PartiallyMapped.UNMAPPED));
+    }
+
+    @Test
+    void resolveMappedIndividualSupportsConstantsWithBody() {
+        assertEquals(OWL.THING, EnumUtil.resolveMappedIndividual(PartiallyMapped.WITH_BODY));
+    }
+
+    @Test
+    void findConstantForIndividualReturnsMatchingConstant() {
+        for (OwlPropertyType constant : OwlPropertyType.values()) {
+            assertEquals(Optional.of(constant), EnumUtil.findConstantForIndividual(OwlPropertyType.class,
+                                                                                   OwlPropertyType.getMappedIndividual(
+                                                                                           constant)));
+        }
+    }
+
+    @Test
+    void findConstantForIndividualReturnsEmptyOptionalForUnknownIndividual() {
+        assertFalse(EnumUtil.findConstantForIndividual(OwlPropertyType.class, Generator.generateUri().toString())
+                            .isPresent());
+    }
+
+    @Test
+    void findConstantForIndividualReturnsFirstConstantWhenIndividualIsMappedByMultipleConstants() {
+        assertEquals(Optional.of(PartiallyMapped.FIRST),
+                     EnumUtil.findConstantForIndividual(PartiallyMapped.class, OWL.CLASS));
+    }
+
+    @Test
+    void findMatchingConstantAppliesFilterAndMapperToMappedConstants() {
+        final Optional<String> result = EnumUtil.findMatchingConstant(OwlPropertyType.class,
+                                                                      (e, iri) -> e == OwlPropertyType.OBJECT_PROPERTY,
+                                                                      (e, iri) -> iri);
+        assertTrue(result.isPresent());
+        assertThat(result.get(), equalTo(OWL.OBJECT_PROPERTY));
+    }
+
+    enum PartiallyMapped {
+        @Individual(iri = OWL.CLASS)
+        FIRST,
+        @Individual(iri = OWL.CLASS)
+        SECOND,
+        UNMAPPED,
+        @Individual(iri = OWL.THING)
+        WITH_BODY {
+            @Override
+            public String toString() {
+                return "withBody";
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedMappingRegistryTest {
+
+    private static final FieldAccessor NAME_ACCESSOR = new FieldAccessor() {
+        @Override
+        public Object getValue(Object instance) {
+            return ((GeneratedEntity) instance).name;
+        }
+
+        @Override
+        public void setValue(Object instance, Object value) {
+            ((GeneratedEntity) instance).name = (String) value;
+        }
+    };
+
+    private static final GeneratedMapping<GeneratedEntity> MAPPING = new GeneratedMapping<>() {
+        @Override
+        public Class<GeneratedEntity> getMappedClass() {
+            return GeneratedEntity.class;
+        }
+
+        @Override
+        public Map<String, FieldAccessor> getFieldAccessors() {
+            return Map.of("name", NAME_ACCESSOR);
+        }
+
+        @Override
+        public Optional<Supplier<GeneratedEntity>> getInstanceSupplier() {
+            return Optional.of(() -> new GeneratedEntity(true));
+        }
+    };
+
+    @BeforeAll
+    static void registerMapping() {
+        GeneratedMappingRegistry.register(MAPPING);
+    }
+
+    @Test
+    void getMappingReturnsRegisteredMapping() {
+        assertEquals(Optional.of(MAPPING), GeneratedMappingRegistry.getMapping(GeneratedEntity.class));
+        assertThat(GeneratedMappingRegistry.getMappings(), hasItem(MAPPING));
+    }
+
+    @Test
+    void getMappingReturnsEmptyOptionalForClassWithoutGeneratedMapping() {
+        assertFalse(GeneratedMappingRegistry.getMapping(GeneratedMappingRegistryTest.class).isPresent());
+    }
+
+    @Test
+    void generatedFieldAccessorFactoryUsesGeneratedAccessorWhenAvailable() throws Exception {
+        final FieldAccessorFactory sut = new GeneratedFieldAccessorFactory(new MethodHandleFieldAccessorFactory());
+        assertSame(NAME_ACCESSOR, sut.createAccessor(GeneratedEntity.class.getDeclaredField("name")));
+    }
+
+    @Test
+    void generatedFieldAccessorFactoryFallsBackToDelegateForFieldsWithoutGeneratedAccessor() throws Exception {
+        final FieldAccessorFactory sut = new GeneratedFieldAccessorFactory(new MethodHandleFieldAccessorFactory());
+        final Field idField = GeneratedEntity.class.getDeclaredField("uri");
+        final FieldAccessor result = sut.createAccessor(idField);
+        assertNotSame(NAME_ACCESSOR, result);
+        final GeneratedEntity instance = new GeneratedEntity(false);
+        instance.uri = URI.create(Vocabulary.DEFAULT_PREFIX + "instance");
+        assertEquals(instance.uri, result.getValue(instance));
+    }
+
+    @Test
+    void createInstanceUsesGeneratedInstanceSupplier() {
+        final GeneratedEntity result = BeanClassProcessor.createInstance(GeneratedEntity.class);
+        assertTrue(result.generated);
+    }
+
+    @OWLClass(iri = Vocabulary.DEFAULT_PREFIX + "GeneratedEntity")
+    static class GeneratedEntity {
+
+        @Id
+        private URI uri;
+
+        @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "name")
+        private String name;
+
+        private final boolean generated;
+
+        GeneratedEntity(boolean generated) {
+            this.generated = generated;
+        }
+    }
+}
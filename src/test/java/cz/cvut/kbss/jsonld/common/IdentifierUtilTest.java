@@ -40,4 +40,14 @@ class IdentifierUtilTest {
         final String compact = "dc:description";
         assertTrue(IdentifierUtil.isCompactIri(compact));
     }
+
+    @Test
+    void isCompactIriReturnsTrueForPrefixStartingWithUnderscore() {
+        assertTrue(IdentifierUtil.isCompactIri("_a:description"));
+    }
+
+    @Test
+    void isCompactIriReturnsFalseForValueWithoutColon() {
+        assertFalse(IdentifierUtil.isCompactIri("description"));
+    }
 }
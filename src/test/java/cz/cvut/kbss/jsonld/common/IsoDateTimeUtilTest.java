@@ -0,0 +1,87 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IsoDateTimeUtilTest {
+
+    static Stream<OffsetDateTime> dateTimes() {
+        return Stream.of(
+                OffsetDateTime.of(2024, 2, 29, 13, 5, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 500_000_000, ZoneOffset.ofHours(2)),
+                OffsetDateTime.of(2023, 12, 31, 23, 59, 59, 123_456_789, ZoneOffset.ofHoursMinutes(-5, -30)),
+                OffsetDateTime.of(1, 6, 15, 8, 30, 15, 1_000, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3)),
+                OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999, ZoneOffset.MAX),
+                OffsetDateTime.of(12345, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(-1, 1, 1, 0, 0, 0, 0, ZoneOffset.MIN),
+                OffsetDateTime.now()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dateTimes")
+    void formatProducesSameOutputAsIsoOffsetDateTimeFormatter(OffsetDateTime value) {
+        assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value), IsoDateTimeUtil.format(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dateTimes")
+    void parseParsesFormattedValues(OffsetDateTime value) {
+        final String formatted = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+        if (value.getYear() >= 0 && value.getYear() <= 9999) {
+            assertEquals(value, IsoDateTimeUtil.parse(formatted));
+        } else {
+            assertNull(IsoDateTimeUtil.parse(formatted));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-03-01T10:15Z", "2024-03-01T10:15:30.1-00:00",
+                            "2024-03-01T10:15:30.000000001+14:00", "2024-03-01T10:15:30+01:00:30"})
+    void parseParsesSameValueAsOffsetDateTimeParse(String value) {
+        assertEquals(OffsetDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME), IsoDateTimeUtil.parse(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-03-01T10:15:30", "2024-02-30T10:15:30Z", "2023-02-29T10:15:30Z",
+                            "2024-03-01T24:00:00Z", "2024-03-01T10:15:60Z", "2024-03-01T10:15:30.1234567890Z",
+                            "2024-03-01T10:15:30.Z", "2024-03-01T10:15:30+1:00", "2024-03-01T10:15:30+19:00",
+                            "2024-03-01 10:15:30Z", "+2024-03-01T10:15:30Z", "2024-03-01T10:15:30Zx", "2024-03-01",
+                            "2011-12-03Tab:cd:00Z", "2011-12-03T10:cd:00Z", "2011-12-03T-1:15:00Z",
+                            "2024-03-01t10:15:30Z", "2024-03-01T10:15:30z"})
+    void parseReturnsNullForUnsupportedOrInvalidValues(String value) {
+        assertNull(IsoDateTimeUtil.parse(value));
+    }
+
+    @Test
+    void parseReturnsUtcOffsetForNegativeZeroOffset() {
+        assertEquals(ZoneOffset.UTC, IsoDateTimeUtil.parse("2024-03-01T10:15:30-00:00").getOffset());
+    }
+}
@@ -20,6 +20,9 @@ package cz.cvut.kbss.jsonld.deserialization;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.common.GeneratedMapping;
+import cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry;
 import cz.cvut.kbss.jsonld.deserialization.util.TargetClassResolver;
 import cz.cvut.kbss.jsonld.deserialization.util.TypeMap;
 import cz.cvut.kbss.jsonld.environment.Vocabulary;
@@ -31,6 +34,9 @@ import jakarta.json.JsonValue;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static cz.cvut.kbss.jsonld.environment.TestUtil.readAndExpand;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -130,4 +136,35 @@ class JsonLdDeserializerTest {
         assertFalse(typeMap(deserializer).get(Vocabulary.STUDY).isEmpty());
         assertTrue(typeMap(deserializer).get(Vocabulary.STUDY).contains(Study.class));
     }
+
+    @Test
+    void constructionBuildsTypeMapFromGeneratedMappingsWhenGeneratedTypeIndexIsEnabled() throws Exception {
+        GeneratedMappingRegistry.register(new GeneratedMapping<GeneratedTestClass>() {
+            @Override
+            public Class<GeneratedTestClass> getMappedClass() {
+                return GeneratedTestClass.class;
+            }
+
+            @Override
+            public Map<String, FieldAccessor> getFieldAccessors() {
+                return Map.of();
+            }
+
+            @Override
+            public Optional<Supplier<GeneratedTestClass>> getInstanceSupplier() {
+                return Optional.of(GeneratedTestClass::new);
+            }
+        });
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.SCAN_PACKAGE, "cz.cvut.kbss.jsonld.deserialization");
+        config.set(ConfigParam.ENABLE_GENERATED_TYPE_INDEX, Boolean.TRUE.toString());
+        final JsonLdDeserializer deserializer = JsonLdDeserializer.createExpandedDeserializer(config);
+        assertThat(typeMap(deserializer).get(Vocabulary.ORGANIZATION), hasItem(GeneratedTestClass.class));
+        // Not scanned from the classpath
+        assertTrue(typeMap(deserializer).get(Vocabulary.AGENT).isEmpty());
+    }
+
+    @OWLClass(iri = Vocabulary.ORGANIZATION)
+    static class GeneratedTestClass {
+    }
 }
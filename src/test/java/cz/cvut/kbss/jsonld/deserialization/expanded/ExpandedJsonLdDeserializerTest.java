@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.model.annotations.Properties;
 import cz.cvut.kbss.jsonld.ConfigParam;
 import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
 import cz.cvut.kbss.jsonld.deserialization.DeserializationContext;
 import cz.cvut.kbss.jsonld.deserialization.JsonLdDeserializer;
 import cz.cvut.kbss.jsonld.deserialization.ValueDeserializer;
@@ -61,11 +62,13 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static cz.cvut.kbss.jsonld.environment.TestUtil.HALSEY_URI;
 import static cz.cvut.kbss.jsonld.environment.TestUtil.LASKY_URI;
@@ -75,13 +78,16 @@ import static cz.cvut.kbss.jsonld.environment.TestUtil.readAndExpand;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -343,6 +349,45 @@ class ExpandedJsonLdDeserializerTest {
         assertNull(result.getUri());
     }
 
+    @Test
+    void deserializationGeneratesBlankNodeIdsNotClashingWithBlankNodeIdsInInput() throws Exception {
+        final String content = "{" +
+                "  \"@type\": [\"" + Vocabulary.ORGANIZATION + "\"]," +
+                "  \"" + Vocabulary.HAS_MEMBER + "\": [{" +
+                "      \"@id\": \"_:b0\"," +
+                "      \"@type\": [\"" + Vocabulary.EMPLOYEE + "\"]," +
+                "      \"" + Vocabulary.USERNAME + "\": \"member\"" +
+                "    }]," +
+                "  \"" + Vocabulary.HAS_ADMIN + "\": [{" +
+                "      \"@type\": [\"" + Vocabulary.EMPLOYEE + "\"]," +
+                "      \"" + Vocabulary.USERNAME + "\": \"admin\"" +
+                "    }]" +
+                "}";
+        final List<String> generatedIds = new ArrayList<>();
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.BLANK_NODE_ID_GENERATOR, (Supplier<BlankNodeIdGenerator>) () -> {
+            final BlankNodeIdGenerator counter = BlankNodeIdGenerator.counter();
+            return () -> {
+                final String id = counter.generateId();
+                generatedIds.add(id);
+                return id;
+            };
+        });
+        this.sut = JsonLdDeserializer.createExpandedDeserializer(config);
+        final JsonArray input = parseAndExpand(content);
+        final Organization result = sut.deserialize(input, Organization.class);
+        // The organization and the admin
+        assertEquals(2, generatedIds.size());
+        assertThat(generatedIds, not(hasItem("_:b0")));
+        assertEquals(1, result.getEmployees().size());
+        assertEquals(1, result.getAdmins().size());
+        final Employee member = result.getEmployees().iterator().next();
+        final Employee admin = result.getAdmins().iterator().next();
+        assertNotSame(member, admin);
+        assertEquals("member", member.getUsername());
+        assertEquals("admin", admin.getUsername());
+    }
+
     @Test
     void deserializationReturnsSubclassInstanceWhenTypesMatch() throws Exception {
         final JsonArray input = readAndExpand("objectWithDataProperties.json");
@@ -0,0 +1,113 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.environment.model;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+
+import java.net.URI;
+
+@OWLClass(iri = Vocabulary.DEFAULT_PREFIX + "ObjectWithPrimitiveAttributes")
+public class ObjectWithPrimitiveAttributes {
+
+    @Id
+    private URI uri;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "booleanValue")
+    private boolean booleanValue;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "shortValue")
+    private short shortValue;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "intValue")
+    private int intValue;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "longValue")
+    private long longValue;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "floatValue")
+    private float floatValue;
+
+    @OWLDataProperty(iri = Vocabulary.DEFAULT_PREFIX + "doubleValue")
+    private double doubleValue;
+
+    public ObjectWithPrimitiveAttributes() {
+    }
+
+    public ObjectWithPrimitiveAttributes(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public boolean isBooleanValue() {
+        return booleanValue;
+    }
+
+    public void setBooleanValue(boolean booleanValue) {
+        this.booleanValue = booleanValue;
+    }
+
+    public short getShortValue() {
+        return shortValue;
+    }
+
+    public void setShortValue(short shortValue) {
+        this.shortValue = shortValue;
+    }
+
+    public int getIntValue() {
+        return intValue;
+    }
+
+    public void setIntValue(int intValue) {
+        this.intValue = intValue;
+    }
+
+    public long getLongValue() {
+        return longValue;
+    }
+
+    public void setLongValue(long longValue) {
+        this.longValue = longValue;
+    }
+
+    public float getFloatValue() {
+        return floatValue;
+    }
+
+    public void setFloatValue(float floatValue) {
+        this.floatValue = floatValue;
+    }
+
+    public double getDoubleValue() {
+        return doubleValue;
+    }
+
+    public void setDoubleValue(double doubleValue) {
+        this.doubleValue = doubleValue;
+    }
+}
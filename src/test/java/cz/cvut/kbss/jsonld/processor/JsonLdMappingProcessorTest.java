@@ -0,0 +1,243 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.processor;
+
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.common.GeneratedMapping;
+import cz.cvut.kbss.jsonld.common.GeneratedMappingRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLdMappingProcessorTest {
+
+    private static final String ENTITY_SOURCE = """
+            package test.model;
+
+            import cz.cvut.kbss.jopa.model.annotations.*;
+            import java.net.URI;
+            import java.util.Set;
+
+            @OWLClass(iri = "http://example.org/Entity")
+            public class Entity {
+                @Id
+                private URI uri;
+
+                @OWLDataProperty(iri = "http://example.org/name")
+                private String name;
+
+                @OWLDataProperty(iri = "http://example.org/count")
+                int count;
+
+                @OWLDataProperty(iri = "http://example.org/hidden")
+                private String hidden;
+
+                @Types
+                private Set<String> types;
+
+                @OWLDataProperty(iri = "http://example.org/constant")
+                private final String constant = "constant";
+
+                public URI getUri() { return uri; }
+                public void setUri(URI uri) { this.uri = uri; }
+                public String getName() { return "Name: " + name; }
+                public void setName(String name) { this.name = name; }
+                public Set<String> getTypes() { return types; }
+                public void setTypes(Set<String> types) { this.types = types; }
+            }
+            """;
+
+    private static final String ABSTRACT_SOURCE = """
+            package test.model;
+
+            import cz.cvut.kbss.jopa.model.annotations.*;
+
+            @MappedSuperclass
+            public abstract class AbstractEntity {
+                @OWLDataProperty(iri = "http://example.org/label")
+                protected String label;
+            }
+            """;
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void processorGeneratesMappingWithAccessorsAndInstanceSupplier() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final Class<?> entityCls = loader.loadClass("test.model.Entity");
+            final GeneratedMapping<?> mapping = (GeneratedMapping<?>) loader.loadClass(
+                    "test.model.Entity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX).getDeclaredConstructor()
+                                                                                    .newInstance();
+            assertEquals(entityCls, mapping.getMappedClass());
+            final Map<String, FieldAccessor> accessors = mapping.getFieldAccessors();
+            assertThat(accessors, hasKey("count"));
+
+            assertTrue(mapping.getInstanceSupplier().isPresent());
+            final Object instance = ((Supplier<?>) mapping.getInstanceSupplier().get()).get();
+            accessors.get("count").setValue(instance, 117);
+            assertEquals(117, accessors.get("count").getValue(instance));
+        }
+    }
+
+    @Test
+    void processorGeneratesAccessorsForPrivateFieldsWithoutUsingGettersAndSetters() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final GeneratedMapping<?> mapping = (GeneratedMapping<?>) loader.loadClass(
+                    "test.model.Entity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX).getDeclaredConstructor()
+                                                                                    .newInstance();
+            final Map<String, FieldAccessor> accessors = mapping.getFieldAccessors();
+            assertThat(accessors, hasKey("uri"));
+            assertThat(accessors, hasKey("types"));
+            assertThat(accessors, hasKey("hidden"));
+            final Object instance = ((Supplier<?>) mapping.getInstanceSupplier().get()).get();
+            accessors.get("name").setValue(instance, "test");
+            assertEquals("test", accessors.get("name").getValue(instance));
+            assertThrows(IllegalArgumentException.class, () -> accessors.get("name").setValue(instance, 117));
+        }
+    }
+
+    @Test
+    void processorDoesNotGenerateAccessorsForFinalFields() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final GeneratedMapping<?> mapping = (GeneratedMapping<?>) loader.loadClass(
+                    "test.model.Entity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX).getDeclaredConstructor()
+                                                                                    .newInstance();
+            assertThat(mapping.getFieldAccessors(), not(hasKey("constant")));
+        }
+    }
+
+    private void compile(String className, String source) throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        final String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        final List<String> options =
+                List.of("-d", outputDir.toString(), "-s", outputDir.toString(), "-classpath", classpath);
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                                                                   List.of(file));
+        task.setProcessors(List.of(new JsonLdMappingProcessor()));
+        final boolean success = task.call();
+        assertTrue(success, () -> diagnostics.getDiagnostics().stream()
+                                             .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                                             .map(Object::toString).collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    void processorRegistersGeneratedMappingsAsServices() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        final String services = Files.readString(outputDir.resolve(JsonLdMappingProcessor.SERVICE_FILE));
+        assertThat(services, containsString("test.model.Entity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX));
+    }
+
+    @Test
+    void processorKeepsServiceEntriesOfPreviouslyCompiledClasses() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+        compile("test.model.AbstractEntity", ABSTRACT_SOURCE);
+
+        final List<String> entries = Files.readAllLines(outputDir.resolve(JsonLdMappingProcessor.SERVICE_FILE));
+        assertThat(entries, hasItems("test.model.Entity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX,
+                                     "test.model.AbstractEntity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX));
+        assertEquals(2, entries.size());
+    }
+
+    @Test
+    void generatedMappingIsLoadedFromClassLoaderOfMappedClass() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final Class<?> entityCls = loader.loadClass("test.model.Entity");
+            final Optional<? extends GeneratedMapping<?>> result = GeneratedMappingRegistry.getMapping(entityCls);
+            assertTrue(result.isPresent());
+            assertEquals(entityCls, result.get().getMappedClass());
+            assertTrue(GeneratedMappingRegistry.getMappings(loader).stream()
+                                               .anyMatch(m -> m.getMappedClass() == entityCls));
+        }
+    }
+
+    @Test
+    void getMappingsReturnsOnlyMappingsAvailableInSpecifiedClassLoader() throws Exception {
+        compile("test.model.Entity", ENTITY_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final Class<?> entityCls = loader.loadClass("test.model.Entity");
+            assertTrue(GeneratedMappingRegistry.getMapping(entityCls).isPresent());
+            assertTrue(GeneratedMappingRegistry.getMappings(getClass().getClassLoader()).stream()
+                                               .noneMatch(m -> m.getMappedClass() == entityCls));
+        }
+    }
+
+    @Test
+    void processorGeneratesMappingWithoutInstanceSupplierForAbstractClass() throws Exception {
+        compile("test.model.AbstractEntity", ABSTRACT_SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            final GeneratedMapping<?> mapping = (GeneratedMapping<?>) loader.loadClass(
+                    "test.model.AbstractEntity" + JsonLdMappingProcessor.MAPPING_CLASS_SUFFIX)
+                                                                          .getDeclaredConstructor().newInstance();
+            assertFalse(mapping.getInstanceSupplier().isPresent());
+            assertThat(mapping.getFieldAccessors(), hasKey("label"));
+        }
+    }
+}
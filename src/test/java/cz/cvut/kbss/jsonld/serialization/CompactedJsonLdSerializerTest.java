@@ -21,25 +21,41 @@ import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.vocabulary.RDFS;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.BlankNodeIdGenerator;
 import cz.cvut.kbss.jsonld.common.IdentifierUtil;
 import cz.cvut.kbss.jsonld.environment.Generator;
 import cz.cvut.kbss.jsonld.environment.TestUtil;
 import cz.cvut.kbss.jsonld.environment.Vocabulary;
 import cz.cvut.kbss.jsonld.environment.model.*;
+import cz.cvut.kbss.jsonld.exception.MissingIdentifierException;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.io.StringReader;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static cz.cvut.kbss.jsonld.environment.TestUtil.parseAndExpand;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CompactedJsonLdSerializerTest extends JsonLdSerializerTestBase {
@@ -102,6 +118,43 @@ class CompactedJsonLdSerializerTest extends JsonLdSerializerTestBase {
         assertThat(json.asJsonObject().getString(JsonLd.ID), startsWith(IdentifierUtil.B_NODE_PREFIX));
     }
 
+    @Test
+    void serializationGeneratesBlankNodeIdentifiersUniqueWithinDocument() {
+        final Employee employee = Generator.generateEmployee();
+        employee.setUri(null);
+        employee.getEmployer().setUri(null);
+        final JsonObject json = serializeAndRead(employee).asJsonObject();
+        final String employeeId = json.getString(JsonLd.ID);
+        final String employerId = json.getJsonObject(Vocabulary.IS_MEMBER_OF).getString(JsonLd.ID);
+        assertNotEquals(employeeId, employerId);
+    }
+
+    @Test
+    void serializationGeneratesDeterministicBlankNodeIdentifiersWhenFixedPrefixCounterIsConfigured() {
+        final Employee employee = Generator.generateEmployee();
+        employee.setUri(null);
+        employee.getEmployer().setUri(null);
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.BLANK_NODE_ID_GENERATOR,
+                   (Supplier<BlankNodeIdGenerator>) () -> BlankNodeIdGenerator.counter("n"));
+        sut = new CompactedJsonLdSerializer(jsonWriter, config);
+        final JsonObject json = serializeAndRead(employee).asJsonObject();
+        assertEquals("_:n0", json.getString(JsonLd.ID));
+
+        final BufferedJsonGenerator secondWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(secondWriter, config).serialize(employee);
+        assertEquals(jsonWriter.getResult(), secondWriter.getResult());
+    }
+
+    @Test
+    void serializationUsesConfiguredBlankNodeIdGenerator() {
+        final Organization company = Generator.generateOrganization();
+        company.setUri(null);
+        sut.configuration().set(ConfigParam.BLANK_NODE_ID_GENERATOR, (BlankNodeIdGenerator) () -> "_:custom");
+        final JsonObject json = serializeAndRead(company).asJsonObject();
+        assertEquals("_:custom", json.getString(JsonLd.ID));
+    }
+
     @Test
     void serializationSerializesMultilingualStringWithValues() {
         final ObjectWithMultilingualString instance = new ObjectWithMultilingualString(Generator.generateUri());
@@ -241,4 +294,287 @@ class CompactedJsonLdSerializerTest extends JsonLdSerializerTestBase {
         final JsonObject obj = result.getJsonObject(0);
         checkValueDatatype(obj.asJsonObject(), Vocabulary.IS_ADMIN, XSD.BOOLEAN, user.getAdmin());
     }
-}
\ No newline at end of file
+
+    @Test
+    void directSerializationProducesSameOutputAsTreeBasedSerialization() {
+        final ObjectWithNumericAttributes instance = new ObjectWithNumericAttributes(Generator.generateUri());
+        instance.setDoubleValue(155.15);
+        instance.setLongValue(155L);
+        instance.setIntValue(155);
+        instance.setBigDecimalValue(BigDecimal.valueOf(155.15));
+
+        sut.serialize(instance);
+        final BufferedJsonGenerator directWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(directWriter, directSerializationConfig()).serialize(instance);
+        assertEquals(jsonWriter.getResult(), directWriter.getResult());
+    }
+
+    private static Configuration directSerializationConfig() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.ENABLE_DIRECT_SERIALIZATION, Boolean.TRUE.toString());
+        return config;
+    }
+
+    @Test
+    void directSerializationOfPrimitiveAttributesProducesSameOutputAsTreeBasedSerialization() {
+        final ObjectWithPrimitiveAttributes instance = generatePrimitiveAttributesInstance();
+
+        sut.serialize(instance);
+        final BufferedJsonGenerator directWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(directWriter, directSerializationConfig()).serialize(instance);
+        assertEquals(jsonWriter.getResult(), directWriter.getResult());
+    }
+
+    private static ObjectWithPrimitiveAttributes generatePrimitiveAttributesInstance() {
+        final ObjectWithPrimitiveAttributes instance = new ObjectWithPrimitiveAttributes(Generator.generateUri());
+        instance.setBooleanValue(true);
+        instance.setShortValue((short) 15);
+        instance.setIntValue(155);
+        instance.setLongValue(System.currentTimeMillis());
+        instance.setFloatValue(15.5f);
+        instance.setDoubleValue(155.15);
+        return instance;
+    }
+
+    @Test
+    void directSerializationWritesPrimitiveAttributesUsingPrimitiveGeneratorMethods() {
+        final ObjectWithPrimitiveAttributes instance = generatePrimitiveAttributesInstance();
+        final List<Object> primitives = new ArrayList<>();
+        final BufferedJsonGenerator directWriter = new BufferedJsonGenerator() {
+            @Override
+            public void writeNumber(int number) {
+                primitives.add(number);
+                writeNumber((Number) number);
+            }
+
+            @Override
+            public void writeNumber(long number) {
+                primitives.add(number);
+                writeNumber((Number) number);
+            }
+
+            @Override
+            public void writeNumber(double number) {
+                primitives.add(number);
+                writeNumber((Number) number);
+            }
+        };
+        new CompactedJsonLdSerializer(directWriter, directSerializationConfig()).serialize(instance);
+
+        assertThat(primitives, hasItems(155, 15, instance.getLongValue(), instance.getDoubleValue()));
+    }
+
+    @Test
+    void directSerializationOfPrimitiveAttributesUsesCustomSerializerRegisteredForBoxedType() {
+        final ObjectWithPrimitiveAttributes instance = generatePrimitiveAttributesInstance();
+        sut = new CompactedJsonLdSerializer(jsonWriter, directSerializationConfig());
+        sut.registerSerializer(Integer.class, (value, ctx) -> JsonNodeFactory.createStringLiteralNode(ctx.getTerm(),
+                                                                                                       "int" + value));
+
+        sut.serialize(instance);
+        final JsonObject result = Json.createReader(new StringReader(jsonWriter.getResult())).readObject();
+        assertEquals("int155", result.getString(Vocabulary.DEFAULT_PREFIX + "intValue"));
+        assertEquals(155.15, result.getJsonObject(Vocabulary.DEFAULT_PREFIX + "doubleValue")
+                                   .getJsonNumber(JsonLd.VALUE).doubleValue());
+    }
+
+    @Test
+    void directSerializationOfObjectWithObjectPropertiesProducesSameOutputAsTreeBasedSerialization() {
+        final Organization organization = Generator.generateOrganization();
+        final Set<Employee> employees = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            final Employee employee = Generator.generateEmployee();
+            employee.setEmployer(organization);
+            employees.add(employee);
+        }
+        organization.setEmployees(employees);
+
+        sut.serialize(organization);
+        final BufferedJsonGenerator directWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(directWriter, directSerializationConfig()).serialize(organization);
+        assertEquals(jsonWriter.getResult(), directWriter.getResult());
+    }
+
+    @Test
+    void directSerializationWritesStringAttributesUsingCustomSerializerWhenRegistered() {
+        final Organization organization = Generator.generateOrganization();
+        sut = new CompactedJsonLdSerializer(jsonWriter, directSerializationConfig());
+        sut.registerSerializer(String.class, (value, ctx) -> JsonNodeFactory.createStringLiteralNode(ctx.getTerm(),
+                                                                                                     "s" + value));
+
+        sut.serialize(organization);
+        final JsonObject result = Json.createReader(new StringReader(jsonWriter.getResult())).readObject();
+        assertEquals("s" + organization.getName(), result.getString(RDFS.LABEL));
+    }
+
+    @Test
+    void directSerializationFallsBackToTreeBasedSerializationForObjectGraph() {
+        final Employee employee = Generator.generateEmployee();
+
+        sut.serialize(employee);
+        final BufferedJsonGenerator directWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(directWriter, directSerializationConfig()).serialize(employee);
+        assertEquals(jsonWriter.getResult(), directWriter.getResult());
+    }
+
+    @Test
+    void directSerializationThrowsMissingIdentifierExceptionWhenIdIsRequiredAndMissing() {
+        final ObjectWithNumericAttributes instance = new ObjectWithNumericAttributes();
+        instance.setIntValue(117);
+        final Configuration config = directSerializationConfig();
+        config.set(ConfigParam.REQUIRE_ID, Boolean.TRUE.toString());
+        sut = new CompactedJsonLdSerializer(jsonWriter, config);
+
+        assertThrows(MissingIdentifierException.class, () -> sut.serialize(instance));
+    }
+
+    private static Configuration streamingSerializationConfig() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.ENABLE_STREAMING_SERIALIZATION, Boolean.TRUE.toString());
+        return config;
+    }
+
+    @Test
+    void streamingSerializationProducesSameOutputAsTreeBasedSerializationForObjectGraph() {
+        final Organization organization = Generator.generateOrganization();
+
+        sut.serialize(organization);
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(streamingWriter, streamingSerializationConfig()).serialize(organization);
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+    }
+
+    @Test
+    void streamingSerializationProducesSameOutputAsTreeBasedSerializationForCollectionOfObjects() {
+        final Set<User> users = Generator.generateUsers();
+
+        sut.serialize(users);
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(streamingWriter, streamingSerializationConfig()).serialize(users);
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+    }
+
+    @Test
+    void streamingSerializationWritesEmptyArrayForEmptyCollection() {
+        sut = new CompactedJsonLdSerializer(jsonWriter, streamingSerializationConfig());
+        final JsonValue result = serializeAndRead(Collections.emptyList());
+        assertEquals(JsonValue.EMPTY_JSON_ARRAY, result);
+    }
+
+    @Test
+    void streamingSerializationUsesCustomObjectPropertyValueSerializers() {
+        final ValueSerializer<Organization> serializer = (value, ctx) -> {
+            final ObjectNode node = JsonNodeFactory.createObjectNode(ctx.getTerm());
+            node.addItem(JsonNodeFactory.createObjectIdNode(JsonLd.ID, value.getUri()));
+            return node;
+        };
+        sut.registerSerializer(Organization.class, serializer);
+        final Employee employee = Generator.generateEmployee();
+        sut.serialize(employee);
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        final JsonLdSerializer streamingSut = new CompactedJsonLdSerializer(streamingWriter,
+                                                                           streamingSerializationConfig());
+        streamingSut.registerSerializer(Organization.class, serializer);
+
+        streamingSut.serialize(employee);
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+    }
+    @Test
+    void parallelSerializationOfLargeRootCollectionProducesSameOutputAsSequentialSerialization() {
+        final List<Employee> employees = generateEmployeesSharingOrganizations();
+        sut.serialize(employees);
+        final BufferedJsonGenerator parallelWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(parallelWriter, parallelSerializationConfig()).serialize(employees);
+        assertEquals(jsonWriter.getResult(), parallelWriter.getResult());
+    }
+
+    static List<Employee> generateEmployeesSharingOrganizations() {
+        final List<Organization> organizations = List.of(Generator.generateOrganization(),
+                                                         Generator.generateOrganization(),
+                                                         Generator.generateOrganization());
+        final List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 4 * ParallelCollectionSerializer.MIN_CHUNK_SIZE; i++) {
+            final Employee employee = Generator.generateEmployee();
+            employee.setEmployer(organizations.get(i % organizations.size()));
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    static Configuration parallelSerializationConfig() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.ENABLE_PARALLEL_SERIALIZATION, Boolean.TRUE.toString());
+        return config;
+    }
+
+    @Test
+    void parallelSerializationEmbedsInstanceSharedByChunksOnlyOnce() {
+        final List<Employee> employees = generateEmployeesSharingOrganizations();
+        sut = new CompactedJsonLdSerializer(jsonWriter, parallelSerializationConfig());
+
+        final JsonArray result = serializeAndRead(employees).asJsonObject().getJsonArray(JsonLd.LIST);
+        final Set<String> organizationIds = new HashSet<>();
+        for (JsonValue item : result) {
+            final JsonObject employer = item.asJsonObject().getJsonObject(Vocabulary.IS_MEMBER_OF);
+            if (employer.size() > 1) {
+                assertTrue(organizationIds.add(employer.getString(JsonLd.ID)));
+            }
+        }
+        assertEquals(3, organizationIds.size());
+    }
+
+    @Test
+    void parallelSerializationUsesConfiguredExecutor() {
+        final List<Employee> employees = generateEmployeesSharingOrganizations();
+        final AtomicInteger counter = new AtomicInteger();
+        final Configuration config = parallelSerializationConfig();
+        config.set(ConfigParam.PARALLEL_SERIALIZATION_EXECUTOR, (Executor) task -> {
+            counter.incrementAndGet();
+            task.run();
+        });
+        sut = new CompactedJsonLdSerializer(jsonWriter, config);
+
+        sut.serialize(employees);
+        assertThat(counter.get(), greaterThan(0));
+    }
+
+    @Test
+    void parallelSerializationPropagatesExceptionThrownWhenSerializingChunk() {
+        final List<Employee> employees = generateEmployeesSharingOrganizations();
+        employees.get(employees.size() - 1).setUri(null);
+        final Configuration config = parallelSerializationConfig();
+        config.set(ConfigParam.REQUIRE_ID, Boolean.TRUE.toString());
+        sut = new CompactedJsonLdSerializer(jsonWriter, config);
+
+        assertThrows(MissingIdentifierException.class, () -> sut.serialize(employees));
+    }
+
+    @Test
+    void serializeStreamWritesArrayOfItemsSerializedSeparately() {
+        final List<Employee> employees = List.of(Generator.generateEmployee(), Generator.generateEmployee());
+        final StringJoiner expected = new StringJoiner(",", "[", "]");
+        for (Employee employee : employees) {
+            final BufferedJsonGenerator writer = new BufferedJsonGenerator();
+            new CompactedJsonLdSerializer(writer).serialize(employee);
+            expected.add(writer.getResult());
+        }
+
+        sut.serialize(employees.stream());
+        assertEquals(expected.toString(), jsonWriter.getResult());
+    }
+
+    @Test
+    void serializeStreamSkipsNullItemsAndWritesEmptyArrayForEmptyStream() {
+        sut.serialize(Stream.of((Object) null));
+        assertEquals(JsonValue.EMPTY_JSON_ARRAY, Json.createReader(new StringReader(jsonWriter.getResult())).read());
+    }
+
+    @Test
+    void streamingSerializationOfStreamProducesSameOutputAsTreeBasedSerialization() {
+        final Set<User> users = Generator.generateUsers();
+        sut.serialize(users.stream());
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        new CompactedJsonLdSerializer(streamingWriter, streamingSerializationConfig()).serialize(users.stream());
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+    }
+}
@@ -19,6 +19,8 @@ package cz.cvut.kbss.jsonld.serialization;
 
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.Namespace;
+import cz.cvut.kbss.jopa.model.annotations.OWLAnnotationProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
@@ -27,6 +29,7 @@ import cz.cvut.kbss.jopa.vocabulary.OWL;
 import cz.cvut.kbss.jopa.vocabulary.RDFS;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
 import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
 import cz.cvut.kbss.jsonld.JsonLd;
 import cz.cvut.kbss.jsonld.common.IdentifierUtil;
 import cz.cvut.kbss.jsonld.environment.Generator;
@@ -43,6 +46,9 @@ import cz.cvut.kbss.jsonld.environment.model.Person;
 import cz.cvut.kbss.jsonld.environment.model.Study;
 import cz.cvut.kbss.jsonld.environment.model.StudyWithNamespaces;
 import cz.cvut.kbss.jsonld.environment.model.User;
+import cz.cvut.kbss.jsonld.serialization.context.JsonLdContextCache;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
@@ -53,11 +59,15 @@ import org.eclipse.rdf4j.model.util.Models;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -67,13 +77,17 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 class ContextBuildingJsonLdSerializerTest extends JsonLdSerializerTestBase {
 
@@ -471,4 +485,335 @@ class ContextBuildingJsonLdSerializerTest extends JsonLdSerializerTestBase {
         checkContextTerm(context, "admin", Vocabulary.IS_ADMIN, XSD.BOOLEAN);
         checkValue(json, "admin", true);
     }
-}
\ No newline at end of file
+
+    private void assertStreamingSerializationOutputSameAsTreeBased(Object root) {
+        sut.serialize(root);
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.ENABLE_STREAMING_SERIALIZATION, Boolean.TRUE.toString());
+        new ContextBuildingJsonLdSerializer(streamingWriter, config).serialize(root);
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+    }
+
+    @Test
+    void streamingSerializationProducesSameOutputAsTreeBasedSerializationForObjectGraph() {
+        final Organization organization = Generator.generateOrganization();
+        organization.addEmployee(Generator.generateEmployee());
+        organization.addEmployee(Generator.generateEmployee());
+        organization.getEmployees().forEach(e -> e.setEmployer(organization));
+
+        assertStreamingSerializationOutputSameAsTreeBased(organization);
+    }
+
+    @Test
+    void streamingSerializationUsesTypesTermRegisteredInReferencedObject() {
+        final Study instance = new Study();
+        instance.setUri(Generator.generateUri());
+        instance.setMembers(Collections.singleton(Generator.generateEmployee()));
+
+        assertStreamingSerializationOutputSameAsTreeBased(instance);
+    }
+
+    @Test
+    void streamingSerializationProducesSameOutputAsTreeBasedSerializationForTypedLiterals() {
+        final ObjectWithNumericAttributes instance = new ObjectWithNumericAttributes(Generator.generateUri());
+        instance.setDoubleValue(155.15);
+        instance.setLongValue(155L);
+        instance.setBigDecimalValue(BigDecimal.valueOf(155.15));
+
+        assertStreamingSerializationOutputSameAsTreeBased(instance);
+    }
+
+    @Test
+    void streamingSerializationProducesSameOutputAsTreeBasedSerializationForCollection() {
+        assertStreamingSerializationOutputSameAsTreeBased(new ArrayList<>(Generator.generateUsers()));
+    }
+
+    @Test
+    void streamingSerializationFallsBackToTreeBasedSerializationWhenEmbeddedContextIsRequired() {
+        final StudyWithTitle instance = new StudyWithTitle();
+        instance.uri = Generator.generateUri();
+        instance.name = "Test study";
+        instance.organization = Generator.generateOrganization();
+        sut.configuration().set(ConfigParam.ENABLE_STREAMING_SERIALIZATION, Boolean.TRUE.toString());
+
+        final JsonObject json = serializeAndRead(instance).asJsonObject();
+        verifyEmbeddedContext(json);
+    }
+
+    @Test
+    void repeatedSerializationOfSameRootTypeProducesSameOutput() {
+        final User user = Generator.generateUser();
+        sut.serialize(user);
+        final String first = jsonWriter.getResult();
+        final BufferedJsonGenerator secondWriter = new BufferedJsonGenerator();
+        final JsonLdSerializer second = new ContextBuildingJsonLdSerializer(secondWriter);
+        second.serialize(Generator.generateUser());
+
+        second.serialize(user);
+        assertThat(secondWriter.getResult(), endsWith(first));
+    }
+
+    @Test
+    void repeatedSerializationWritesCachedContextWithUtf8GeneratorSameAsFirstSerialization() throws Exception {
+        final User user = Generator.generateUser();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(output);
+        final JsonLdSerializer serializer = new ContextBuildingJsonLdSerializer(generator);
+        serializer.serialize(user);
+        generator.flush();
+        final String first = output.toString(StandardCharsets.UTF_8);
+        output.reset();
+
+        serializer.serialize(user);
+        generator.flush();
+        assertEquals(first, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void updateConfigurationClearsContextCache() {
+        final JsonLdContextCache contextCache = spy(new JsonLdContextCache());
+        final JsonLdSerializer serializer =
+                new ContextBuildingJsonLdSerializer(jsonWriter, new Configuration(),
+                                                    ContextBuildingJsonLdSerializer.createValueSerializers(),
+                                                    contextCache);
+        serializer.serialize(Generator.generateUser());
+
+        serializer.updateConfiguration(new Configuration());
+        verify(contextCache).clear();
+    }
+
+    @Test
+    void serializationUsesContextOfSerializerRegisteredAfterPreviousSerializationOfSameType() {
+        final User user = Generator.generateUser();
+        user.setAdmin(true);
+        sut.serialize(user);
+        final int firstOutputLength = jsonWriter.getResult().length();
+        sut.registerSerializer(Boolean.class,
+                               (value, ctx) -> JsonNodeFactory.createStringLiteralNode(ctx.getTerm(), value.toString()));
+
+        sut.serialize(user);
+        final JsonObject result = Json.createReader(new StringReader(jsonWriter.getResult().substring(firstOutputLength)))
+                                      .readObject();
+        assertThat(result.getJsonObject(JsonLd.CONTEXT), not(hasKey("admin")));
+        assertEquals(Boolean.TRUE.toString(), result.getString(Vocabulary.IS_ADMIN));
+    }
+
+    @Test
+    void serializationWithHoistedContextRegistersConflictingTermUnderUniqueTermInRootContext() {
+        final StudyWithTitle instance = new StudyWithTitle();
+        instance.uri = Generator.generateUri();
+        instance.name = "Test study";
+        instance.organization = Generator.generateOrganization();
+        sut.configuration().set(ConfigParam.HOIST_CONTEXT_TERMS, Boolean.TRUE.toString());
+
+        final JsonObject json = serializeAndRead(instance).asJsonObject();
+        verifyHoistedContext(json, instance);
+    }
+
+    private static void verifyHoistedContext(JsonObject json, StudyWithTitle instance) {
+        final JsonObject context = json.getJsonObject(JsonLd.CONTEXT);
+        assertEquals(DC.Terms.TITLE, context.getString("name"));
+        assertEquals(RDFS.LABEL, context.getString("name1"));
+        assertEquals(instance.name, json.getString("name"));
+        final JsonObject organization = json.getJsonObject("organization");
+        assertThat(organization, not(hasKey(JsonLd.CONTEXT)));
+        assertEquals(instance.organization.getName(), organization.getString("name1"));
+    }
+
+    @Test
+    void streamingSerializationWithHoistedContextWritesConflictingTermsIntoRootContext() {
+        final StudyWithTitle instance = new StudyWithTitle();
+        instance.uri = Generator.generateUri();
+        instance.name = "Test study";
+        instance.organization = Generator.generateOrganization();
+        sut.configuration().set(ConfigParam.HOIST_CONTEXT_TERMS, Boolean.TRUE.toString());
+        sut.serialize(instance);
+        final BufferedJsonGenerator streamingWriter = new BufferedJsonGenerator();
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.HOIST_CONTEXT_TERMS, Boolean.TRUE.toString());
+        config.set(ConfigParam.ENABLE_STREAMING_SERIALIZATION, Boolean.TRUE.toString());
+
+        new ContextBuildingJsonLdSerializer(streamingWriter, config).serialize(instance);
+        assertEquals(jsonWriter.getResult(), streamingWriter.getResult());
+        verifyHoistedContext(Json.createReader(new StringReader(streamingWriter.getResult())).readObject(), instance);
+    }
+
+    private String serializeWithConfiguration(Object root, Configuration config) {
+        final BufferedJsonGenerator writer = new BufferedJsonGenerator();
+        new ContextBuildingJsonLdSerializer(writer, config).serialize(root);
+        return writer.getResult();
+    }
+
+    private static StudyWithNamespaces generateStudyWithNamespaces() {
+        final StudyWithNamespaces study = new StudyWithNamespaces();
+        study.setUri(Generator.generateUri());
+        study.setName("Test study");
+        study.setParticipants(Collections.singleton(Generator.generateEmployee()));
+        study.setMembers(Collections.singleton(Generator.generateEmployee()));
+        return study;
+    }
+
+    @Test
+    void serializationWithIriCompactionAddsNamespacePrefixesToContextAndCompactsIris() throws Exception {
+        final StudyWithNamespaces study = generateStudyWithNamespaces();
+        sut.configuration().set(ConfigParam.COMPACT_IRIS, Boolean.TRUE.toString());
+
+        final JsonObject json = serializeAndRead(study).asJsonObject();
+        final JsonObject context = json.getJsonObject(JsonLd.CONTEXT);
+        assertEquals(RDFS.NAMESPACE, context.getString("rdfs"));
+        assertEquals(Vocabulary.DEFAULT_PREFIX, context.getString("jb4jsonld"));
+        assertEquals("rdfs:label", context.getString("name"));
+        assertEquals("jb4jsonld:hasMember", context.getString("members"));
+        assertEquals("jb4jsonld:Study", json.getJsonArray("types").getString(0));
+        final String plain = serializeWithConfiguration(study, new Configuration());
+        assertEquals(TestUtil.parseAndExpand(plain), TestUtil.parseAndExpand(jsonWriter.getResult()));
+    }
+
+    @Namespace(prefix = "rdfs", namespace = RDFS.NAMESPACE)
+    @OWLClass(iri = Vocabulary.STUDY)
+    private static class StudyWithRdfsPrefix {
+
+        @Id
+        private URI uri;
+
+        @OWLAnnotationProperty(iri = "rdfs:label")
+        private String name;
+
+        @OWLObjectProperty(iri = Vocabulary.HAS_PARTICIPANT)
+        private ResourceWithRdfsAttribute participant;
+    }
+
+    @OWLClass(iri = RDFS.RESOURCE)
+    private static class ResourceWithRdfsAttribute {
+
+        @Id
+        private URI uri;
+
+        // Term clashes with the rdfs prefix
+        @OWLDataProperty(iri = DC.Terms.TITLE)
+        private String rdfs;
+    }
+
+    @Test
+    void serializationWithIriCompactionDoesNotRedefinePrefixWithAttributeTermOfNestedObject() throws Exception {
+        final StudyWithRdfsPrefix study = new StudyWithRdfsPrefix();
+        study.uri = Generator.generateUri();
+        study.name = "Test study";
+        study.participant = new ResourceWithRdfsAttribute();
+        study.participant.uri = Generator.generateUri();
+        study.participant.rdfs = "Test resource";
+        sut.configuration().set(ConfigParam.COMPACT_IRIS, Boolean.TRUE.toString());
+
+        final JsonObject json = serializeAndRead(study).asJsonObject();
+        assertEquals(RDFS.NAMESPACE, json.getJsonObject(JsonLd.CONTEXT).getString("rdfs"));
+        assertFalse(json.getJsonObject("participant").containsKey(JsonLd.CONTEXT));
+        final String plain = serializeWithConfiguration(study, new Configuration());
+        assertEquals(TestUtil.parseAndExpand(plain), TestUtil.parseAndExpand(jsonWriter.getResult()));
+    }
+
+    @Test
+    void serializationWithVocabAddsVocabToContextAndWritesTypesRelativeToIt() throws Exception {
+        final Employee employee = Generator.generateEmployee();
+        sut.configuration().set(ConfigParam.VOCAB, Vocabulary.DEFAULT_PREFIX);
+
+        final JsonObject json = serializeAndRead(employee).asJsonObject();
+        assertEquals(Vocabulary.DEFAULT_PREFIX, json.getJsonObject(JsonLd.CONTEXT).getString(JsonLd.VOCAB));
+        final List<String> types = json.getJsonArray("types").getValuesAs(JsonString::getString);
+        assertThat(types, hasItems("Employee", "User"));
+        final String plain = serializeWithConfiguration(employee, new Configuration());
+        assertEquals(TestUtil.parseAndExpand(plain), TestUtil.parseAndExpand(jsonWriter.getResult()));
+    }
+
+    @OWLClass(iri = Vocabulary.DEFAULT_PREFIX + "title")
+    private static class TitleTypedResource {
+
+        @Id
+        private URI uri;
+
+        // Term clashes with the vocabulary-relative type
+        @OWLDataProperty(iri = DC.Terms.TITLE)
+        private String title;
+    }
+
+    @Test
+    void serializationWithVocabDoesNotDefineAttributeTermClashingWithVocabularyRelativeType() throws Exception {
+        final TitleTypedResource resource = new TitleTypedResource();
+        resource.uri = Generator.generateUri();
+        resource.title = "Test resource";
+        sut.configuration().set(ConfigParam.VOCAB, Vocabulary.DEFAULT_PREFIX);
+
+        final JsonObject json = serializeAndRead(resource).asJsonObject();
+        assertFalse(json.getJsonObject(JsonLd.CONTEXT).containsKey("title"));
+        final String plain = serializeWithConfiguration(resource, new Configuration());
+        assertEquals(TestUtil.parseAndExpand(plain), TestUtil.parseAndExpand(jsonWriter.getResult()));
+    }
+
+    @Test
+    void streamingSerializationWithIriCompactionProducesSameOutputAsTreeBasedSerialization() {
+        final StudyWithNamespaces study = generateStudyWithNamespaces();
+        sut.configuration().set(ConfigParam.COMPACT_IRIS, Boolean.TRUE.toString());
+        sut.serialize(study);
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.COMPACT_IRIS, Boolean.TRUE.toString());
+        config.set(ConfigParam.ENABLE_STREAMING_SERIALIZATION, Boolean.TRUE.toString());
+
+        assertEquals(jsonWriter.getResult(), serializeWithConfiguration(study, config));
+    }
+    @Test
+    void parallelSerializationOfLargeRootCollectionProducesSameOutputAsSequentialSerialization() {
+        final List<Employee> employees = CompactedJsonLdSerializerTest.generateEmployeesSharingOrganizations();
+        final JsonObject sequential = serializeAndRead(employees).asJsonObject();
+
+        final String parallel = serializeWithConfiguration(employees,
+                                                           CompactedJsonLdSerializerTest.parallelSerializationConfig());
+        assertEquals(sequential, Json.createReader(new StringReader(parallel)).readObject());
+    }
+
+    @Test
+    void parallelSerializationFallsBackToSequentialSerializationWhenChunksMapTermDifferently() {
+        final List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 2 * ParallelCollectionSerializer.MIN_CHUNK_SIZE; i++) {
+            items.add(Generator.generateOrganization());
+        }
+        for (int i = 0; i < 2 * ParallelCollectionSerializer.MIN_CHUNK_SIZE; i++) {
+            final StudyWithTitle study = new StudyWithTitle();
+            study.uri = Generator.generateUri();
+            study.name = "Study " + i;
+            items.add(study);
+        }
+        final JsonObject sequential = serializeAndRead(items).asJsonObject();
+
+        final String parallel = serializeWithConfiguration(items,
+                                                           CompactedJsonLdSerializerTest.parallelSerializationConfig());
+        assertEquals(sequential, Json.createReader(new StringReader(parallel)).readObject());
+    }
+
+    @Test
+    void serializeStreamWritesArrayOfItemsWithOwnContexts() {
+        final List<Object> items = List.of(Generator.generateEmployee(), Generator.generateOrganization());
+        sut.serialize(items.stream());
+
+        final JsonArray result = Json.createReader(new StringReader(jsonWriter.getResult())).readArray();
+        assertEquals(items.size(), result.size());
+        for (int i = 0; i < items.size(); i++) {
+            final JsonObject expected = Json.createReader(
+                    new StringReader(serializeWithConfiguration(items.get(i), new Configuration()))).readObject();
+            assertThat(result.getJsonObject(i), hasKey(JsonLd.CONTEXT));
+            assertEquals(expected, result.getJsonObject(i));
+        }
+    }
+
+    @Test
+    void serializationReferencesRootContextByConfiguredUrl() {
+        final String contextUrl = "https://example.org/context.jsonld";
+        sut.configuration().set(ConfigParam.CONTEXT_URL, contextUrl);
+        final Employee employee = Generator.generateEmployee();
+
+        final JsonObject json = serializeAndRead(employee).asJsonObject();
+        assertEquals(contextUrl, json.getString(JsonLd.CONTEXT));
+        final String inline = serializeWithConfiguration(employee, new Configuration());
+        final JsonObject inlineJson = Json.createReader(new StringReader(inline)).readObject();
+        assertEquals(inlineJson.getString("uri"), json.getString("uri"));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import cz.cvut.kbss.jsonld.environment.model.Person;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EncodedFieldNameTest {
+
+    @Test
+    void forAttributeReturnsSharedInstanceForAttributeIdentifierAndFieldName() throws Exception {
+        final Field field = Person.class.getDeclaredField("firstName");
+
+        final Optional<EncodedFieldName> byIri = EncodedFieldName.forAttribute(field, Vocabulary.FIRST_NAME);
+        assertTrue(byIri.isPresent());
+        assertEquals(Vocabulary.FIRST_NAME, byIri.get().getValue());
+        assertSame(byIri.get(), EncodedFieldName.forAttribute(field, Vocabulary.FIRST_NAME).get());
+        final Optional<EncodedFieldName> byName = EncodedFieldName.forAttribute(field, "firstName");
+        assertTrue(byName.isPresent());
+        assertEquals("firstName", byName.get().getValue());
+    }
+
+    @Test
+    void forAttributeReturnsEmptyOptionalForTermNotDerivedFromAttribute() throws Exception {
+        final Field field = Person.class.getDeclaredField("firstName");
+
+        assertFalse(EncodedFieldName.forAttribute(field, "http://example.org/unknown").isPresent());
+        assertFalse(EncodedFieldName.forAttribute(null, "firstName").isPresent());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.IdentifierUtil;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.Models;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlattenedJsonLdSerializerTest extends JsonLdSerializerTestBase {
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new FlattenedJsonLdSerializer(jsonWriter);
+    }
+
+    private JsonArray serializeAndReadGraph(Object root) {
+        final JsonObject json = serializeAndRead(root).asJsonObject();
+        assertEquals(Set.of(JsonLd.GRAPH), json.keySet());
+        return json.getJsonArray(JsonLd.GRAPH);
+    }
+
+    @Test
+    @Override
+    void serializationGeneratesBlankNodeIdentifierForInstanceOfClassWithoutIdentifierField() {
+        final PersonWithoutIdentifier person = new PersonWithoutIdentifier();
+        person.firstName = "Thomas";
+        person.lastName = "Lasky";
+
+        final JsonArray graph = serializeAndReadGraph(person);
+        assertEquals(1, graph.size());
+        assertThat(graph.getJsonObject(0).getString(JsonLd.ID), startsWith(IdentifierUtil.B_NODE_PREFIX));
+    }
+
+    @Test
+    void serializationAddsEachNodeToGraphExactlyOnceAndReferencesItByIdentifier() throws Exception {
+        final Organization organization = Generator.generateOrganization();
+        organization.addEmployee(Generator.generateEmployee());
+        organization.addEmployee(Generator.generateEmployee());
+        organization.getEmployees().forEach(e -> e.setEmployer(organization));
+
+        final JsonArray graph = serializeAndReadGraph(organization);
+        assertEquals(3, graph.size());
+        final Set<String> ids = new HashSet<>();
+        graph.forEach(node -> assertTrue(ids.add(node.asJsonObject().getString(JsonLd.ID))));
+        assertEquals(organization.getUri().toString(), graph.getJsonObject(0).getString(JsonLd.ID));
+        for (JsonValue node : graph.subList(1, graph.size())) {
+            final JsonObject employer = node.asJsonObject().getJsonObject(Vocabulary.IS_MEMBER_OF);
+            assertEquals(Set.of(JsonLd.ID), employer.keySet());
+        }
+        graph.getJsonObject(0).getJsonArray(Vocabulary.HAS_MEMBER)
+             .forEach(ref -> assertEquals(Set.of(JsonLd.ID), ref.asJsonObject().keySet()));
+        final Model expected = toRdf(organization);
+        assertTrue(Models.isomorphic(expected, readJson(jsonWriter.getResult())));
+    }
+
+    @Test
+    void serializationOfCollectionAddsCollectionElementsAndTheirReferencesToGraph() {
+        final Organization organization = Generator.generateOrganization();
+        final Employee first = Generator.generateEmployee();
+        first.setEmployer(organization);
+        final Employee second = Generator.generateEmployee();
+        second.setEmployer(organization);
+
+        final JsonArray graph = serializeAndReadGraph(List.of(first, second));
+        assertEquals(3, graph.size());
+        assertEquals(first.getUri().toString(), graph.getJsonObject(0).getString(JsonLd.ID));
+        assertEquals(organization.getUri().toString(), graph.getJsonObject(1).getString(JsonLd.ID));
+        assertEquals(second.getUri().toString(), graph.getJsonObject(2).getString(JsonLd.ID));
+    }
+
+    @Test
+    void serializeStreamWritesNodesOfAllItemsIntoSingleGraph() {
+        final List<Employee> employees = List.of(Generator.generateEmployee(), Generator.generateEmployee());
+        sut.serialize(employees.stream());
+
+        final JsonObject json = Json.createReader(new StringReader(jsonWriter.getResult())).readObject();
+        assertEquals(Set.of(JsonLd.GRAPH), json.keySet());
+        final Set<String> ids = json.getJsonArray(JsonLd.GRAPH).stream()
+                                    .map(node -> node.asJsonObject().getString(JsonLd.ID))
+                                    .collect(Collectors.toSet());
+        employees.forEach(e -> {
+            assertTrue(ids.contains(e.getUri().toString()));
+            assertTrue(ids.contains(e.getEmployer().getUri().toString()));
+        });
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import cz.cvut.kbss.jsonld.environment.model.User;
+import cz.cvut.kbss.jsonld.exception.MissingIdentifierException;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLdSerializerEngineTest {
+
+    private static String serialize(JsonLdSerializerEngine engine, Object root) {
+        final BufferedJsonGenerator generator = new BufferedJsonGenerator();
+        engine.writer(generator).serialize(root);
+        return generator.getResult();
+    }
+
+    @Test
+    void writerProducesSameOutputAsCompactedJsonLdSerializer() {
+        final Set<User> users = Generator.generateUsers();
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        JsonLdSerializer.createCompactedJsonLdSerializer(expected).serialize(users);
+
+        assertEquals(expected.getResult(), serialize(JsonLdSerializerEngine.compacted().build(), users));
+    }
+
+    @Test
+    void writerProducesSameOutputAsContextBuildingJsonLdSerializer() {
+        final Employee employee = Generator.generateEmployee();
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        JsonLdSerializer.createContextBuildingJsonLdSerializer(expected).serialize(employee);
+        final JsonLdSerializerEngine engine = JsonLdSerializerEngine.contextBuilding().build();
+
+        assertEquals(expected.getResult(), serialize(engine, employee));
+        // Second serialization uses context cached by the engine
+        assertEquals(expected.getResult(), serialize(engine, employee));
+    }
+
+    @Test
+    void writerProducesSameOutputAsFlattenedJsonLdSerializer() {
+        final Employee employee = Generator.generateEmployee();
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        JsonLdSerializer.createFlattenedJsonLdSerializer(expected).serialize(employee);
+
+        assertEquals(expected.getResult(), serialize(JsonLdSerializerEngine.flattened().build(), employee));
+    }
+
+    @Test
+    void writerUsesSerializerRegisteredInEngine() {
+        final ValueSerializer<Organization> serializer = (value, ctx) -> {
+            final ObjectNode node = JsonNodeFactory.createObjectNode(ctx.getTerm());
+            node.addItem(JsonNodeFactory.createObjectIdNode(JsonLd.ID, value.getUri()));
+            return node;
+        };
+        final Employee employee = Generator.generateEmployee();
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        final JsonLdSerializer sut = JsonLdSerializer.createCompactedJsonLdSerializer(expected);
+        sut.registerSerializer(Organization.class, serializer);
+        sut.serialize(employee);
+
+        final JsonLdSerializerEngine engine =
+                JsonLdSerializerEngine.compacted().registerSerializer(Organization.class, serializer).build();
+        assertEquals(expected.getResult(), serialize(engine, employee));
+    }
+
+    @Test
+    void engineIsNotAffectedByChangesToConfigurationUsedToBuildIt() {
+        final Configuration config = new Configuration();
+        final JsonLdSerializerEngine engine = JsonLdSerializerEngine.compacted().configuration(config).build();
+        config.set(ConfigParam.REQUIRE_ID, Boolean.TRUE.toString());
+        final User user = Generator.generateUser();
+        user.setUri(null);
+
+        assertDoesNotThrow(() -> serialize(engine, user));
+        engine.configuration().set(ConfigParam.REQUIRE_ID, Boolean.TRUE.toString());
+        assertDoesNotThrow(() -> serialize(engine, user));
+    }
+
+    @Test
+    void writerUsesConfigurationOfEngine() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.REQUIRE_ID, Boolean.TRUE.toString());
+        final JsonLdSerializerEngine engine = JsonLdSerializerEngine.compacted().configuration(config).build();
+        final User user = Generator.generateUser();
+        user.setUri(null);
+
+        assertThrows(MissingIdentifierException.class, () -> serialize(engine, user));
+    }
+
+    @Test
+    void buildThrowsIllegalStateExceptionWhenBuilderHasAlreadyBeenUsed() {
+        final JsonLdSerializerEngine.Builder builder = JsonLdSerializerEngine.contextBuilding();
+        builder.build();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void engineCanBeSharedByConcurrentWriters() throws Exception {
+        final JsonLdSerializerEngine engine = JsonLdSerializerEngine.contextBuilding().build();
+        final List<Employee> employees = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Employee employee = Generator.generateEmployee();
+            employees.add(employee);
+            final BufferedJsonGenerator generator = new BufferedJsonGenerator();
+            JsonLdSerializer.createContextBuildingJsonLdSerializer(generator).serialize(employee);
+            expected.add(generator.getResult());
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            employees.forEach(e -> results.add(executor.submit(() -> serialize(engine, e))));
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
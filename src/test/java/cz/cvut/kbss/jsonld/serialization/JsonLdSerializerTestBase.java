@@ -68,6 +68,7 @@ import java.math.BigInteger;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -82,6 +83,7 @@ import java.util.stream.IntStream;
 import static cz.cvut.kbss.jsonld.environment.IsIsomorphic.isIsomorphic;
 import static cz.cvut.kbss.jsonld.environment.TestUtil.parseAndExpand;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.startsWith;
@@ -518,4 +520,36 @@ public abstract class JsonLdSerializerTestBase {
         sut.serialize(List.of());
         assertEquals("[]", jsonWriter.getResult());
     }
+
+    @Test
+    void serializeStreamSerializesAllItemsOfStream() throws Exception {
+        final List<Employee> employees = IntStream.range(0, 5).mapToObj(i -> Generator.generateEmployee()).toList();
+        sut.serialize(employees.stream());
+
+        final Model expected = new LinkedHashModel();
+        employees.forEach(e -> expected.addAll(toRdf(e)));
+        final Model actual = readJson(jsonWriter.getResult());
+        assertThat(actual, isIsomorphic(expected));
+    }
+
+    @Test
+    void serializeIteratorWritesEachItemBeforePullingNextOne() {
+        final Iterator<User> users = Generator.generateUsers().iterator();
+        final List<Integer> outputLengths = new ArrayList<>();
+        sut.serialize(new Iterator<User>() {
+            @Override
+            public boolean hasNext() {
+                return users.hasNext();
+            }
+
+            @Override
+            public User next() {
+                outputLengths.add(jsonWriter.getResult().length());
+                return users.next();
+            }
+        });
+        for (int i = 1; i < outputLengths.size(); i++) {
+            assertThat(outputLengths.get(i), greaterThan(outputLengths.get(i - 1)));
+        }
+    }
 }
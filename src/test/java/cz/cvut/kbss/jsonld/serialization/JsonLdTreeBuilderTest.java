@@ -114,6 +114,26 @@ public class JsonLdTreeBuilderTest {
         assertTrue(typesNode.getItems().contains(JsonNodeFactory.createStringLiteralNode(Vocabulary.PERSON)));
     }
 
+    @Test
+    void visitTypesPassesCopyOfTypesToCustomTypesSerializer() {
+        final LiteralValueSerializers serializers =
+                new LiteralValueSerializers(new DefaultValueSerializer(new MultilingualStringSerializer()));
+        serializers.registerIdentifierSerializer(new IdentifierSerializer());
+        final TypesSerializer typesSerializer = new TypesSerializer();
+        serializers.registerTypesSerializer((value, ctx) -> {
+            value.add(Vocabulary.USER);
+            return typesSerializer.serialize(value, ctx);
+        });
+        this.sut = new JsonLdTreeBuilder(serializers, DummyJsonLdContext.INSTANCE);
+        final Set<String> types = Collections.singleton(Vocabulary.PERSON);
+        sut.openObject(ctx(null, null, new Person()));
+
+        sut.visitTypes(ctx(JsonLd.TYPE, null, types));
+        final CollectionNode<?> typesNode = (CollectionNode<?>) getNode(sut.getTreeRoot(), JsonLd.TYPE);
+        assertTrue(typesNode.getItems().contains(JsonNodeFactory.createStringLiteralNode(Vocabulary.USER)));
+        assertEquals(Collections.singleton(Vocabulary.PERSON), types);
+    }
+
     @Test
     void visitTypesAddsArrayOfTypesToNode() throws Exception {
         final Employee employee = Generator.generateEmployee();
@@ -0,0 +1,108 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NdJsonLdWriterTest {
+
+    private final StringWriter output = new StringWriter();
+
+    private static JsonGenerator generator(Writer out) {
+        return new BufferedJsonGenerator() {
+            @Override
+            public void flush() throws IOException {
+                out.write(getResult());
+            }
+        };
+    }
+
+    private static JsonObject parse(String line) {
+        return Json.createReader(new StringReader(line)).readObject();
+    }
+
+    private static List<Employee> generateEmployees(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Generator.generateEmployee()).collect(Collectors.toList());
+    }
+
+    @Test
+    void writeAllWritesEachRecordAsSelfContainedDocumentOnSeparateLine() {
+        final List<Employee> employees = generateEmployees(3);
+        final NdJsonLdWriter sut = new NdJsonLdWriter(JsonLdSerializerEngine.contextBuilding().build(), output,
+                                                      NdJsonLdWriterTest::generator);
+
+        sut.writeAll(employees.stream());
+        final String[] lines = output.toString().split("\n");
+        assertEquals(employees.size(), lines.length);
+        for (int i = 0; i < employees.size(); i++) {
+            final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+            JsonLdSerializer.createContextBuildingJsonLdSerializer(expected).serialize(employees.get(i));
+            assertEquals(parse(expected.getResult()), parse(lines[i]));
+            assertThat(parse(lines[i]), hasKey(JsonLd.CONTEXT));
+        }
+    }
+
+    @Test
+    void writeReferencesContextByUrlWhenConfigured() {
+        final String contextUrl = "https://example.org/context.jsonld";
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.CONTEXT_URL, contextUrl);
+        final NdJsonLdWriter sut =
+                new NdJsonLdWriter(JsonLdSerializerEngine.contextBuilding().configuration(config).build(), output,
+                                   NdJsonLdWriterTest::generator);
+
+        sut.write(Generator.generateEmployee());
+        sut.write(Generator.generateOrganization());
+        for (String line : output.toString().split("\n")) {
+            assertEquals(contextUrl, parse(line).getString(JsonLd.CONTEXT));
+        }
+    }
+
+    @Test
+    void writeAllSupportsRecordsSerializedConcurrently() {
+        final List<Employee> employees = generateEmployees(200);
+        final NdJsonLdWriter sut = new NdJsonLdWriter(JsonLdSerializerEngine.compacted().build(), output,
+                                                      NdJsonLdWriterTest::generator);
+
+        sut.writeAll(employees.parallelStream());
+        final Set<String> ids = output.toString().lines().map(line -> parse(line).getString(JsonLd.ID))
+                                      .collect(Collectors.toSet());
+        assertEquals(employees.stream().map(e -> e.getUri().toString()).collect(Collectors.toSet()), ids);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization;
+
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Utf8JsonGeneratorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private final Utf8JsonGenerator sut = new Utf8JsonGenerator(output);
+
+    private String getResult() throws IOException {
+        sut.flush();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writesNestedObjectsAndArraysWithSeparators() throws Exception {
+        sut.writeObjectStart();
+        sut.writeFieldName("a");
+        sut.writeArrayStart();
+        sut.writeNumber(1);
+        sut.writeBoolean(true);
+        sut.writeNull();
+        sut.writeObjectStart();
+        sut.writeObjectEnd();
+        sut.writeArrayStart();
+        sut.writeArrayEnd();
+        sut.writeArrayEnd();
+        sut.writeFieldName("b");
+        sut.writeObjectStart();
+        sut.writeFieldName("c");
+        sut.writeString("d");
+        sut.writeFieldName("e");
+        sut.writeBoolean(false);
+        sut.writeObjectEnd();
+        sut.writeObjectEnd();
+
+        assertEquals("{\"a\":[1,true,null,{},[]],\"b\":{\"c\":\"d\",\"e\":false}}", getResult());
+    }
+
+    @Test
+    void writeStringEscapesSpecialCharacters() throws Exception {
+        sut.writeString("\"quoted\" \\ \b\f\n\r\t\u0000\u001f/");
+        assertEquals("\"\\\"quoted\\\" \\\\ \\b\\f\\n\\r\\t\\u0000\\u001f/\"", getResult());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Příliš žluťoučký kůň", "日本語", "emoji 😀 in text", "ascii"})
+    void writeStringEncodesCharactersInUtf8(String value) throws Exception {
+        sut.writeString(value);
+        assertEquals("\"" + value + "\"", getResult());
+    }
+
+    @Test
+    void writeStringReplacesUnpairedSurrogateWithReplacementCharacter() throws Exception {
+        sut.writeString("a\uD83Db");
+        assertEquals("\"a�b\"", getResult());
+    }
+
+    @Test
+    void writeStringHandlesStringsLongerThanInternalBuffer() throws Exception {
+        final String value = "žluťoučký kůň \n".repeat(2000);
+        sut.writeArrayStart();
+        sut.writeString(value);
+        sut.writeString(value);
+        sut.writeArrayEnd();
+
+        final JsonArray result = Json.createReader(new StringReader(getResult())).readArray();
+        assertEquals(value, result.getString(0));
+        assertEquals(value, result.getString(1));
+    }
+
+    @Test
+    void writeStringEncodesSurrogatePairsSplitAcrossInternalBufferBoundaries() throws Exception {
+        final String value = "a😀".repeat(3000);
+        sut.writeString(value);
+        assertEquals("\"" + value + "\"", getResult());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 7, -7, 10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE})
+    void writeNumberWritesLongValues(long value) throws Exception {
+        sut.writeNumber(value);
+        assertEquals(Long.toString(value), getResult());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.0, -42.0, 0.1, 3.14159, 1e7, 9999999.0, 1e-5, 1.5e300, Double.MIN_VALUE,
+            Double.MAX_VALUE})
+    void writeNumberWritesDoubleValuesAsDoubleToString(double value) throws Exception {
+        sut.writeNumber(value);
+        assertEquals(Double.toString(value), getResult());
+    }
+
+    @Test
+    void writeNumberWritesFloatValuesAsFloatToString() throws Exception {
+        sut.writeArrayStart();
+        sut.writeNumber(0.1f);
+        sut.writeNumber(5f);
+        sut.writeArrayEnd();
+        assertEquals("[0.1,5.0]", getResult());
+    }
+
+    @Test
+    void writeNumberWritesNonFiniteValuesAsStrings() throws Exception {
+        sut.writeArrayStart();
+        sut.writeNumber(Double.NaN);
+        sut.writeNumber(Double.POSITIVE_INFINITY);
+        sut.writeArrayEnd();
+        assertEquals("[\"NaN\",\"Infinity\"]", getResult());
+    }
+
+    @Test
+    void writeNumberWritesBigNumbersAndBoxedValues() throws Exception {
+        sut.writeArrayStart();
+        sut.writeNumber(new BigDecimal("123.456789012345678901234567890"));
+        sut.writeNumber(new BigInteger("123456789012345678901234567890"));
+        sut.writeNumber(Integer.valueOf(5));
+        sut.writeNumber(Short.valueOf((short) -3));
+        sut.writeNumber(Double.valueOf(2.5));
+        sut.writeArrayEnd();
+        assertEquals("[123.456789012345678901234567890,123456789012345678901234567890,5,-3,2.5]", getResult());
+    }
+
+    @Test
+    void writesIntoWritableByteChannel() throws Exception {
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(Channels.newChannel(output));
+        generator.writeArrayStart();
+        generator.writeString("kůň");
+        generator.writeArrayEnd();
+        generator.flush();
+        assertEquals("[\"kůň\"]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesIntoByteBuffer() throws Exception {
+        final ByteBuffer target = ByteBuffer.allocate(64);
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(target);
+        generator.writeObjectStart();
+        generator.writeFieldName("name");
+        generator.writeString("kůň");
+        generator.writeObjectEnd();
+        generator.flush();
+        target.flip();
+        assertEquals("{\"name\":\"kůň\"}", StandardCharsets.UTF_8.decode(target).toString());
+    }
+
+    @Test
+    void flushThrowsIOExceptionWhenByteBufferIsTooSmall() throws Exception {
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(ByteBuffer.allocate(4));
+        generator.writeString("too long for the buffer");
+        assertThrows(IOException.class, generator::flush);
+    }
+
+    @Test
+    void serializationOutputIsSameAsWithOtherGenerator() throws Exception {
+        final Organization organization = Generator.generateOrganization();
+        organization.addEmployee(Generator.generateEmployee());
+        organization.addEmployee(Generator.generateEmployee());
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        JsonLdSerializer.createContextBuildingJsonLdSerializer(expected).serialize(organization);
+
+        JsonLdSerializer.createContextBuildingJsonLdSerializer(sut).serialize(organization);
+        final JsonValue expectedJson = Json.createReader(new StringReader(expected.getResult())).read();
+        assertEquals(expectedJson, Json.createReader(new StringReader(getResult())).read());
+    }
+
+    @Test
+    void writeFieldNameWithEncodedNameWritesSameOutputAsPlainName() throws Exception {
+        sut.writeObjectStart();
+        sut.writeFieldName(EncodedFieldName.of("a\"b"));
+        sut.writeNumber(1);
+        sut.writeFieldName(EncodedFieldName.of("\u010d"));
+        sut.writeObjectStart();
+        sut.writeFieldName(EncodedFieldName.of("c"));
+        sut.writeString("d");
+        sut.writeObjectEnd();
+        sut.writeObjectEnd();
+
+        assertEquals("{\"a\\\"b\":1,\"\u010d\":{\"c\":\"d\"}}", getResult());
+    }
+
+    @Test
+    void writeRawWritesFragmentAsValueWithSeparators() throws Exception {
+        final JsonFragment fragment = new JsonFragment(g -> {
+            g.writeObjectStart();
+            g.writeFieldName("a");
+            g.writeArrayStart();
+            g.writeNumber(1);
+            g.writeNumber(2);
+            g.writeArrayEnd();
+            g.writeObjectEnd();
+        });
+        sut.writeArrayStart();
+        sut.writeRaw(fragment);
+        sut.writeRaw(fragment);
+        sut.writeObjectStart();
+        sut.writeFieldName("b");
+        sut.writeRaw(fragment);
+        sut.writeObjectEnd();
+        sut.writeArrayEnd();
+
+        assertEquals("[{\"a\":[1,2]},{\"a\":[1,2]},{\"b\":{\"a\":[1,2]}}]", getResult());
+    }
+
+    @Test
+    void writeRawHandlesFragmentsLongerThanInternalBuffer() throws Exception {
+        final String value = "x".repeat(20000);
+        final JsonFragment fragment = new JsonFragment(g -> g.writeString(value));
+        sut.writeArrayStart();
+        sut.writeString("a");
+        sut.writeRaw(fragment);
+        sut.writeArrayEnd();
+
+        final JsonArray result = Json.createReader(new StringReader(getResult())).readArray();
+        assertEquals(2, result.size());
+        assertEquals(value, result.getString(1));
+    }
+}
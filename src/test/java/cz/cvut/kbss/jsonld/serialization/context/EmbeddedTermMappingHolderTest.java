@@ -19,8 +19,10 @@ package cz.cvut.kbss.jsonld.serialization.context;
 
 import cz.cvut.kbss.jopa.vocabulary.DC;
 import cz.cvut.kbss.jopa.vocabulary.RDFS;
+import cz.cvut.kbss.jopa.vocabulary.XSD;
 import cz.cvut.kbss.jsonld.exception.AmbiguousTermMappingException;
 import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
@@ -62,4 +64,47 @@ class EmbeddedTermMappingHolderTest {
         assertTrue(result.isPresent());
         assertEquals(term, result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getMappedTermReturnsTermMappedUsingExpandedTermDefinition() {
+        final String term = "created";
+        sut.registerTermMapping(term, SerializerUtils.createTypedTermDefinition(term, DC.Terms.CREATED, XSD.DATE));
+        assertEquals(Optional.of(term), sut.getMappedTerm(DC.Terms.CREATED));
+        assertFalse(sut.getMappedTerm(RDFS.LABEL).isPresent());
+    }
+
+    @Test
+    void getMappedTermReturnsFirstTermInMappingOrderWhenMultipleTermsAreMappedToSameIri() {
+        for (int i = 0; i < 10; i++) {
+            final String term = "name" + i;
+            sut.registerTermMapping(term, JsonNodeFactory.createStringLiteralNode(term, RDFS.LABEL));
+        }
+        final String expected = sut.getMapping().keySet().iterator().next();
+        assertEquals(Optional.of(expected), sut.getMappedTerm(RDFS.LABEL));
+    }
+
+    @Test
+    void getMappedTermUsesTermOverriddenInCurrentHolder() {
+        final EmbeddedTermMappingHolder child = new EmbeddedTermMappingHolder(sut);
+        sut.registerTermMapping("name", JsonNodeFactory.createStringLiteralNode("name", RDFS.LABEL));
+        child.registerTermMapping("name", JsonNodeFactory.createStringLiteralNode("name", DC.Terms.TITLE));
+        assertEquals(Optional.of("name"), child.getMappedTerm(DC.Terms.TITLE));
+        assertFalse(sut.getMappedTerm(DC.Terms.TITLE).isPresent());
+    }
+
+    @Test
+    void getMappedTermSkipsParentTermShadowedByTermInCurrentHolder() {
+        final EmbeddedTermMappingHolder child = new EmbeddedTermMappingHolder(sut);
+        sut.registerTermMapping("name", JsonNodeFactory.createStringLiteralNode("name", RDFS.LABEL));
+        child.registerTermMapping("name", JsonNodeFactory.createStringLiteralNode("name", DC.Terms.TITLE));
+        assertFalse(child.getMappedTerm(RDFS.LABEL).isPresent());
+        assertEquals(Optional.of("name"), sut.getMappedTerm(RDFS.LABEL));
+    }
+
+    @Test
+    void getMappedTermOfWriteThroughHolderReturnsTermMappedInUnderlyingHolder() {
+        final WriteThroughTermMappingHolder child = new WriteThroughTermMappingHolder(sut);
+        child.registerTermMapping("name", JsonNodeFactory.createStringLiteralNode("name", RDFS.LABEL));
+        assertEquals(Optional.of("name"), child.getMappedTerm(RDFS.LABEL));
+    }
+}
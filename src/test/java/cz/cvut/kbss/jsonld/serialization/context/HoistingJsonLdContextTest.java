@@ -0,0 +1,84 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jopa.vocabulary.DC;
+import cz.cvut.kbss.jopa.vocabulary.RDFS;
+import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HoistingJsonLdContextTest {
+
+    private final HoistingJsonLdContext sut = new HoistingJsonLdContext();
+
+    @Test
+    void resolveTermMappingReturnsOriginalTermWhenItIsNotMappedYet() {
+        assertEquals("name", sut.resolveTermMapping("name", RDFS.LABEL));
+        assertEquals(Optional.of(JsonNodeFactory.createStringLiteralNode("name", RDFS.LABEL)),
+                     sut.getTermMapping("name"));
+    }
+
+    @Test
+    void resolveTermMappingGeneratesUniqueTermForConflictingMapping() {
+        sut.resolveTermMapping("name", RDFS.LABEL);
+        assertEquals("name1", sut.resolveTermMapping("name", DC.Terms.TITLE));
+        assertEquals("name2", sut.resolveTermMapping("name", DC.Terms.DESCRIPTION));
+        assertEquals(Optional.of(JsonNodeFactory.createStringLiteralNode("name1", DC.Terms.TITLE)),
+                     sut.getTermMapping("name1"));
+        assertEquals(Optional.of("name1"), sut.getMappedTerm(DC.Terms.TITLE));
+    }
+
+    @Test
+    void resolveTermMappingReturnsPreviouslyGeneratedTermForRepeatedMapping() {
+        sut.resolveTermMapping("name", RDFS.LABEL);
+        sut.resolveTermMapping("name", DC.Terms.TITLE);
+
+        assertEquals("name", sut.resolveTermMapping("name", RDFS.LABEL));
+        assertEquals("name1", sut.resolveTermMapping("name", DC.Terms.TITLE));
+        assertEquals(2, sut.getContextNode().getItems().size());
+    }
+
+    @Test
+    void resolveTermMappingRenamesExpandedTermDefinitionRegisteredUnderGeneratedTerm() {
+        sut.resolveTermMapping("created", DC.Terms.CREATED);
+        final ObjectNode definition = SerializerUtils.createTypedTermDefinition("created", DC.Terms.CREATED, XSD.DATE);
+
+        assertEquals("created1", sut.resolveTermMapping("created", definition));
+        final ObjectNode expected = SerializerUtils.createTypedTermDefinition("created1", DC.Terms.CREATED, XSD.DATE);
+        assertEquals(Optional.of(expected), sut.getTermMapping("created1"));
+        assertEquals("created1", sut.resolveTermMapping("created",
+                                                        SerializerUtils.createTypedTermDefinition("created",
+                                                                                                  DC.Terms.CREATED,
+                                                                                                  XSD.DATE)));
+    }
+
+    @Test
+    void isCurrentEmptyReturnsTrueEvenWhenTermsAreRegistered() {
+        sut.registerTermMapping("id", JsonLd.ID);
+        assertTrue(sut.isCurrentEmpty());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jopa.model.annotations.Namespace;
+import cz.cvut.kbss.jopa.model.annotations.Namespaces;
+import cz.cvut.kbss.jopa.vocabulary.RDFS;
+import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class IriCompactorTest {
+
+    private final MappingJsonLdContext context = new MappingJsonLdContext();
+
+    private final IriCompactor sut = new IriCompactor(context, true, null);
+
+    @Namespaces({@Namespace(prefix = "jb4jsonld", namespace = Vocabulary.DEFAULT_PREFIX),
+                 @Namespace(prefix = "rdfs", namespace = RDFS.NAMESPACE),
+                 @Namespace(prefix = "xsd", namespace = XSD.NAMESPACE)})
+    private static class WithNamespaces {
+    }
+
+    @Namespace(prefix = "jb4jsonld", namespace = "http://example.org/")
+    private static class WithConflictingNamespace {
+    }
+
+    @Test
+    void compactIriUsesRegisteredNamespaceAndAddsPrefixToContext() {
+        sut.registerNamespaces(WithNamespaces.class);
+
+        assertEquals("rdfs:label", sut.compactIri(RDFS.LABEL));
+        assertEquals(Optional.of(JsonNodeFactory.createStringLiteralNode("rdfs", RDFS.NAMESPACE)),
+                     context.getTermMapping("rdfs"));
+        assertFalse(context.hasTermMapping("jb4jsonld"));
+    }
+
+    @Test
+    void compactIriReturnsIriUnchangedWhenNoNamespaceMatches() {
+        sut.registerNamespaces(WithNamespaces.class);
+
+        assertEquals("http://example.org/a", sut.compactIri("http://example.org/a"));
+        assertEquals(JsonLd.ID, sut.compactIri(JsonLd.ID));
+    }
+
+    @Test
+    void compactIriKeepsFirstNamespaceRegisteredForPrefix() {
+        sut.registerNamespaces(WithNamespaces.class);
+        sut.registerNamespaces(WithConflictingNamespace.class);
+
+        assertEquals("http://example.org/a", sut.compactIri("http://example.org/a"));
+        assertEquals("jb4jsonld:a", sut.compactIri(Vocabulary.DEFAULT_PREFIX + "a"));
+    }
+
+    @Test
+    void compactIriDoesNotUsePrefixClashingWithExistingTerm() {
+        context.registerTermMapping("rdfs", RDFS.COMMENT);
+        sut.registerNamespaces(WithNamespaces.class);
+
+        assertEquals(RDFS.LABEL, sut.compactIri(RDFS.LABEL));
+    }
+
+    @Test
+    void compactIriUsesGeneratedPrefixTermWhenContextIsHoisted() {
+        final HoistingJsonLdContext hoistingContext = new HoistingJsonLdContext();
+        hoistingContext.registerTermMapping("rdfs", RDFS.COMMENT);
+        final IriCompactor compactor = new IriCompactor(hoistingContext, true, null);
+        compactor.registerNamespaces(WithNamespaces.class);
+
+        assertEquals("rdfs1:label", compactor.compactIri(RDFS.LABEL));
+    }
+
+    @Test
+    void compactTermDefinitionCompactsIdAndType() {
+        sut.registerNamespaces(WithNamespaces.class);
+        final ObjectNode definition = SerializerUtils.createTypedTermDefinition("created", RDFS.LABEL, XSD.DATE);
+
+        final ObjectNode result = sut.compactTermDefinition(definition);
+        assertEquals(SerializerUtils.createTypedTermDefinition("created", "rdfs:label", "xsd:date"), result);
+    }
+
+    @Test
+    void compactVocabularyIriReturnsIriRelativeToVocabAndRegistersVocabInContext() {
+        final IriCompactor compactor = new IriCompactor(context, false, Vocabulary.DEFAULT_PREFIX);
+
+        assertEquals("Person", compactor.compactVocabularyIri(Vocabulary.DEFAULT_PREFIX + "Person"));
+        assertEquals(RDFS.RESOURCE, compactor.compactVocabularyIri(RDFS.RESOURCE));
+        assertEquals(Optional.of(JsonNodeFactory.createStringLiteralNode(JsonLd.VOCAB, Vocabulary.DEFAULT_PREFIX)),
+                     context.getTermMapping(JsonLd.VOCAB));
+    }
+
+    @Test
+    void compactVocabularyIriDoesNotProduceRelativeIriMatchingDefinedTerm() {
+        final IriCompactor compactor = new IriCompactor(context, false, Vocabulary.DEFAULT_PREFIX);
+        context.registerTermMapping("name", RDFS.LABEL);
+
+        assertEquals(Vocabulary.DEFAULT_PREFIX + "name",
+                     compactor.compactVocabularyIri(Vocabulary.DEFAULT_PREFIX + "name"));
+    }
+
+    @Test
+    void resolveTermReturnsIriWhenTermIsPrefixUsedForCompaction() {
+        sut.registerNamespaces(WithNamespaces.class);
+        assertEquals("rdfs:label", sut.compactIri(RDFS.LABEL));
+
+        assertEquals("rdfs:comment", sut.resolveTerm("rdfs", "rdfs:comment"));
+        assertEquals("xsd", sut.resolveTerm("xsd", "rdfs:comment"));
+    }
+
+    @Test
+    void resolveTermDefinitionRenamesDefinitionToItsIdWhenTermIsPrefixUsedForCompaction() {
+        sut.registerNamespaces(WithNamespaces.class);
+        assertEquals("rdfs:label", sut.compactIri(RDFS.LABEL));
+        final ObjectNode definition =
+                sut.compactTermDefinition(SerializerUtils.createTypedTermDefinition("rdfs", RDFS.COMMENT, XSD.STRING));
+
+        final ObjectNode result = sut.resolveTermDefinition("rdfs", definition);
+        assertEquals("rdfs:comment", result.getName());
+        assertEquals(new ArrayList<>(definition.getItems()), new ArrayList<>(result.getItems()));
+    }
+
+    @Test
+    void resolveTermReturnsIriWhenTermIsVocabularyRelativeIriUsedForCompaction() {
+        final IriCompactor compactor = new IriCompactor(context, false, Vocabulary.DEFAULT_PREFIX);
+        assertEquals("Employee", compactor.compactVocabularyIri(Vocabulary.EMPLOYEE));
+
+        assertEquals(RDFS.LABEL, compactor.resolveTerm("Employee", RDFS.LABEL));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.context;
+
+import cz.cvut.kbss.jopa.vocabulary.DC;
+import cz.cvut.kbss.jopa.vocabulary.RDFS;
+import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.exception.AmbiguousTermMappingException;
+import cz.cvut.kbss.jsonld.environment.Generator;
+import cz.cvut.kbss.jsonld.environment.model.User;
+import cz.cvut.kbss.jsonld.serialization.model.ObjectNode;
+import cz.cvut.kbss.jsonld.serialization.serializer.SerializerUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLdContextCacheTest {
+
+    private final JsonLdContextCache sut = new JsonLdContextCache();
+
+    private final User root = Generator.generateUser();
+
+    private static void registerMapping(JsonLdContext ctx) {
+        ctx.registerTermMapping("id", JsonLd.ID);
+        ctx.registerTermMapping("label", RDFS.LABEL);
+        ctx.registerTermMapping("created", SerializerUtils.createTypedTermDefinition("created", DC.Terms.CREATED,
+                                                                                     XSD.DATE));
+    }
+
+    private ObjectNode buildAndCache(Object root) {
+        final JsonLdContext ctx = sut.createRootContext(root);
+        registerMapping(ctx);
+        final ObjectNode node = ctx.getContextNode();
+        sut.put(root, node);
+        return node;
+    }
+
+    @Test
+    void createRootContextReusesCachedContextNodeWhenMappingIsSame() {
+        final ObjectNode cached = buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(Generator.generateUser());
+        registerMapping(ctx);
+        assertSame(cached, ctx.getContextNode());
+    }
+
+    @Test
+    void createRootContextBuildsNewContextNodeWhenMappingDiffers() {
+        final ObjectNode cached = buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(root);
+        registerMapping(ctx);
+        ctx.registerTermMapping("comment", RDFS.COMMENT);
+        final ObjectNode result = ctx.getContextNode();
+        assertNotSame(cached, result);
+        assertEquals(cached.getItems().size() + 1, result.getItems().size());
+    }
+
+    @Test
+    void createRootContextDoesNotReuseContextCachedForDifferentRootType() {
+        final ObjectNode cached = buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(List.of(root));
+        registerMapping(ctx);
+        assertNotSame(cached, ctx.getContextNode());
+    }
+
+    @Test
+    void createRootContextBuildsNewContextNodeWhenOnlySubsetOfCachedMappingIsRegistered() {
+        final ObjectNode cached = buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(root);
+        ctx.registerTermMapping("id", JsonLd.ID);
+        ctx.registerTermMapping("label", RDFS.LABEL);
+        final ObjectNode result = ctx.getContextNode();
+        assertNotSame(cached, result);
+        assertEquals(2, result.getItems().size());
+    }
+
+    @Test
+    void rootContextDoesNotExposeCachedTermsNotRegisteredInCurrentSerialization() {
+        buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(root);
+        ctx.registerTermMapping("id", JsonLd.ID);
+        assertTrue(ctx.hasTermMapping("id"));
+        assertFalse(ctx.hasTermMapping("label"));
+        assertTrue(ctx.getTermMapping("label").isEmpty());
+        assertTrue(ctx.getMappedTerm(RDFS.LABEL).isEmpty());
+        assertEquals(Optional.of("id"), ctx.getMappedTerm(JsonLd.ID));
+    }
+
+    @Test
+    void rootContextAllowsRedefiningCachedTermNotRegisteredInCurrentSerialization() {
+        buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(root);
+        ctx.registerTermMapping("id", JsonLd.ID);
+        final ObjectNode createdDef = SerializerUtils.createTypedTermDefinition("created", DC.Terms.CREATED,
+                                                                               XSD.DATETIME);
+        ctx.registerTermMapping("created", createdDef);
+        assertEquals(Optional.of(createdDef), ctx.getTermMapping("created"));
+        assertEquals(2, ctx.getContextNode().getItems().size());
+    }
+
+    @Test
+    void rootContextThrowsAmbiguousTermMappingExceptionWhenRedefiningCachedTermRegisteredInCurrentSerialization() {
+        buildAndCache(root);
+
+        final JsonLdContext ctx = sut.createRootContext(root);
+        registerMapping(ctx);
+        final ObjectNode createdDef = SerializerUtils.createTypedTermDefinition("created", DC.Terms.CREATED,
+                                                                               XSD.DATETIME);
+        assertThrows(AmbiguousTermMappingException.class, () -> ctx.registerTermMapping("created", createdDef));
+    }
+
+    @Test
+    void clearRemovesCachedContexts() {
+        final ObjectNode cached = buildAndCache(root);
+
+        sut.clear();
+        final JsonLdContext ctx = sut.createRootContext(root);
+        registerMapping(ctx);
+        assertNotSame(cached, ctx.getContextNode());
+    }
+}
@@ -35,6 +35,15 @@ class MappingJsonLdContextTest {
 
     private final MappingJsonLdContext sut = new MappingJsonLdContext();
 
+    @Test
+    void resolveTermMappingRegistersMappingUnderSpecifiedTerm() {
+        assertEquals("name", sut.resolveTermMapping("name", RDFS.LABEL));
+        assertEquals(Optional.of(JsonNodeFactory.createStringLiteralNode("name", RDFS.LABEL)),
+                     sut.getTermMapping("name"));
+        assertEquals("created", sut.resolveTermMapping("created", SerializerUtils.createTypedTermDefinition(
+                "created", DC.Terms.CREATED, XSD.DATE)));
+    }
+
     @Test
     void getMappedTermReturnsMappedTermWhenSimpleIriBasedMappingIsRegistered() {
         final String term = "types";
@@ -84,6 +93,28 @@ class MappingJsonLdContextTest {
         assertEquals(JsonNodeFactory.createStringLiteralNode(term, DC.Terms.TITLE), result.get());
     }
 
+    @Test
+    void getMappedTermDoesNotReturnParentTermOverriddenInCurrentContext() {
+        final String term = "name";
+        sut.registerTermMapping(term, RDFS.LABEL);
+        final MappingJsonLdContext childSut = new MappingJsonLdContext(sut);
+        childSut.registerTermMapping(term, DC.Terms.TITLE);
+        assertEquals(Optional.of(term), childSut.getMappedTerm(DC.Terms.TITLE));
+        assertFalse(childSut.getMappedTerm(RDFS.LABEL).isPresent());
+    }
+
+    @Test
+    void getMappedTermOfInheritedContextResolvesTermsSameAsParentContext() {
+        sut.registerTermMapping("name", RDFS.LABEL);
+        final MappingJsonLdContext childSut = new MappingJsonLdContext(sut);
+        childSut.registerTermMapping("name", DC.Terms.TITLE);
+        childSut.registerTermMapping("description", DC.Terms.DESCRIPTION);
+        final MappingJsonLdContext grandChildSut = new MappingJsonLdContext(childSut);
+        assertEquals(childSut.getMappedTerm(DC.Terms.TITLE), grandChildSut.getMappedTerm(DC.Terms.TITLE));
+        assertEquals(childSut.getMappedTerm(DC.Terms.DESCRIPTION), grandChildSut.getMappedTerm(DC.Terms.DESCRIPTION));
+        assertFalse(grandChildSut.getMappedTerm(RDFS.LABEL).isPresent());
+    }
+
     @Test
     void hasTermMappingReturnsTrueWhenTermIsMappedInParentContext() {
         sut.registerTermMapping("id", JsonLd.ID);
@@ -0,0 +1,107 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.direct;
+
+import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.common.BeanClassProcessor;
+import cz.cvut.kbss.jsonld.common.FieldAccessor;
+import cz.cvut.kbss.jsonld.common.FieldAccessorFactory;
+import cz.cvut.kbss.jsonld.common.JsonLdPropertyAccessResolver;
+import cz.cvut.kbss.jsonld.common.MethodHandleFieldAccessorFactory;
+import cz.cvut.kbss.jsonld.environment.model.Employee;
+import cz.cvut.kbss.jsonld.environment.model.ObjectWithNumericAttributes;
+import cz.cvut.kbss.jsonld.environment.model.Organization;
+import cz.cvut.kbss.jsonld.environment.model.OwlPropertyType;
+import cz.cvut.kbss.jsonld.environment.model.Person;
+import cz.cvut.kbss.jsonld.serialization.JsonNodeFactory;
+import cz.cvut.kbss.jsonld.serialization.serializer.LiteralValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.serializer.ValueSerializers;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.DefaultValueSerializer;
+import cz.cvut.kbss.jsonld.serialization.serializer.compact.MultilingualStringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DirectObjectWriterTest {
+
+    @Test
+    void forClassReturnsCachedWriterForClassWithLiteralAttributesOnly() {
+        assertTrue(DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).isPresent());
+        assertSame(DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get(),
+                   DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get());
+    }
+
+    @Test
+    void forClassReturnsWriterForClassWithObjectProperties() {
+        assertTrue(DirectObjectWriter.forClass(Organization.class).isPresent());
+    }
+
+    @Test
+    void forClassReturnsEmptyOptionalForClassWithPropertiesField() {
+        assertFalse(DirectObjectWriter.forClass(Person.class).isPresent());
+        assertFalse(DirectObjectWriter.forClass(Employee.class).isPresent());
+    }
+
+    @Test
+    void forClassRebuildsWriterWhenFieldAccessorFactoryChanges() {
+        final DirectObjectWriter original = DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get();
+        final FieldAccessorFactory originalFactory = BeanClassProcessor.getFieldAccessorFactory();
+        try {
+            BeanClassProcessor.setFieldAccessorFactory(new MethodHandleFieldAccessorFactory());
+            final DirectObjectWriter result = DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get();
+            assertNotSame(original, result);
+            assertSame(result, DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get());
+        } finally {
+            BeanClassProcessor.setFieldAccessorFactory(originalFactory);
+        }
+    }
+
+    @Test
+    void forClassRebuildsWriterWhenPropertyAccessResolverChanges() {
+        final DirectObjectWriter original = DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get();
+        BeanAnnotationProcessor.setPropertyAccessResolver(new JsonLdPropertyAccessResolver());
+        assertNotSame(original, DirectObjectWriter.forClass(ObjectWithNumericAttributes.class).get());
+    }
+
+    @Test
+    void forClassReturnsEmptyOptionalForNonEntityTypes() {
+        assertFalse(DirectObjectWriter.forClass(List.class).isPresent());
+        assertFalse(DirectObjectWriter.forClass(URI.class).isPresent());
+        assertFalse(DirectObjectWriter.forClass(OwlPropertyType.class).isPresent());
+        assertFalse(DirectObjectWriter.forClass(String.class).isPresent());
+    }
+
+    @Test
+    void stringAttributeWriterIsApplicableOnlyToBuiltInSerializersWithoutStringSerializer() {
+        final StringAttributeWriter sut = new StringAttributeWriter("name", mock(FieldAccessor.class));
+        final LiteralValueSerializers serializers =
+                new LiteralValueSerializers(new DefaultValueSerializer(new MultilingualStringSerializer()));
+        assertTrue(sut.isApplicable(serializers));
+        assertFalse(sut.isApplicable(mock(ValueSerializers.class)));
+
+        serializers.registerSerializer(String.class, (value, ctx) -> JsonNodeFactory.createLiteralNode(value));
+        assertFalse(sut.isApplicable(serializers));
+    }
+}
@@ -19,12 +19,13 @@ package cz.cvut.kbss.jsonld.serialization.model;
 
 import cz.cvut.kbss.jsonld.serialization.JsonGenerator;
 import org.junit.jupiter.api.BeforeEach;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 public abstract class AbstractNodeTest {
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     JsonGenerator serializerMock;
 
     @BeforeEach
@@ -0,0 +1,67 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.model;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.serialization.JsonFragment;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+class CachedObjectNodeTest extends AbstractNodeTest {
+
+    @Test
+    void constructorCopiesItemsOfSpecifiedNode() {
+        final ObjectNode original = generateNode();
+        final CachedObjectNode sut = new CachedObjectNode(original);
+
+        assertEquals(original.getName(), sut.getName());
+        assertIterableEquals(original.getItems(), sut.getItems());
+    }
+
+    @Test
+    void writeOutputsValueAsRawFragment() throws Exception {
+        final CachedObjectNode sut = new CachedObjectNode(generateNode());
+        sut.write(serializerMock);
+
+        verify(serializerMock).writeFieldName(JsonLd.CONTEXT);
+        verify(serializerMock).writeRaw(any(JsonFragment.class));
+    }
+
+    @Test
+    void writeProducesSameOutputAsOriginalNodeWhenGeneratorDoesNotSupportRawOutput() {
+        final ObjectNode original = generateNode();
+        final BufferedJsonGenerator expected = new BufferedJsonGenerator();
+        original.write(expected);
+
+        final BufferedJsonGenerator actual = new BufferedJsonGenerator();
+        new CachedObjectNode(original).write(actual);
+        assertEquals(expected.getResult(), actual.getResult());
+    }
+
+    private static ObjectNode generateNode() {
+        final ObjectNode node = new ObjectNode(JsonLd.CONTEXT);
+        node.addItem(new StringLiteralNode("name", "http://xmlns.com/foaf/0.1/name"));
+        node.addItem(new StringLiteralNode("mbox", "http://xmlns.com/foaf/0.1/mbox"));
+        return node;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.serializer.compact;
+
+import cz.cvut.kbss.jsonld.JsonLd;
+import cz.cvut.kbss.jsonld.common.BeanAnnotationProcessor;
+import cz.cvut.kbss.jsonld.environment.Vocabulary;
+import cz.cvut.kbss.jsonld.environment.model.User;
+import cz.cvut.kbss.jsonld.serialization.context.DummyJsonLdContext;
+import cz.cvut.kbss.jsonld.serialization.model.CachedSetNode;
+import cz.cvut.kbss.jsonld.serialization.model.JsonNode;
+import cz.cvut.kbss.jsonld.serialization.model.SetNode;
+import cz.cvut.kbss.jsonld.serialization.model.StringLiteralNode;
+import cz.cvut.kbss.jsonld.serialization.traversal.SerializationContext;
+import cz.cvut.kbss.jsonld.serialization.util.BufferedJsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypesSerializerTest {
+
+    private final TypesSerializer sut = new TypesSerializer();
+
+    @Test
+    void serializeReusesCachedNodeForTypesOfInstanceWithoutTypesField() {
+        final Set<String> types = Set.of(Vocabulary.PERSON, Vocabulary.USER);
+        final JsonNode first = sut.serialize(types, context(null, types));
+        final JsonNode second = sut.serialize(Set.of(Vocabulary.PERSON, Vocabulary.USER), context(null, types));
+
+        assertThat(first, instanceOf(CachedSetNode.class));
+        assertSame(first, second);
+        final BufferedJsonGenerator generator = new BufferedJsonGenerator();
+        generator.writeObjectStart();
+        first.write(generator);
+        generator.writeObjectEnd();
+        assertEquals(expectedOutput(types), generator.getResult());
+    }
+
+    private static String expectedOutput(Set<String> types) {
+        final SetNode node = new SetNode(JsonLd.TYPE);
+        types.forEach(t -> node.addItem(new StringLiteralNode(t)));
+        final BufferedJsonGenerator generator = new BufferedJsonGenerator();
+        generator.writeObjectStart();
+        node.write(generator);
+        generator.writeObjectEnd();
+        return generator.getResult();
+    }
+
+    @Test
+    void serializeCreatesNewNodeForTypesOfInstanceWithTypesField() {
+        final Field typesField = BeanAnnotationProcessor.getTypesField(User.class).orElseThrow();
+        final Set<String> types = Set.of(Vocabulary.PERSON, Vocabulary.USER, Vocabulary.ORGANIZATION);
+        final JsonNode first = sut.serialize(types, context(typesField, types));
+        final JsonNode second = sut.serialize(types, context(typesField, types));
+
+        assertThat(first, not(instanceOf(CachedSetNode.class)));
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    private static SerializationContext<Set<String>> context(Field field, Set<String> types) {
+        return new SerializationContext<>(JsonLd.TYPE, field, types, DummyJsonLdContext.INSTANCE);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JB4JSON-LD
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jsonld.serialization.serializer.compact.datetime;
+
+import cz.cvut.kbss.jsonld.ConfigParam;
+import cz.cvut.kbss.jsonld.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IsoDateTimeSerializerTest {
+
+    private final IsoDateTimeSerializer sut = new IsoDateTimeSerializer();
+
+    @Test
+    void configureReusesFormatterWhenConfiguredPatternDoesNotChange() {
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.DATE_TIME_FORMAT, "yyyy-MM-dd HH:mm");
+        sut.configure(config);
+        final DateTimeFormatter formatter = sut.formatter;
+
+        sut.configure(new Configuration(config));
+        assertSame(formatter, sut.formatter);
+        config.set(ConfigParam.DATE_TIME_FORMAT, "yyyy-MM-dd");
+        sut.configure(config);
+        assertNotSame(formatter, sut.formatter);
+    }
+
+    @Test
+    void formatUsesConfiguredPattern() {
+        final OffsetDateTime value = OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.UTC);
+        assertEquals("2024-03-01T10:15:30Z", sut.format(value));
+        final Configuration config = new Configuration();
+        config.set(ConfigParam.DATE_TIME_FORMAT, "yyyy-MM-dd HH:mm");
+        sut.configure(config);
+        assertEquals("2024-03-01 10:15", sut.format(value));
+    }
+}
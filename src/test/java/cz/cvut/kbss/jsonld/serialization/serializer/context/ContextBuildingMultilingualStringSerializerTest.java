@@ -35,6 +35,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -45,7 +46,7 @@ class ContextBuildingMultilingualStringSerializerTest {
     @Test
     void serializeRegistersTermMappingWithLanguageTypeInJsonLdContext() throws Exception {
         final MultilingualString value = MultilingualString.create("test", "en");
-        final JsonLdContext jsonLdCtx = mock(JsonLdContext.class);
+        final JsonLdContext jsonLdCtx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         sut.serialize(value, new SerializationContext<>(RDFS.LABEL, ObjectWithMultilingualString.getLabelField(), value,
                                                         jsonLdCtx));
         final ArgumentCaptor<ObjectNode> captor = ArgumentCaptor.forClass(ObjectNode.class);
@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -53,7 +54,7 @@ class ContextBuildingObjectPropertyValueSerializerTest {
 
     @Test
     void serializeRegistersTermIriMappingInJsonLdContext() throws Exception {
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final Organization value = Generator.generateOrganization();
         final SerializationContext<Organization> serializationCtx =
                 new SerializationContext<>(Vocabulary.IS_MEMBER_OF, Employee.getEmployerField(), value, ctx);
@@ -67,7 +68,7 @@ class ContextBuildingObjectPropertyValueSerializerTest {
         final Configuration config = new Configuration();
         config.set(ConfigParam.SERIALIZE_INDIVIDUALS_USING_EXPANDED_DEFINITION, Boolean.TRUE.toString());
         sut.configure(config);
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final URI value = Generator.generateUri();
         final SerializationContext<URI> serializationCtx =
                 new SerializationContext<>(Vocabulary.ORIGIN, Organization.class.getDeclaredField("country"), value,
@@ -84,7 +85,7 @@ class ContextBuildingObjectPropertyValueSerializerTest {
         final Configuration config = new Configuration();
         config.set(ConfigParam.SERIALIZE_INDIVIDUALS_USING_EXPANDED_DEFINITION, Boolean.TRUE.toString());
         sut.configure(config);
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final Organization value = Generator.generateOrganization();
         final SerializationContext<Organization> serializationCtx =
                 new SerializationContext<>(Vocabulary.IS_MEMBER_OF, Employee.getEmployerField(), value, ctx);
@@ -98,7 +99,7 @@ class ContextBuildingObjectPropertyValueSerializerTest {
         final Configuration config = new Configuration();
         config.set(ConfigParam.SERIALIZE_INDIVIDUALS_USING_EXPANDED_DEFINITION, Boolean.TRUE.toString());
         sut.configure(config);
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final Set<URI> value = new HashSet<>(Arrays.asList(Generator.generateUri(), Generator.generateUri()));
         final SerializationContext<Set<URI>> serializationCtx =
                 new SerializationContext<>(Vocabulary.HAS_MEMBER, Organization.getEmployeesField(), value, ctx);
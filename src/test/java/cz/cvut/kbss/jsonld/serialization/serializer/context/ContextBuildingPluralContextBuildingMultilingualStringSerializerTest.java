@@ -39,6 +39,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -52,7 +53,7 @@ class ContextBuildingPluralContextBuildingMultilingualStringSerializerTest {
         final Set<MultilingualString> value = new HashSet<>(Collections.singletonList(
                 MultilingualString.create("test", "en")
         ));
-        final JsonLdContext jsonLdCtx = mock(JsonLdContext.class);
+        final JsonLdContext jsonLdCtx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         sut.serialize(value,
                       new SerializationContext<>(SKOS.ALT_LABEL, ObjectWithPluralMultilingualString.getAltLabelField(),
                                                  value, jsonLdCtx));
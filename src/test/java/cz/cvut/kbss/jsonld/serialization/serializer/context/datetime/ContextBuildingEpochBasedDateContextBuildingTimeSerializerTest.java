@@ -27,6 +27,7 @@ import java.lang.reflect.Field;
 import java.time.OffsetDateTime;
 import java.time.temporal.TemporalAccessor;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -36,7 +37,7 @@ class ContextBuildingEpochBasedDateContextBuildingTimeSerializerTest {
 
     @Test
     void serializeRegistersTermIriInJsonLdContext() throws Exception {
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final OffsetDateTime value = OffsetDateTime.now();
         final Field field = TemporalEntity.class.getDeclaredField("offsetDateTime");
         final SerializationContext<TemporalAccessor> serializationContext =
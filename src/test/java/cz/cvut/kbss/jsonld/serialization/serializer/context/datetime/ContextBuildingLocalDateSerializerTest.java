@@ -40,6 +40,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -49,7 +50,7 @@ class ContextBuildingLocalDateSerializerTest {
 
     @Test
     void serializeRegistersTermDefinitionWithIdAndTypeInJsonLdContext() throws Exception {
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final LocalDate value = LocalDate.now();
         final Field field = TemporalEntity.class.getDeclaredField("localDate");
         final SerializationContext<TemporalAccessor> serializationContext =
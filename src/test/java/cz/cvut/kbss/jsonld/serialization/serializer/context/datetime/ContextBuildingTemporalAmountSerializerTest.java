@@ -40,6 +40,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -49,7 +50,7 @@ class ContextBuildingTemporalAmountSerializerTest {
 
     @Test
     void serializeRegistersTermDefinitionWithIdAndTypeInJsonLdContext() throws Exception {
-        final JsonLdContext ctx = mock(JsonLdContext.class);
+        final JsonLdContext ctx = mock(JsonLdContext.class, CALLS_REAL_METHODS);
         final Duration value = Duration.ofSeconds(Generator.randomInt(10000));
         final Field field = TemporalEntity.class.getDeclaredField("duration");
         final String property = Generator.generateUri().toString();
@@ -92,6 +92,22 @@ class InstanceTypeResolverTest {
         assertTrue(types.contains(Vocabulary.PERSON));
     }
 
+    @Test
+    void resolveTypesReturnsSameSetForInstancesOfClassWithoutTypesField() {
+        final Set<String> first = resolver.resolveTypes(Generator.generatePerson());
+        assertSame(first, resolver.resolveTypes(Generator.generatePerson()));
+    }
+
+    @Test
+    void resolveTypesDoesNotAddTypesFieldValueToTypesOfClass() {
+        final User withTypes = Generator.generateUser();
+        withTypes.setTypes(Collections.singleton(Vocabulary.ORGANIZATION));
+        assertTrue(resolver.resolveTypes(withTypes).contains(Vocabulary.ORGANIZATION));
+
+        final User withoutTypes = Generator.generateUser();
+        assertFalse(resolver.resolveTypes(withoutTypes).contains(Vocabulary.ORGANIZATION));
+    }
+
     @SuppressWarnings("unused")
     @OWLClass(iri = Vocabulary.PERSON)
     private static class UriTypes {